@@ -195,6 +195,7 @@ public class Enunciate implements Runnable {
   public Enunciate loadConfiguration(Reader reader) {
     try {
       this.configuration.getSource().load(reader);
+      this.configuration.refresh();
     }
     catch (ConfigurationException e) {
       throw new EnunciateException(e);
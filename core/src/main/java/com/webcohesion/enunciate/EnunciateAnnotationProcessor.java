@@ -4,6 +4,7 @@ import com.webcohesion.enunciate.javac.decorations.DecoratedProcessingEnvironmen
 import com.webcohesion.enunciate.javac.decorations.DecoratedRoundEnvironment;
 import com.webcohesion.enunciate.javac.decorations.ElementDecorator;
 import com.webcohesion.enunciate.module.EnunciateModule;
+import com.webcohesion.enunciate.util.SymbolCompleter;
 import org.jgrapht.DirectedGraph;
 import org.jgrapht.graph.DefaultEdge;
 import rx.Observable;
@@ -83,6 +84,9 @@ public class EnunciateAnnotationProcessor extends AbstractProcessor {
       this.context.setLocalApiElements(localApiElements);
       this.context.setApiElements(apiElements);
 
+      //complete the symbols of the api up front so the modules don't trigger symbol completion as they build their models.
+      new SymbolCompleter(this.context.getProcessingEnvironment(), this.enunciate.getLogger()).complete(apiElements);
+
       //compose the engine.
       Map<String, ? extends EnunciateModule> enabledModules = this.enunciate.findEnabledModules();
       DirectedGraph<String, DefaultEdge> graph = this.enunciate.buildModuleGraph(enabledModules);
@@ -4,6 +4,8 @@ import com.webcohesion.enunciate.facets.FacetFilter;
 import com.webcohesion.enunciate.javac.decorations.element.DecoratedPackageElement;
 import org.apache.commons.configuration.HierarchicalConfiguration;
 import org.apache.commons.configuration.XMLConfiguration;
+import org.apache.commons.configuration.event.ConfigurationEvent;
+import org.apache.commons.configuration.event.ConfigurationListener;
 
 import java.io.File;
 import java.io.FileReader;
@@ -26,8 +28,9 @@ public class EnunciateConfiguration {
   private final XMLConfiguration source;
   private File base;
   private File configFile;
-  private FacetFilter facetFilter;
-  private Map<String, String> annotationStyles;
+  private volatile Settings settings;
+  private volatile FacetFilter facetFilter;
+  private volatile Map<String, String> annotationStyles;
 
   public EnunciateConfiguration() {
     this(createDefaultConfigurationSource());
@@ -41,6 +44,24 @@ public class EnunciateConfiguration {
 
   public EnunciateConfiguration(XMLConfiguration source) {
     this.source = source;
+    this.source.addConfigurationListener(new ConfigurationListener() {
+      @Override
+      public void configurationChanged(ConfigurationEvent event) {
+        if (!event.isBeforeUpdate()) {
+          refresh();
+        }
+      }
+    });
+  }
+
+  /**
+   * Discard the settings that have been read from the source, so they're read again. The settings are read once (instead of evaluating
+   * the configuration expressions on every call), so this must be called if the source is (re)loaded.
+   */
+  public void refresh() {
+    this.settings = null;
+    this.facetFilter = null;
+    this.annotationStyles = null;
   }
 
   public void setBase(File base) {
@@ -244,34 +265,28 @@ public class EnunciateConfiguration {
   }
 
   public FacetFilter getFacetFilter() {
-    if (this.facetFilter == null) {
-      this.facetFilter = new FacetFilter(getFacetIncludes(), getFacetExcludes());
+    FacetFilter facetFilter = this.facetFilter;
+    if (facetFilter == null) {
+      facetFilter = new FacetFilter(getFacetIncludes(), getFacetExcludes());
+      this.facetFilter = facetFilter;
     }
 
-    return this.facetFilter;
+    return facetFilter;
   }
 
   public Set<String> getFacetIncludes() {
-    List<Object> includes = this.source.getList("facets.include[@name]");
-    Set<String> facetIncludes = new TreeSet<String>();
-    for (Object include : includes) {
-      facetIncludes.add(String.valueOf(include));
-    }
-    return facetIncludes;
+    return getSettings().facetIncludes;
   }
 
   public Set<String> getFacetExcludes() {
-    List<Object> excludes = this.source.getList("facets.exclude[@name]");
-    Set<String> facetExcludes = new TreeSet<String>();
-    for (Object exclude : excludes) {
-      facetExcludes.add(String.valueOf(exclude));
-    }
-    return facetExcludes;
+    return getSettings().facetExcludes;
   }
 
   public Map<String, String> getAnnotationStyles() {
-    if (this.annotationStyles == null) {
-      this.annotationStyles = loadAnnotationStyles();
+    Map<String, String> annotationStyles = this.annotationStyles;
+    if (annotationStyles == null) {
+      annotationStyles = loadAnnotationStyles();
+      this.annotationStyles = annotationStyles;
     }
 
     return annotationStyles;
@@ -293,21 +308,47 @@ public class EnunciateConfiguration {
   }
 
   public Set<String> getApiIncludeClasses() {
-    List<Object> includes = this.source.getList("api-classes.include[@pattern]");
-    Set<String> classIncludes = new TreeSet<String>();
-    for (Object include : includes) {
-      classIncludes.add(String.valueOf(include));
-    }
-    return classIncludes;
+    return getSettings().apiIncludeClasses;
   }
 
   public Set<String> getApiExcludeClasses() {
-    List<Object> excludes = this.source.getList("api-classes.exclude[@pattern]");
-    Set<String> classExcludes = new TreeSet<String>();
-    for (Object exclude : excludes) {
-      classExcludes.add(String.valueOf(exclude));
+    return getSettings().apiExcludeClasses;
+  }
+
+  private Settings getSettings() {
+    Settings settings = this.settings;
+    if (settings == null) {
+      settings = new Settings(this.source);
+      this.settings = settings;
+    }
+    return settings;
+  }
+
+  /**
+   * The (immutable) settings that are read from the source once, instead of evaluating the configuration expressions on every call.
+   */
+  private static final class Settings {
+
+    private final Set<String> facetIncludes;
+    private final Set<String> facetExcludes;
+    private final Set<String> apiIncludeClasses;
+    private final Set<String> apiExcludeClasses;
+
+    private Settings(HierarchicalConfiguration source) {
+      this.facetIncludes = readSet(source, "facets.include[@name]");
+      this.facetExcludes = readSet(source, "facets.exclude[@name]");
+      this.apiIncludeClasses = readSet(source, "api-classes.include[@pattern]");
+      this.apiExcludeClasses = readSet(source, "api-classes.exclude[@pattern]");
+    }
+
+    private static Set<String> readSet(HierarchicalConfiguration source, String key) {
+      List<Object> values = source.getList(key);
+      Set<String> set = new TreeSet<String>();
+      for (Object value : values) {
+        set.add(String.valueOf(value));
+      }
+      return Collections.unmodifiableSet(set);
     }
-    return classExcludes;
   }
 
   public static final class License {
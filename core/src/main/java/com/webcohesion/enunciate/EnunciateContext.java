@@ -3,10 +3,8 @@ package com.webcohesion.enunciate;
 import com.webcohesion.enunciate.api.ApiRegistry;
 import com.webcohesion.enunciate.javac.decorations.DecoratedProcessingEnvironment;
 import com.webcohesion.enunciate.javac.decorations.DecoratedRoundEnvironment;
-import com.webcohesion.enunciate.util.AntPatternInclude;
-import com.webcohesion.enunciate.util.AntPatternMatcher;
-import com.webcohesion.enunciate.util.StringEqualsInclude;
-import org.reflections.util.FilterBuilder;
+import com.webcohesion.enunciate.util.AntPatternSet;
+import com.webcohesion.enunciate.util.PathTrie;
 
 import javax.lang.model.element.Element;
 import javax.lang.model.element.PackageElement;
@@ -30,16 +28,17 @@ public class EnunciateContext {
   private Set<Element> apiElements;
   private Set<Element> localApiElements;
   private DecoratedRoundEnvironment roundEnvironment;
-  private final FilterBuilder includeFilter;
-  private final FilterBuilder excludeFilter;
+  private final PathTrie pathTrie = new PathTrie();
+  private final AntPatternSet includeFilter;
+  private final AntPatternSet excludeFilter;
 
   public EnunciateContext(DecoratedProcessingEnvironment processingEnvironment, EnunciateLogger logger, ApiRegistry registry, EnunciateConfiguration configuration, Set<String> includes, Set<String> excludes) {
     this.processingEnvironment = processingEnvironment;
     this.logger = logger;
     this.apiRegistry = registry;
     this.configuration = configuration;
-    this.includeFilter = buildFilter(includes);
-    this.excludeFilter = buildFilter(excludes);
+    this.includeFilter = AntPatternSet.compile(includes);
+    this.excludeFilter = AntPatternSet.compile(excludes);
   }
 
   public DecoratedProcessingEnvironment getProcessingEnvironment() {
@@ -70,6 +69,15 @@ public class EnunciateContext {
     this.localApiElements = apiElements;
   }
 
+  /**
+   * The trie of the path templates of the REST endpoints, shared by all the modules that model endpoints.
+   *
+   * @return The trie of the path templates.
+   */
+  public PathTrie getPathTrie() {
+    return pathTrie;
+  }
+
   public <P> P getProperty(String key, Class<P> type) {
     return type.cast(getProperty(key));
   }
@@ -103,50 +111,26 @@ public class EnunciateContext {
       return false;
     }
 
-    String className = null;
-    if (next instanceof TypeElement) {
-      className = ((TypeElement) next).getQualifiedName().toString();
-    }
-    else {
-      PackageElement pckg = this.processingEnvironment.getElementUtils().getPackageOf(next);
-      if (pckg != null) {
-        className = pckg.getQualifiedName().toString();
-      }
-    }
+    String className = findClassName(next);
 
-    return this.includeFilter.apply(className);
+    return this.includeFilter.matches(className);
   }
 
   public boolean isExcluded(Element next) {
-    String className = null;
-    if (next instanceof TypeElement) {
-      className = ((TypeElement) next).getQualifiedName().toString();
-    }
-    else {
-      PackageElement pckg = this.processingEnvironment.getElementUtils().getPackageOf(next);
-      if (pckg != null) {
-        className = pckg.getQualifiedName().toString();
-      }
-    }
+    String className = findClassName(next);
 
-    boolean filteredIn = this.includeFilter != null && this.includeFilter.apply(className);
-    boolean filteredOut = this.excludeFilter != null && this.excludeFilter.apply(className);
+    boolean filteredIn = this.includeFilter != null && this.includeFilter.matches(className);
+    boolean filteredOut = this.excludeFilter != null && this.excludeFilter.matches(className);
     return !filteredIn && filteredOut;
   }
 
-  private FilterBuilder buildFilter(Set<String> includes) {
-    FilterBuilder includeFilter = null;
-    if (includes != null && !includes.isEmpty()) {
-      includeFilter = new FilterBuilder();
-      for (String include : includes) {
-        if (AntPatternMatcher.isValidPattern(include)) {
-          includeFilter = includeFilter.add(new AntPatternInclude(include));
-        }
-        else {
-          includeFilter = includeFilter.add(new StringEqualsInclude(include));
-        }
-      }
+  private String findClassName(Element next) {
+    if (next instanceof TypeElement) {
+      return this.processingEnvironment.getQualifiedName(next);
+    }
+    else {
+      PackageElement pckg = this.processingEnvironment.getElementUtils().getPackageOf(next);
+      return pckg == null ? null : this.processingEnvironment.getQualifiedName(pckg);
     }
-    return includeFilter;
   }
 }
@@ -5,12 +5,10 @@ import com.webcohesion.enunciate.module.TypeFilteringModule;
 import com.webcohesion.enunciate.util.*;
 import org.reflections.adapters.MetadataAdapter;
 import org.reflections.scanners.AbstractScanner;
-import org.reflections.util.FilterBuilder;
 import org.reflections.vfs.Vfs;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 
 /**
  * @author Ryan Heaton
@@ -18,8 +16,8 @@ import java.util.Set;
 @SuppressWarnings ( "unchecked" )
 public class EnunciateReflectionsScanner extends AbstractScanner {
 
-  private final FilterBuilder includeFilter;
-  private final FilterBuilder excludeFilter;
+  private final AntPatternSet includeFilter;
+  private final AntPatternSet excludeFilter;
   private final List<TypeFilteringModule> filteringModules;
 
   public EnunciateReflectionsScanner(Enunciate enunciate, List<EnunciateModule> modules) {
@@ -30,36 +28,9 @@ public class EnunciateReflectionsScanner extends AbstractScanner {
       }
     }
 
-    FilterBuilder includeFilter = null;
-    Set<String> includes = enunciate.getIncludePatterns();
-    if (includes != null && !includes.isEmpty()) {
-      includeFilter = new FilterBuilder();
-      for (String include : includes) {
-        if (AntPatternMatcher.isValidPattern(include)) {
-          includeFilter = includeFilter.add(new AntPatternInclude(include));
-        }
-        else {
-          includeFilter = includeFilter.add(new StringEqualsInclude(include));
-        }
-      }
-    }
-
-    FilterBuilder excludeFilter = null;
-    Set<String> excludes = enunciate.getExcludePatterns();
-    if (excludes != null && !excludes.isEmpty()) {
-      excludeFilter = new FilterBuilder();
-      for (String exclude : excludes) {
-        if (AntPatternMatcher.isValidPattern(exclude)) {
-          excludeFilter = excludeFilter.add(new AntPatternInclude(exclude));
-        }
-        else {
-          excludeFilter = excludeFilter.add(new StringEqualsInclude(exclude));
-        }
-      }
-    }
-
-    this.includeFilter = includeFilter;
-    this.excludeFilter = excludeFilter;
+    //the patterns are compiled once; they're matched against every class on the classpath.
+    this.includeFilter = AntPatternSet.compile(enunciate.getIncludePatterns());
+    this.excludeFilter = AntPatternSet.compile(enunciate.getExcludePatterns());
   }
 
   public boolean acceptsInput(String file) {
@@ -91,13 +62,13 @@ public class EnunciateReflectionsScanner extends AbstractScanner {
 
     String className = metadata.getClassName(type);
 
-    boolean filteredIn = this.includeFilter != null && this.includeFilter.apply(className);
+    boolean filteredIn = this.includeFilter != null && this.includeFilter.matches(className);
     if (filteredIn) {
       //if it's explicitly included, add it.
       getStore().put(className, className);
     }
     else {
-      boolean filteredOut = this.excludeFilter != null && this.excludeFilter.apply(className);
+      boolean filteredOut = this.excludeFilter != null && this.excludeFilter.matches(className);
       if (accepted && !filteredOut) {
         //else if it's accepted and not explicitly excluded, add it.
         getStore().put(className, className);
@@ -1,6 +1,7 @@
 package com.webcohesion.enunciate.api;
 
 import com.webcohesion.enunciate.api.datatype.Syntax;
+import com.webcohesion.enunciate.api.resources.MediaTypeDescriptorCache;
 import com.webcohesion.enunciate.api.resources.ResourceApi;
 import com.webcohesion.enunciate.api.services.ServiceApi;
 
@@ -18,6 +19,7 @@ public class ApiRegistry {
   private final List<ResourceApi> resourceApis = new ArrayList<ResourceApi>();
   private final Set<Syntax> syntaxes = new TreeSet<Syntax>();
   private InterfaceDescriptionFile swaggerUI;
+  private final MediaTypeDescriptorCache mediaTypeDescriptorCache = new MediaTypeDescriptorCache();
 
   public List<ServiceApi> getServiceApis() {
     return serviceApis;
@@ -31,6 +33,10 @@ public class ApiRegistry {
     return syntaxes;
   }
 
+  public MediaTypeDescriptorCache getMediaTypeDescriptorCache() {
+    return mediaTypeDescriptorCache;
+  }
+
   public InterfaceDescriptionFile getSwaggerUI() {
     return swaggerUI;
   }
@@ -0,0 +1,51 @@
+package com.webcohesion.enunciate.api.resources;
+
+import com.webcohesion.enunciate.api.datatype.Syntax;
+import com.webcohesion.enunciate.javac.decorations.type.DecoratedTypeMirror;
+import com.webcohesion.enunciate.javac.decorations.type.TypeMirrorUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The media type descriptors of the REST APIs, memoized by syntax, media type and (canonical) type. The same media types and entity
+ * types are typically shared by many resource methods and status codes, so each syntax only resolves the data type of each pair once.
+ * Only the descriptors that are found are memoized; a syntax that doesn't support a media type or type is asked again.
+ *
+ * @author Ryan Heaton
+ */
+public class MediaTypeDescriptorCache {
+
+  private final Map<String, MediaTypeDescriptor> descriptors = new ConcurrentHashMap<String, MediaTypeDescriptor>();
+
+  /**
+   * Find the media type descriptor for the given media type and type in the given syntax.
+   *
+   * @param syntax The syntax.
+   * @param mediaType The media type.
+   * @param type The type.
+   * @return The (immutable) media type descriptor, or null if the syntax doesn't support the media type and type.
+   */
+  public MediaTypeDescriptor findMediaTypeDescriptor(Syntax syntax, String mediaType, DecoratedTypeMirror type) {
+    if (mediaType == null) {
+      return syntax.findMediaTypeDescriptor(null, type);
+    }
+
+    mediaType = mediaType.trim();
+    String typeKey = TypeMirrorUtils.getCanonicalKey(type);
+    if (typeKey == null) {
+      //not keyed on its own (e.g. it refers to type variables); can't be memoized.
+      return syntax.findMediaTypeDescriptor(mediaType, type);
+    }
+
+    String key = syntax.getId() + '|' + mediaType + '|' + typeKey;
+    MediaTypeDescriptor descriptor = this.descriptors.get(key);
+    if (descriptor == null) {
+      descriptor = syntax.findMediaTypeDescriptor(mediaType, type);
+      if (descriptor != null) {
+        this.descriptors.put(key, descriptor);
+      }
+    }
+    return descriptor;
+  }
+}
@@ -1,7 +1,5 @@
 package com.webcohesion.enunciate.facets;
 
-import com.webcohesion.enunciate.metadata.Facets;
-
 import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
 import javax.lang.model.type.DeclaredType;
@@ -17,6 +15,7 @@ import java.util.TreeSet;
 public class Facet implements Comparable<Facet> {
 
   private final String name;
+  private final int index;
 
   public Facet(com.webcohesion.enunciate.metadata.Facet facet) {
     this(facet.value());
@@ -27,6 +26,7 @@ public class Facet implements Comparable<Facet> {
       throw new NullPointerException();
     }
     this.name = name;
+    this.index = FacetRegistry.indexOf(name);
   }
 
   /**
@@ -38,33 +38,13 @@ public class Facet implements Comparable<Facet> {
   public static Set<Facet> gatherFacets(Element declaration) {
     Set<Facet> bucket = new TreeSet<Facet>();
     if (declaration != null) {
-      com.webcohesion.enunciate.metadata.Facet facet = declaration.getAnnotation(com.webcohesion.enunciate.metadata.Facet.class);
-      if (facet != null) {
-        bucket.add(new Facet(facet));
-      }
-
-      Facets facets = declaration.getAnnotation(Facets.class);
-      if (facets != null) {
-        for (com.webcohesion.enunciate.metadata.Facet f : facets.value()) {
-          bucket.add(new Facet(f));
-        }
-      }
+      bucket.addAll(FacetRegistry.getDeclaredFacets(declaration));
 
       List<? extends AnnotationMirror> annotationMirrors = declaration.getAnnotationMirrors();
       for (AnnotationMirror annotationMirror : annotationMirrors) {
         DeclaredType annotationType = annotationMirror.getAnnotationType();
         if (annotationType != null) {
-          Element annotationDeclaration = annotationType.asElement();
-          facet = annotationDeclaration.getAnnotation(com.webcohesion.enunciate.metadata.Facet.class);
-          if (facet != null) {
-            bucket.add(new Facet(facet));
-          }
-          facets = annotationDeclaration.getAnnotation(Facets.class);
-          if (facets != null) {
-            for (com.webcohesion.enunciate.metadata.Facet f : facets.value()) {
-              bucket.add(new Facet(f));
-            }
-          }
+          bucket.addAll(FacetRegistry.getAnnotationFacets(annotationType.asElement()));
         }
       }
     }
@@ -75,6 +55,15 @@ public class Facet implements Comparable<Facet> {
     return name;
   }
 
+  /**
+   * The index of this facet in the registry of facets, i.e. the bit of this facet in a set of facets.
+   *
+   * @return The index of this facet.
+   */
+  int getIndex() {
+    return index;
+  }
+
   public int compareTo(Facet o) {
     return this.name.compareTo(o.name);
   }
@@ -3,16 +3,19 @@ package com.webcohesion.enunciate.facets;
 import java.util.*;
 
 /**
+ * Filters items by their facets. The included and excluded facets are compiled to bit sets of the (interned) facets, so evaluating
+ * an item is a single pass over its facets, testing a bit of each.
+ *
  * @author Ryan Heaton
  */
 public class FacetFilter {
 
-  private final Set<String> includes;
-  private final Set<String> excludes;
+  private final BitSet includes;
+  private final BitSet excludes;
 
   public FacetFilter(Set<String> includes, Set<String> excludes) {
-    this.includes = includes;
-    this.excludes = excludes;
+    this.includes = FacetRegistry.maskOf(includes);
+    this.excludes = FacetRegistry.maskOf(excludes);
   }
 
   public boolean accept(HasFacets item) {
@@ -20,33 +23,25 @@ public class FacetFilter {
       return false;
     }
 
-    if ((includes == null || includes.isEmpty()) && (excludes == null || excludes.isEmpty())) {
+    if (includes == null && excludes == null) {
       return true;
     }
 
-    boolean accept = true;
-    if (includes != null && !includes.isEmpty()) {
-      boolean included = false;
-      for (Facet facet : item.getFacets()) {
-        if (includes.contains(facet.getName())) {
-          included = true;
-          break;
-        }
+    boolean included = includes == null;
+    for (Facet facet : item.getFacets()) {
+      int index = facet.getIndex();
+
+      //the items that are explicitly excluded are removed.
+      if (excludes != null && excludes.get(index)) {
+        return false;
       }
-      accept = included;
-    }
 
-    //then remove the items that are explicitly excluded.
-    if (excludes != null && !excludes.isEmpty()) {
-      for (Facet facet : item.getFacets()) {
-        if (excludes.contains(facet.getName())) {
-          accept = false;
-          break;
-        }
+      if (includes != null && includes.get(index)) {
+        included = true;
       }
     }
 
-    return accept;
+    return included;
   }
 
 }
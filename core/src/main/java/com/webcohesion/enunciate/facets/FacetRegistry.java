@@ -0,0 +1,114 @@
+package com.webcohesion.enunciate.facets;
+
+import com.webcohesion.enunciate.javac.decorations.element.DecoratedElement;
+import com.webcohesion.enunciate.metadata.Facets;
+
+import javax.lang.model.element.Element;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The registry of facets. Each facet name is interned and assigned an index, so a set of facet names (e.g. the facets included by a
+ * {@link FacetFilter}) is a bit set. The facets declared by each annotation type (which apply to every element it annotates) are
+ * gathered once, too.
+ *
+ * Indexes are never released: the facet names of an API are few, and an index must stay stable for as long as any filter uses it.
+ *
+ * @author Ryan Heaton
+ */
+final class FacetRegistry {
+
+  private static final ConcurrentMap<String, Integer> INDEXES = new ConcurrentHashMap<String, Integer>();
+
+  //keyed weakly by the (undecorated) annotation type, so the facets don't outlive the compilation.
+  private static final Map<Element, List<Facet>> ANNOTATION_FACETS = Collections.synchronizedMap(new WeakHashMap<Element, List<Facet>>());
+
+  private FacetRegistry() {
+  }
+
+  /**
+   * The index of the facet of the given name.
+   *
+   * @param name The name of the facet.
+   * @return The index of the facet.
+   */
+  static int indexOf(String name) {
+    Integer index = INDEXES.get(name);
+    if (index == null) {
+      synchronized (INDEXES) {
+        index = INDEXES.get(name);
+        if (index == null) {
+          index = INDEXES.size();
+          INDEXES.put(name, index);
+        }
+      }
+    }
+    return index;
+  }
+
+  /**
+   * The bit set of the facets of the given names.
+   *
+   * @param names The names of the facets.
+   * @return The bit set of the facets, or null if there are no names.
+   */
+  static BitSet maskOf(Collection<String> names) {
+    if (names == null || names.isEmpty()) {
+      return null;
+    }
+
+    BitSet mask = new BitSet();
+    for (String name : names) {
+      mask.set(indexOf(name));
+    }
+    return mask;
+  }
+
+  /**
+   * The facets declared by the given annotation type.
+   *
+   * @param annotationDeclaration The declaration of the annotation type.
+   * @return The (unmodifiable) facets declared by the annotation type.
+   */
+  static List<Facet> getAnnotationFacets(Element annotationDeclaration) {
+    Element key = annotationDeclaration;
+    while (key instanceof DecoratedElement) {
+      key = ((DecoratedElement) key).getDelegate();
+    }
+
+    List<Facet> facets = ANNOTATION_FACETS.get(key);
+    if (facets == null) {
+      facets = Collections.unmodifiableList(getDeclaredFacets(annotationDeclaration));
+      ANNOTATION_FACETS.put(key, facets);
+    }
+    return facets;
+  }
+
+  /**
+   * The facets declared directly on the given element (i.e. the values of its {@link com.webcohesion.enunciate.metadata.Facet} and
+   * {@link Facets} annotations).
+   *
+   * @param declaration The declaration.
+   * @return The facets declared on the element.
+   */
+  static List<Facet> getDeclaredFacets(Element declaration) {
+    com.webcohesion.enunciate.metadata.Facet facet = declaration.getAnnotation(com.webcohesion.enunciate.metadata.Facet.class);
+    Facets facets = declaration.getAnnotation(Facets.class);
+    if (facet == null && facets == null) {
+      return Collections.emptyList();
+    }
+
+    ArrayList<Facet> declared = new ArrayList<Facet>();
+    if (facet != null) {
+      declared.add(new Facet(facet));
+    }
+
+    if (facets != null) {
+      for (com.webcohesion.enunciate.metadata.Facet f : facets.value()) {
+        declared.add(new Facet(f));
+      }
+    }
+    return declared;
+  }
+}
@@ -1,12 +1,9 @@
 package com.webcohesion.enunciate.module;
 
 import com.webcohesion.enunciate.javac.decorations.DecoratedProcessingEnvironment;
-import com.webcohesion.enunciate.javac.decorations.SourcePosition;
 
 import javax.lang.model.element.Element;
 import java.io.File;
-import java.io.IOException;
-import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -41,19 +38,7 @@ public abstract class BasicGeneratingModule extends BasicEnunicateModule {
   }
 
   public long findSourceTimestamp(DecoratedProcessingEnvironment env, Element apiElement) {
-    SourcePosition sp = env.findSourcePosition(apiElement);
-    URI uri = sp == null ? null : sp.getPath() == null ? null : sp.getPath().getCompilationUnit() == null ? null : sp.getPath().getCompilationUnit().getSourceFile() == null ? null : sp.getPath().getCompilationUnit().getSourceFile().toUri();
-    if (uri != null && "file".equalsIgnoreCase(uri.getScheme())) {
-      //it's a file uri.
-      try {
-        return uri.toURL().openConnection().getLastModified();
-      }
-      catch (IOException e) {
-        return 0;
-      }
-    }
-
-    return 0;
+    return env.findSourceTimestamp(apiElement);
   }
 
   protected boolean isUpToDate(long newestSourceTimestamp, File destFile) {
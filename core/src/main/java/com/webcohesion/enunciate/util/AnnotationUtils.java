@@ -1,8 +1,10 @@
 package com.webcohesion.enunciate.util;
 
+import com.webcohesion.enunciate.javac.decorations.Annotations;
 import com.webcohesion.enunciate.javac.decorations.element.DecoratedElement;
 import com.webcohesion.enunciate.javac.javadoc.JavaDoc;
 
+import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.DeclaredType;
@@ -43,6 +45,30 @@ public class AnnotationUtils {
     return allAnnotations;
   }
 
+  public static List<AnnotationMirror> getAnnotationMirrors(Class<? extends Annotation> clazz, Element el) {
+    if (el == null || (el instanceof TypeElement && Object.class.getName().equals(((TypeElement) el).getQualifiedName().toString()))) {
+      return Collections.emptyList();
+    }
+
+    ArrayList<AnnotationMirror> allAnnotations = new ArrayList<AnnotationMirror>();
+    AnnotationMirror annotation = Annotations.findAnnotation(el, clazz);
+    if (annotation != null) {
+      allAnnotations.add(annotation);
+    }
+
+    allAnnotations.addAll(getAnnotationMirrors(clazz, el.getEnclosingElement()));
+
+    if (el instanceof TypeElement) {
+      //include the superclass.
+      TypeMirror superclass = ((TypeElement) el).getSuperclass();
+      if (superclass instanceof DeclaredType) {
+        allAnnotations.addAll(getAnnotationMirrors(clazz, ((DeclaredType) superclass).asElement()));
+      }
+    }
+
+    return allAnnotations;
+  }
+
   public static List<JavaDoc.JavaDocTagList> getJavaDocTags(String tag, DecoratedElement el) {
     if (el == null || (el instanceof TypeElement && Object.class.getName().equals(((TypeElement) el).getQualifiedName().toString()))) {
       return Collections.emptyList();
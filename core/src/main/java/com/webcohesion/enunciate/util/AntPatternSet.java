@@ -0,0 +1,189 @@
+package com.webcohesion.enunciate.util;
+
+import java.util.*;
+
+/**
+ * A set of include (or exclude) patterns of class names, compiled once. Each entry is either a class name, matched exactly,
+ * or an Ant-style pattern (see {@link AntPatternMatcher}), split into its segments when the set is compiled. Matching a class name
+ * doesn't allocate: the segments of the name are walked in place, and a pattern is skipped as soon as the name doesn't start
+ * with the literal prefix of the pattern.
+ *
+ * @author Ryan Heaton
+ */
+public class AntPatternSet {
+
+  private final Set<String> names = new HashSet<String>();
+  private final List<CompiledPattern> patterns = new ArrayList<CompiledPattern>();
+
+  /**
+   * @param patterns The class names and Ant-style patterns.
+   */
+  public AntPatternSet(Collection<String> patterns) {
+    for (String pattern : patterns) {
+      if (AntPatternMatcher.isValidPattern(pattern)) {
+        this.patterns.add(new CompiledPattern(pattern));
+      }
+      else {
+        this.names.add(pattern);
+      }
+    }
+  }
+
+  /**
+   * Compile the given patterns.
+   *
+   * @param patterns The class names and Ant-style patterns.
+   * @return The compiled patterns, or null if there are no patterns.
+   */
+  public static AntPatternSet compile(Set<String> patterns) {
+    return patterns == null || patterns.isEmpty() ? null : new AntPatternSet(patterns);
+  }
+
+  /**
+   * Whether the given class name is one of the names, or matches one of the patterns, of this set.
+   *
+   * @param className The class name.
+   * @return Whether the class name matches.
+   */
+  public boolean matches(String className) {
+    if (className == null) {
+      return false;
+    }
+
+    if (this.names.contains(className)) {
+      return true;
+    }
+
+    for (CompiledPattern pattern : this.patterns) {
+      if (pattern.matches(className)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * An Ant-style pattern, split into its segments.
+   */
+  private static final class CompiledPattern {
+
+    private final String pattern;
+    private final String prefix;
+    private final String[] segments;
+    private final boolean[] anySegments;
+    private final boolean irregular;
+
+    private CompiledPattern(String pattern) {
+      this.pattern = pattern;
+
+      int wildcard = pattern.length();
+      for (int i = 0; i < pattern.length(); i++) {
+        char ch = pattern.charAt(i);
+        if (ch == '*' || ch == '?') {
+          wildcard = i;
+          break;
+        }
+      }
+      if (wildcard > 0 && pattern.charAt(wildcard - 1) == '.') {
+        //the separator before a '**' isn't required (e.g. "com.**" matches "com").
+        wildcard--;
+      }
+      this.prefix = pattern.substring(0, wildcard);
+
+      //patterns with empty segments are left to the matcher.
+      this.irregular = isIrregular(pattern);
+      this.segments = pattern.split("\\.");
+      this.anySegments = new boolean[this.segments.length];
+      for (int i = 0; i < this.segments.length; i++) {
+        this.anySegments[i] = "**".equals(this.segments[i]);
+      }
+    }
+
+    boolean matches(String path) {
+      if (!path.startsWith(this.prefix)) {
+        return false;
+      }
+
+      if (this.irregular || isIrregular(path)) {
+        return AntPatternMatcher.INSTANCE.match(this.pattern, path);
+      }
+
+      return matches(path, 0, 0);
+    }
+
+    /**
+     * Match the pattern, from the given segment, against the path, from the given position (the start of a path segment, or
+     * past the end of the path if all its segments have been matched).
+     */
+    private boolean matches(String path, int segment, int position) {
+      int length = path.length();
+      if (segment == this.segments.length) {
+        return position > length;
+      }
+
+      if (this.anySegments[segment]) {
+        //'**' matches zero or more segments.
+        while (true) {
+          if (matches(path, segment + 1, position)) {
+            return true;
+          }
+
+          if (position > length) {
+            return false;
+          }
+
+          int end = path.indexOf('.', position);
+          position = end < 0 ? length + 1 : end + 1;
+        }
+      }
+
+      if (position > length) {
+        return false;
+      }
+
+      int end = path.indexOf('.', position);
+      if (end < 0) {
+        end = length;
+      }
+
+      return matchSegment(this.segments[segment], path, position, end) && matches(path, segment + 1, end + 1);
+    }
+
+    /**
+     * Match a segment of the pattern against a segment of the path. '*' matches zero or more characters; '?' matches exactly one.
+     */
+    private static boolean matchSegment(String pattern, String path, int start, int end) {
+      int p = 0;
+      int s = start;
+      int star = -1;
+      int starMatch = start;
+      while (s < end) {
+        if (p < pattern.length() && pattern.charAt(p) == '*') {
+          star = p++;
+          starMatch = s;
+        }
+        else if (p < pattern.length() && (pattern.charAt(p) == '?' || pattern.charAt(p) == path.charAt(s))) {
+          p++;
+          s++;
+        }
+        else if (star >= 0) {
+          p = star + 1;
+          s = ++starMatch;
+        }
+        else {
+          return false;
+        }
+      }
+
+      while (p < pattern.length() && pattern.charAt(p) == '*') {
+        p++;
+      }
+      return p == pattern.length();
+    }
+
+    private static boolean isIrregular(String path) {
+      return path.isEmpty() || path.charAt(0) == '.' || path.charAt(path.length() - 1) == '.' || path.contains("..");
+    }
+  }
+}
@@ -1,15 +1,20 @@
 package com.webcohesion.enunciate.util;
 
 import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Ryan Heaton
  */
 public class DepthFirstResourcePathComparator implements Comparator<String> {
 
+  //the segments of each path are split once per comparator (i.e. once per sort) instead of once per comparison.
+  private final Map<String, String[]> segments = new ConcurrentHashMap<String, String[]>();
+
   public int compare(String resource1Path, String resource2Path) {
-    String[] path1Segments = resource1Path.split("/");
-    String[] path2Segments = resource2Path.split("/");
+    String[] path1Segments = segmentsOf(resource1Path);
+    String[] path2Segments = segmentsOf(resource2Path);
     int index = 0;
     int comparison = 0;
     while ((index < path1Segments.length || index < path2Segments.length) && comparison == 0) {
@@ -26,4 +31,13 @@ public class DepthFirstResourcePathComparator implements Comparator<String> {
 
     return comparison;
   }
+
+  private String[] segmentsOf(String path) {
+    String[] segments = this.segments.get(path);
+    if (segments == null) {
+      segments = path.split("/");
+      this.segments.put(path, segments);
+    }
+    return segments;
+  }
 }
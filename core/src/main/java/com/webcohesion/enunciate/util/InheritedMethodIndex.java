@@ -0,0 +1,181 @@
+package com.webcohesion.enunciate.util;
+
+import com.webcohesion.enunciate.javac.decorations.DecoratedProcessingEnvironment;
+import com.webcohesion.enunciate.javac.decorations.element.DecoratedElement;
+import com.webcohesion.enunciate.javac.decorations.type.TypeVariableContext;
+
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The candidate methods of the types of an API (e.g. the resource methods of a resource class), including the ones inherited from
+ * superclasses and implemented interfaces. The methods declared by a type take precedence, followed by the methods of its interfaces
+ * and then the methods of its superclass that aren't overridden.<br/><br/>
+ *
+ * The methods of each type are merged once and memoized, so a (generic) base type that's shared by many types is only analyzed once.
+ * Inherited methods are indexed by name and number of parameters, so the (expensive) override check is only made against the few methods
+ * that could possibly override them.
+ *
+ * @author Ryan Heaton
+ */
+public abstract class InheritedMethodIndex {
+
+  private final DecoratedProcessingEnvironment env;
+  private final Map<Element, List<InheritedMethod>> methods = new ConcurrentHashMap<Element, List<InheritedMethod>>();
+
+  protected InheritedMethodIndex(DecoratedProcessingEnvironment env) {
+    this.env = env;
+  }
+
+  /**
+   * Whether the specified method (declared by the type being indexed) is a candidate method.
+   *
+   * @param method The method.
+   * @return Whether the method is a candidate.
+   */
+  protected abstract boolean isCandidate(ExecutableElement method);
+
+  /**
+   * The candidate methods of the specified type, including the inherited ones.
+   *
+   * @param type The type.
+   * @return The (unmodifiable) candidate methods, in order of precedence.
+   */
+  public List<InheritedMethod> getMethods(TypeElement type) {
+    if (type == null || type.getQualifiedName().toString().equals(Object.class.getName())) {
+      return Collections.emptyList();
+    }
+
+    Element key = type;
+    while (key instanceof DecoratedElement) {
+      key = ((DecoratedElement) key).getDelegate();
+    }
+
+    List<InheritedMethod> methods = this.methods.get(key);
+    if (methods == null) {
+      methods = Collections.unmodifiableList(loadMethods(type));
+      this.methods.put(key, methods);
+    }
+    return methods;
+  }
+
+  protected List<InheritedMethod> loadMethods(TypeElement type) {
+    ArrayList<InheritedMethod> methods = new ArrayList<InheritedMethod>();
+    Map<String, List<ExecutableElement>> signatures = new HashMap<String, List<ExecutableElement>>();
+    for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+      if (isCandidate(method)) {
+        methods.add(new InheritedMethod(method, null));
+        index(method, signatures);
+      }
+    }
+
+    //some methods may be specified by a superclass and/or implemented interface.  But the methods of the current type take precedence.
+    for (TypeMirror interfaceType : type.getInterfaces()) {
+      if (interfaceType instanceof DeclaredType) {
+        inherit((DeclaredType) interfaceType, methods, signatures);
+      }
+    }
+
+    if (type.getKind() == ElementKind.CLASS) {
+      TypeMirror superclass = type.getSuperclass();
+      if (superclass instanceof DeclaredType && ((DeclaredType) superclass).asElement() != null) {
+        inherit((DeclaredType) superclass, methods, signatures);
+      }
+    }
+
+    return methods;
+  }
+
+  private void inherit(DeclaredType supertype, List<InheritedMethod> methods, Map<String, List<ExecutableElement>> signatures) {
+    Elements decls = this.env.getElementUtils();
+    List<InheritedMethod> superMethods = getMethods((TypeElement) supertype.asElement());
+    SUPER_METHOD_LOOP : for (InheritedMethod superMethod : superMethods) {
+      ExecutableElement method = superMethod.getMethod();
+      List<ExecutableElement> candidates = signatures.get(signatureOf(method));
+      if (candidates != null) {
+        for (ExecutableElement candidate : candidates) {
+          if (decls.overrides(candidate, method, (TypeElement) candidate.getEnclosingElement())) {
+            continue SUPER_METHOD_LOOP;
+          }
+        }
+      }
+
+      methods.add(new InheritedMethod(method, new Supertype(supertype, superMethod.supertypes)));
+      index(method, signatures);
+    }
+  }
+
+  private static void index(ExecutableElement method, Map<String, List<ExecutableElement>> signatures) {
+    String signature = signatureOf(method);
+    List<ExecutableElement> methods = signatures.get(signature);
+    if (methods == null) {
+      methods = new ArrayList<ExecutableElement>(1);
+      signatures.put(signature, methods);
+    }
+    methods.add(method);
+  }
+
+  /**
+   * The (coarse) signature of a method: a method can only override the methods with the same signature.
+   */
+  private static String signatureOf(ExecutableElement method) {
+    return method.getSimpleName().toString() + '/' + method.getParameters().size();
+  }
+
+  /**
+   * A candidate method and the chain of supertypes through which it's inherited.
+   */
+  public static final class InheritedMethod {
+
+    private final ExecutableElement method;
+    private final Supertype supertypes;
+
+    private InheritedMethod(ExecutableElement method, Supertype supertypes) {
+      this.method = method;
+      this.supertypes = supertypes;
+    }
+
+    /**
+     * The method.
+     *
+     * @return The method.
+     */
+    public ExecutableElement getMethod() {
+      return method;
+    }
+
+    /**
+     * The context of the type variables of the method, i.e. the given context with the type arguments of each of the supertypes
+     * through which the method is inherited.
+     *
+     * @param variableContext The context of the type variables of the indexed type.
+     * @return The context of the type variables of the method.
+     */
+    public TypeVariableContext getVariableContext(TypeVariableContext variableContext) {
+      for (Supertype supertype = this.supertypes; supertype != null; supertype = supertype.next) {
+        TypeElement element = (TypeElement) supertype.type.asElement();
+        variableContext = variableContext.push(element.getTypeParameters(), supertype.type.getTypeArguments());
+      }
+      return variableContext;
+    }
+  }
+
+  /**
+   * A link in a (shared) chain of supertypes.
+   */
+  private static final class Supertype {
+
+    private final DeclaredType type;
+    private final Supertype next;
+
+    private Supertype(DeclaredType type, Supertype next) {
+      this.type = type;
+      this.next = next;
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package com.webcohesion.enunciate.util;
+
+import com.webcohesion.enunciate.javac.decorations.DecoratedProcessingEnvironment;
+import com.webcohesion.enunciate.javac.decorations.TypeMirrorDecorator;
+import com.webcohesion.enunciate.javac.decorations.element.DecoratedElement;
+import com.webcohesion.enunciate.javac.decorations.type.DecoratedTypeMirror;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The known types of a syntax module. The known types are looked up by qualified name in a table that is expected to be immutable and
+ * shared by all the runs of the module; the known-type status of each type element is resolved against the table once per run and cached
+ * by element identity, so the frequent "is this a known type" checks of the model don't rebuild names or walk type hierarchies again.
+ *
+ * @author Ryan Heaton
+ */
+public class KnownTypeRegistry<T> {
+
+  private final Map<String, T> knownTypes;
+  private final Class<?>[] knownSupertypes;
+  private final DecoratedProcessingEnvironment env;
+  private final Map<Element, Status<T>> statuses = new ConcurrentHashMap<Element, Status<T>>();
+
+  /**
+   * @param knownTypes The (shared, immutable) table of the known types by qualified name.
+   * @param env The processing environment.
+   * @param knownSupertypes The types whose subtypes are also known types (e.g. JAXBElement), even though they have no entry in the table.
+   */
+  public KnownTypeRegistry(Map<String, T> knownTypes, DecoratedProcessingEnvironment env, Class<?>... knownSupertypes) {
+    this.knownTypes = knownTypes;
+    this.env = env;
+    this.knownSupertypes = knownSupertypes;
+  }
+
+  /**
+   * The table of the known types by qualified name.
+   *
+   * @return The table of the known types.
+   */
+  public Map<String, T> getKnownTypes() {
+    return knownTypes;
+  }
+
+  /**
+   * The known type for the given declaration.
+   *
+   * @param declaration The declaration.
+   * @return The known type, or null if the declaration isn't in the table of known types.
+   */
+  public T getKnownType(Element declaration) {
+    return declaration instanceof TypeElement ? getStatus((TypeElement) declaration).type : null;
+  }
+
+  /**
+   * Whether the given type is a known type, i.e. it's in the table of known types or it's a subtype of one of the known supertypes.
+   *
+   * @param type The type.
+   * @return Whether the type is a known type.
+   */
+  public boolean isKnownType(TypeElement type) {
+    return getStatus(type).known;
+  }
+
+  protected Status<T> getStatus(TypeElement type) {
+    Element key = type;
+    while (key instanceof DecoratedElement) {
+      key = ((DecoratedElement) key).getDelegate();
+    }
+
+    Status<T> status = this.statuses.get(key);
+    if (status == null) {
+      T knownType = this.knownTypes.get(this.env.getQualifiedName(key));
+      boolean known = knownType != null;
+      if (!known && this.knownSupertypes.length > 0) {
+        DecoratedTypeMirror typeMirror = (DecoratedTypeMirror) TypeMirrorDecorator.decorate(type.asType(), this.env);
+        for (Class<?> supertype : this.knownSupertypes) {
+          if (typeMirror.isInstanceOf(supertype)) {
+            known = true;
+            break;
+          }
+        }
+      }
+      status = new Status<T>(knownType, known);
+      this.statuses.put(key, status);
+    }
+    return status;
+  }
+
+  protected static final class Status<T> {
+
+    private final T type;
+    private final boolean known;
+
+    private Status(T type, boolean known) {
+      this.type = type;
+      this.known = known;
+    }
+  }
+}
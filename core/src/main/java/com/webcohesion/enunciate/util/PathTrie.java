@@ -0,0 +1,93 @@
+package com.webcohesion.enunciate.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A trie of the path templates of the REST endpoints of an API. Each node is a path template that is shared by every endpoint (and every
+ * module) that resolves to it, and it computes the strings that are derived from the template (the full path and the servlet pattern)
+ * once, when the node is created.
+ *
+ * @author Ryan Heaton
+ */
+public class PathTrie {
+
+  private static final Pattern CONTEXT_PARAM_PATTERN = Pattern.compile("\\{([^\\}]+)\\}");
+
+  private final Node root = new Node(null, "");
+
+  /**
+   * The root of the trie, i.e. the empty path.
+   *
+   * @return The root of the trie.
+   */
+  public Node getRoot() {
+    return root;
+  }
+
+  /**
+   * A path template in the trie.
+   */
+  public static final class Node {
+
+    private final String segment;
+    private final String path;
+    private final String servletPattern;
+    private final ConcurrentMap<String, Node> children = new ConcurrentHashMap<String, Node>();
+
+    private Node(Node parent, String segment) {
+      this.segment = segment;
+      this.path = parent == null ? segment : parent.path + segment;
+
+      Matcher pathParamMatcher = CONTEXT_PARAM_PATTERN.matcher(this.path);
+      this.servletPattern = pathParamMatcher.find() ? this.path.substring(0, pathParamMatcher.start()) + "*" : this.path;
+    }
+
+    /**
+     * The node for the path template made of this template followed by the given segment.
+     *
+     * @param segment The segment, including its separator (e.g. "/{id}").
+     * @return The child node.
+     */
+    public Node getChild(String segment) {
+      Node child = this.children.get(segment);
+      if (child == null) {
+        Node newChild = new Node(this, segment);
+        child = this.children.putIfAbsent(segment, newChild);
+        if (child == null) {
+          child = newChild;
+        }
+      }
+      return child;
+    }
+
+    /**
+     * The last segment of this path template, including its separator.
+     *
+     * @return The last segment of this path template.
+     */
+    public String getSegment() {
+      return segment;
+    }
+
+    /**
+     * The full path template.
+     *
+     * @return The full path template.
+     */
+    public String getPath() {
+      return path;
+    }
+
+    /**
+     * The servlet pattern that matches this path template, i.e. the path up to the first path parameter, followed by a wildcard.
+     *
+     * @return The servlet pattern.
+     */
+    public String getServletPattern() {
+      return servletPattern;
+    }
+  }
+}
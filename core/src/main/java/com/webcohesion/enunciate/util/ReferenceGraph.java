@@ -0,0 +1,126 @@
+package com.webcohesion.enunciate.util;
+
+import javax.lang.model.element.Element;
+import java.util.*;
+
+/**
+ * Records where each type definition of a model was first referenced from, for diagnostics. Each type stores only the part of the
+ * reference stack between itself and the type that referenced it (e.g. the referencing accessor); the full "referenced-from" path is
+ * rebuilt on demand by following the referencing types. The graph also keeps some discovery metrics for each type: its depth (the number of
+ * referencing types between it and a type that was added directly) and the number of types that were first discovered through it.
+ *
+ * @author Ryan Heaton
+ */
+public class ReferenceGraph {
+
+  private final Map<Element, Reference> references = new IdentityHashMap<Element, Reference>();
+
+  /**
+   * Record the reference to a type, given the reference stack at the time it was added to the model (the most recent referrer first).
+   * Only the first reference to a type is recorded.
+   *
+   * @param referenced The referenced type.
+   * @param stack The reference stack.
+   */
+  public synchronized void addReference(Element referenced, List<? extends Element> stack) {
+    if (this.references.containsKey(referenced)) {
+      return;
+    }
+
+    List<Element> path = new ArrayList<Element>(2);
+    Element referencingType = null;
+    for (Element element : stack) {
+      if (this.references.containsKey(element)) {
+        referencingType = element;
+        break;
+      }
+      path.add(element);
+    }
+
+    int depth = 0;
+    if (referencingType != null) {
+      Reference referencingReference = this.references.get(referencingType);
+      referencingReference.discovered++;
+      depth = referencingReference.depth + 1;
+    }
+    this.references.put(referenced, new Reference(path.isEmpty() ? Collections.<Element>emptyList() : path, referencingType, depth));
+  }
+
+  /**
+   * The number of referencing types between the given type and a type that was added directly (e.g. an API type).
+   *
+   * @param referenced The referenced type.
+   * @return The depth, or -1 if no reference to the type was recorded.
+   */
+  public synchronized int getDepth(Element referenced) {
+    Reference reference = this.references.get(referenced);
+    return reference == null ? -1 : reference.depth;
+  }
+
+  /**
+   * The number of types that were first discovered through the given type.
+   *
+   * @param referencing The referencing type.
+   * @return The number of discovered types.
+   */
+  public synchronized int getDiscoveredCount(Element referencing) {
+    Reference reference = this.references.get(referencing);
+    return reference == null ? 0 : reference.discovered;
+  }
+
+  /**
+   * The number of types for which a reference was recorded.
+   *
+   * @return The number of types.
+   */
+  public synchronized int size() {
+    return this.references.size();
+  }
+
+  /**
+   * The greatest depth of all recorded types.
+   *
+   * @return The greatest depth, or -1 if no reference was recorded.
+   */
+  public synchronized int getMaxDepth() {
+    int max = -1;
+    for (Reference reference : this.references.values()) {
+      max = Math.max(max, reference.depth);
+    }
+    return max;
+  }
+
+  /**
+   * The (human-readable) locations that the given type was referenced from, the most recent referrer first.
+   *
+   * @param referenced The referenced type.
+   * @return The referenced-from list (a new list).
+   */
+  public synchronized LinkedList<Element> getReferencedFrom(Element referenced) {
+    LinkedList<Element> referencedFrom = new LinkedList<Element>();
+    Reference reference = this.references.get(referenced);
+    while (reference != null) {
+      referencedFrom.addAll(reference.path);
+      if (reference.referencingType == null) {
+        break;
+      }
+      referencedFrom.add(reference.referencingType);
+      reference = this.references.get(reference.referencingType);
+    }
+    return referencedFrom;
+  }
+
+  private static final class Reference {
+
+    private final List<Element> path;
+    private final Element referencingType;
+    private final int depth;
+    private int discovered;
+
+    private Reference(List<Element> path, Element referencingType, int depth) {
+      this.path = path;
+      this.referencingType = referencingType;
+      this.depth = depth;
+    }
+  }
+}
@@ -0,0 +1,238 @@
+package com.webcohesion.enunciate.util;
+
+import com.sun.tools.javac.code.Symbol;
+import com.webcohesion.enunciate.EnunciateLogger;
+import com.webcohesion.enunciate.javac.decorations.DecoratedProcessingEnvironment;
+import com.webcohesion.enunciate.javac.decorations.element.DecoratedElement;
+
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.SimpleTypeVisitor6;
+import java.util.*;
+
+/**
+ * Completes the javac symbols of the API types in one pass: the API types themselves (supertypes, members and annotations), their nested
+ * types and supertypes, and the types they reference from their members, type arguments and annotation values. Types that are only
+ * referenced are completed but not walked any further, so this is an optimization, not a guarantee: the modules may still complete other
+ * symbols as they build their models (see {@link DecoratedProcessingEnvironment#completeSymbols(TypeElement)}). A symbol that can't be
+ * completed (e.g. a type that's missing from the classpath) is skipped, leaving javac to report it if the model ever needs it.
+ *
+ * @author Ryan Heaton
+ */
+public class SymbolCompleter {
+
+  private static final int PROGRESS_INTERVAL = 500;
+
+  private final DecoratedProcessingEnvironment env;
+  private final EnunciateLogger logger;
+  private final LinkedList<TypeElement> apiQueue = new LinkedList<TypeElement>();
+  private final Set<TypeElement> queued = new HashSet<TypeElement>();
+  private final Set<TypeElement> referenced = new LinkedHashSet<TypeElement>();
+  private final ReferencedTypesVisitor referencedTypesVisitor = new ReferencedTypesVisitor();
+  private int failures = 0;
+
+  public SymbolCompleter(DecoratedProcessingEnvironment env, EnunciateLogger logger) {
+    this.env = env;
+    this.logger = logger;
+  }
+
+  /**
+   * Complete the symbols of the given API elements and of the types they reference.
+   *
+   * @param apiElements The API elements.
+   * @return The number of types that were completed.
+   */
+  public int complete(Collection<? extends Element> apiElements) {
+    long start = System.currentTimeMillis();
+    for (Element apiElement : apiElements) {
+      apiElement = unwrap(apiElement);
+      if (apiElement instanceof TypeElement) {
+        queueApiType((TypeElement) apiElement);
+      }
+      else if (apiElement instanceof PackageElement) {
+        addAnnotationValueTypes(apiElement);
+      }
+    }
+
+    this.logger.info("Completing symbols of %s API types...", this.apiQueue.size());
+    int apiTypes = 0;
+    while (!this.apiQueue.isEmpty()) {
+      TypeElement type = this.apiQueue.removeFirst();
+      if (complete(type)) {
+        try {
+          addReferencedTypes(type);
+        }
+        catch (Symbol.CompletionFailure e) {
+          skip(type, e);
+        }
+      }
+      apiTypes++;
+
+      if (apiTypes % PROGRESS_INTERVAL == 0) {
+        this.logger.info("Completed symbols of %s API types (%s remaining, %s referenced types discovered)...", apiTypes, this.apiQueue.size(), this.referenced.size());
+      }
+    }
+
+    int referencedTypes = 0;
+    for (TypeElement type : this.referenced) {
+      if (!this.queued.contains(type)) {
+        complete(type);
+        referencedTypes++;
+      }
+    }
+
+    this.logger.info("Completed symbols of %s API types and %s referenced types in %s ms (%s skipped).", apiTypes, referencedTypes, System.currentTimeMillis() - start, this.failures);
+    return apiTypes + referencedTypes - this.failures;
+  }
+
+  /**
+   * Complete the symbol of the given type.
+   *
+   * @param type The type.
+   * @return Whether the symbol was completed.
+   */
+  protected boolean complete(TypeElement type) {
+    try {
+      this.env.completeSymbols(type);
+      return true;
+    }
+    catch (Symbol.CompletionFailure e) {
+      skip(type, e);
+      return false;
+    }
+  }
+
+  private void skip(TypeElement type, Symbol.CompletionFailure e) {
+    this.failures++;
+    this.logger.debug("Unable to complete the symbol of %s: %s", type, e.getMessage());
+  }
+
+  protected void queueApiType(TypeElement type) {
+    if (type != null && this.queued.add(type)) {
+      this.apiQueue.add(type);
+    }
+  }
+
+  protected void addReferencedTypes(TypeElement type) {
+    //supertypes and nested types are walked like API types.
+    queueApiType(asTypeElement(type.getSuperclass()));
+    for (TypeMirror iface : type.getInterfaces()) {
+      queueApiType(asTypeElement(iface));
+    }
+
+    addAnnotationValueTypes(type);
+    for (TypeParameterElement typeParameter : type.getTypeParameters()) {
+      for (TypeMirror bound : typeParameter.getBounds()) {
+        bound.accept(this.referencedTypesVisitor, null);
+      }
+    }
+
+    for (Element member : type.getEnclosedElements()) {
+      if (member instanceof TypeElement) {
+        queueApiType((TypeElement) member);
+        continue;
+      }
+
+      addAnnotationValueTypes(member);
+      if (member instanceof ExecutableElement) {
+        ExecutableElement method = (ExecutableElement) member;
+        method.getReturnType().accept(this.referencedTypesVisitor, null);
+        for (VariableElement parameter : method.getParameters()) {
+          parameter.asType().accept(this.referencedTypesVisitor, null);
+          addAnnotationValueTypes(parameter);
+        }
+        for (TypeMirror thrownType : method.getThrownTypes()) {
+          thrownType.accept(this.referencedTypesVisitor, null);
+        }
+      }
+      else if (member instanceof VariableElement) {
+        member.asType().accept(this.referencedTypesVisitor, null);
+      }
+    }
+  }
+
+  protected void addAnnotationValueTypes(Element element) {
+    for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+      addAnnotationValueTypes(annotation);
+    }
+  }
+
+  protected void addAnnotationValueTypes(AnnotationMirror annotation) {
+    addReferencedType(asTypeElement(annotation.getAnnotationType()));
+    for (AnnotationValue value : annotation.getElementValues().values()) {
+      addAnnotationValueTypes(value.getValue());
+    }
+  }
+
+  protected void addAnnotationValueTypes(Object value) {
+    if (value instanceof TypeMirror) {
+      ((TypeMirror) value).accept(this.referencedTypesVisitor, null);
+    }
+    else if (value instanceof AnnotationMirror) {
+      addAnnotationValueTypes((AnnotationMirror) value);
+    }
+    else if (value instanceof List) {
+      for (Object item : (List<?>) value) {
+        addAnnotationValueTypes(item instanceof AnnotationValue ? ((AnnotationValue) item).getValue() : item);
+      }
+    }
+  }
+
+  protected void addReferencedType(TypeElement type) {
+    if (type != null) {
+      this.referenced.add(type);
+    }
+  }
+
+  private static TypeElement asTypeElement(TypeMirror type) {
+    if (type instanceof DeclaredType) {
+      Element element = unwrap(((DeclaredType) type).asElement());
+      return element instanceof TypeElement ? (TypeElement) element : null;
+    }
+    return null;
+  }
+
+  private static Element unwrap(Element element) {
+    while (element instanceof DecoratedElement) {
+      element = ((DecoratedElement) element).getDelegate();
+    }
+    return element;
+  }
+
+  /**
+   * Gathers the types referenced by a type mirror. Type variables aren't followed; their bounds are gathered from the type parameters
+   * of the declaring type.
+   */
+  private class ReferencedTypesVisitor extends SimpleTypeVisitor6<Void, Void> {
+
+    @Override
+    public Void visitDeclared(DeclaredType t, Void nil) {
+      addReferencedType(asTypeElement(t));
+      for (TypeMirror typeArg : t.getTypeArguments()) {
+        typeArg.accept(this, nil);
+      }
+      return null;
+    }
+
+    @Override
+    public Void visitArray(ArrayType t, Void nil) {
+      return t.getComponentType().accept(this, nil);
+    }
+
+    @Override
+    public Void visitWildcard(WildcardType t, Void nil) {
+      if (t.getExtendsBound() != null) {
+        t.getExtendsBound().accept(this, nil);
+      }
+      if (t.getSuperBound() != null) {
+        t.getSuperBound().accept(this, nil);
+      }
+      return null;
+    }
+
+    @Override
+    public Void visitUnknown(TypeMirror t, Void nil) {
+      return defaultAction(t, nil);
+    }
+  }
+}
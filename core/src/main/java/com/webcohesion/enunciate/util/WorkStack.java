@@ -0,0 +1,60 @@
+package com.webcohesion.enunciate.util;
+
+import java.util.LinkedList;
+
+/**
+ * An explicit (LIFO) stack of work, for walking a deep graph (e.g. the type definitions of a model) without recursing. A step that's performed
+ * while another step is running doesn't run right away; it runs after the current step is done, before any step that was already waiting.
+ * The steps performed by one step run in the order they were performed. So the steps run in the same (depth-first) order as they would if
+ * each one were called directly, but the call stack doesn't grow with the depth of the graph.
+ *
+ * @author Ryan Heaton
+ */
+public class WorkStack {
+
+  private final LinkedList<Step> steps = new LinkedList<Step>();
+  private final LinkedList<Step> performed = new LinkedList<Step>();
+  private boolean running = false;
+
+  /**
+   * Perform a step. If no step is running, the step is run, along with all the steps it performs (and so on), before this method returns.
+   *
+   * @param step The step.
+   */
+  public void perform(Step step) {
+    if (this.running) {
+      this.performed.add(step);
+      return;
+    }
+
+    this.running = true;
+    try {
+      step.run();
+      pushPerformed();
+      while (!this.steps.isEmpty()) {
+        this.steps.pop().run();
+        pushPerformed();
+      }
+    }
+    finally {
+      this.running = false;
+      this.steps.clear();
+      this.performed.clear();
+    }
+  }
+
+  private void pushPerformed() {
+    while (!this.performed.isEmpty()) {
+      this.steps.push(this.performed.removeLast());
+    }
+  }
+
+  /**
+   * A step of work.
+   */
+  public interface Step {
+
+    void run();
+
+  }
+}
@@ -24,6 +24,7 @@ import javax.lang.model.element.PackageElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.TypeParameterElement;
 import javax.lang.model.type.*;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -37,6 +38,7 @@ import java.util.Map;
 public class ClientClassnameForMethod extends ClientPackageForMethod {
 
   protected final LinkedList<String> typeParameterDeclarationStack = new LinkedList<String>();
+  private final Map<String, String> classnameConversions = new HashMap<String, String>();
 
   public ClientClassnameForMethod(Map<String, String> conversions, EnunciateContext context) {
     super(conversions, context);
@@ -143,18 +145,36 @@ public class ClientClassnameForMethod extends ClientPackageForMethod {
     return parameterElement.getSimpleName().toString();
   }
 
+  /**
+   * Converts the type declaration to its client-side classname. Each type is converted (see {@link #loadClassnameConversion(TypeElement)}) only once.
+   *
+   * @param declaration The declaration.
+   * @return The client-side classname.
+   */
   @Override
-  public String convert(TypeElement declaration) throws TemplateModelException {
+  public final String convert(TypeElement declaration) throws TemplateModelException {
+    String qualifiedName = this.context.getProcessingEnvironment().getQualifiedName(declaration);
+    String conversion = this.classnameConversions.get(qualifiedName);
+    if (conversion == null) {
+      conversion = loadClassnameConversion(declaration);
+      this.classnameConversions.put(qualifiedName, conversion);
+    }
+    return conversion;
+  }
+
+  /**
+   * Computes the client-side classname of a type declaration. The result is cached per type, so it must depend only on the type.
+   *
+   * @param declaration The declaration.
+   * @return The client-side classname.
+   */
+  protected String loadClassnameConversion(TypeElement declaration) throws TemplateModelException {
     PackageElement pkg = this.context.getProcessingEnvironment().getElementUtils().getPackageOf(declaration);
     String convertedPackage = convertPackage(pkg);
     String simpleName = declaration.getSimpleName().toString();
     return convertedPackage + getPackageSeparator() + simpleName;
   }
 
-  protected String convertPackage(PackageElement pkg) {
-    return super.convert(pkg);
-  }
-
   protected String getPackageSeparator() {
     return ".";
   }
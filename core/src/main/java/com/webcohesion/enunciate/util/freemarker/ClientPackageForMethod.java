@@ -32,6 +32,7 @@ import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.type.TypeVariable;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -45,6 +46,7 @@ public class ClientPackageForMethod implements TemplateMethodModelEx {
 
   protected final TreeMap<String, String> conversions;
   protected final EnunciateContext context;
+  private final Map<String, String> packageConversions = new HashMap<String, String>();
 
   /**
    * @param conversions The conversions.
@@ -140,7 +142,7 @@ public class ClientPackageForMethod implements TemplateMethodModelEx {
    * @return The client-side package value for the declaration.
    */
   public String convert(TypeElement declaration) throws TemplateModelException {
-    return convert(this.context.getProcessingEnvironment().getElementUtils().getPackageOf(declaration));
+    return convertPackage(this.context.getProcessingEnvironment().getElementUtils().getPackageOf(declaration));
   }
 
   /**
@@ -150,12 +152,39 @@ public class ClientPackageForMethod implements TemplateMethodModelEx {
    * @return The package declaration.
    */
   public String convert(PackageElement packageDeclaration) {
+    return convertPackage(packageDeclaration);
+  }
+
+  /**
+   * Converts the package declaration to its client-side package value. Each package is converted (see {@link #loadPackageConversion(PackageElement)})
+   * only once.
+   *
+   * @param packageDeclaration The package declaration.
+   * @return The client-side package value.
+   */
+  protected final String convertPackage(PackageElement packageDeclaration) {
     if (packageDeclaration == null) {
       return "";
     }
 
+    String packageName = this.context.getProcessingEnvironment().getQualifiedName(packageDeclaration);
+    String conversion = this.packageConversions.get(packageName);
+    if (conversion == null) {
+      conversion = loadPackageConversion(packageDeclaration);
+      this.packageConversions.put(packageName, conversion);
+    }
+    return conversion;
+  }
+
+  /**
+   * Computes the client-side package value of a package declaration. The result is cached per package, so it must depend only on the package.
+   *
+   * @param packageDeclaration The package declaration.
+   * @return The client-side package value.
+   */
+  protected String loadPackageConversion(PackageElement packageDeclaration) {
     ClientName specifiedName = packageDeclaration.getAnnotation(ClientName.class);
-    return specifiedName == null ? convert(packageDeclaration.getQualifiedName().toString()) : specifiedName.value();
+    return specifiedName == null ? convert(this.context.getProcessingEnvironment().getQualifiedName(packageDeclaration)) : specifiedName.value();
   }
 
   /**
@@ -0,0 +1,106 @@
+package com.webcohesion.enunciate.facets;
+
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ryan Heaton
+ */
+public class FacetFilterTest {
+
+  private static final String[] NAMES = {"a", "b", "c", "d"};
+
+  @Test
+  public void testNoFilter() throws Exception {
+    assertTrue(new FacetFilter(null, null).accept(item()));
+    assertTrue(new FacetFilter(Collections.<String>emptySet(), Collections.<String>emptySet()).accept(item("a")));
+    assertFalse(new FacetFilter(null, null).accept(null));
+  }
+
+  @Test
+  public void testExcludesWinOverIncludes() throws Exception {
+    FacetFilter filter = new FacetFilter(names("a"), names("b"));
+    assertTrue(filter.accept(item("a")));
+    assertTrue(filter.accept(item("a", "c")));
+    assertFalse(filter.accept(item("a", "b")));
+    assertFalse(filter.accept(item("c")));
+    assertFalse(filter.accept(item()));
+  }
+
+  @Test
+  public void testSameAsNameComparison() throws Exception {
+    List<Set<String>> subsets = subsets();
+    for (Set<String> includes : subsets) {
+      for (Set<String> excludes : subsets) {
+        FacetFilter filter = new FacetFilter(includes, excludes);
+        for (Set<String> facets : subsets) {
+          HasFacets item = item(facets.toArray(new String[facets.size()]));
+          assertEquals(includes + " / " + excludes + " / " + facets, accept(includes, excludes, facets), filter.accept(item));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testIndexIsShared() throws Exception {
+    assertEquals(new Facet("shared").getIndex(), new Facet("shared").getIndex());
+    assertEquals(FacetRegistry.indexOf("shared"), new Facet("shared").getIndex());
+    assertFalse(new Facet("shared").getIndex() == new Facet("other").getIndex());
+  }
+
+  /**
+   * Whether an item with the given facets is accepted, comparing the names of the facets.
+   */
+  private static boolean accept(Set<String> includes, Set<String> excludes, Set<String> facets) {
+    for (String facet : facets) {
+      if (excludes.contains(facet)) {
+        return false;
+      }
+    }
+
+    if (includes.isEmpty()) {
+      return true;
+    }
+
+    for (String facet : facets) {
+      if (includes.contains(facet)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static List<Set<String>> subsets() {
+    List<Set<String>> subsets = new ArrayList<Set<String>>();
+    for (int bits = 0; bits < (1 << NAMES.length); bits++) {
+      Set<String> subset = new TreeSet<String>();
+      for (int i = 0; i < NAMES.length; i++) {
+        if ((bits & (1 << i)) != 0) {
+          subset.add(NAMES[i]);
+        }
+      }
+      subsets.add(subset);
+    }
+    return subsets;
+  }
+
+  private static Set<String> names(String... names) {
+    return new TreeSet<String>(Arrays.asList(names));
+  }
+
+  private static HasFacets item(String... names) {
+    final Set<Facet> facets = new TreeSet<Facet>();
+    for (String name : names) {
+      facets.add(new Facet(name));
+    }
+    return new HasFacets() {
+      @Override
+      public Set<Facet> getFacets() {
+        return facets;
+      }
+    };
+  }
+}
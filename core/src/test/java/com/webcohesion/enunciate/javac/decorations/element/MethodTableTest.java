@@ -0,0 +1,147 @@
+package com.webcohesion.enunciate.javac.decorations.element;
+
+import com.webcohesion.enunciate.javac.decorations.DecoratedProcessingEnvironment;
+import org.junit.Test;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.JavaCompiler;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ryan Heaton
+ */
+public class MethodTableTest {
+
+  @Test
+  public void testOverloadsDontOverride() throws Exception {
+    Map<String, List<String>> overrides = overrides(
+      "package test; public class Sub extends Base { public void set(String value) {} public void set(Integer value) {} public void set(String value, int index) {} }",
+      "package test; public class Base { public void set(String value) {} }"
+    );
+    assertEquals(Arrays.asList("Sub.set(java.lang.String)"), overrides.get("test.Sub"));
+    assertEquals(Collections.<String>emptyList(), overrides.get("test.Base"));
+  }
+
+  @Test
+  public void testInheritedFromAnySuperclass() throws Exception {
+    Map<String, List<String>> overrides = overrides(
+      "package test; public class Sub extends Middle { public String get() { return null; } public void put(String value) {} }",
+      "package test; public class Middle extends Base { public void put(String value) {} }",
+      "package test; public class Base { public String get() { return null; } }"
+    );
+    assertEquals(Arrays.asList("Sub.get()", "Sub.put(java.lang.String)"), overrides.get("test.Sub"));
+    assertEquals(Collections.<String>emptyList(), overrides.get("test.Middle"));
+  }
+
+  @Test
+  public void testGenericOverrides() throws Exception {
+    Map<String, List<String>> overrides = overrides(
+      "package test; public class Sub extends Base<String> { public String get() { return null; } public void set(String value) {} public void set(Integer value) {} }",
+      "package test; public class Base<T> { public T get() { return null; } public void set(T value) {} }"
+    );
+    //set(T) erases to set(Object), but it's set(String), not set(Integer), that overrides it for Base<String>.
+    assertEquals(Arrays.asList("Sub.get()", "Sub.set(java.lang.String)"), overrides.get("test.Sub"));
+  }
+
+  @Test
+  public void testInterfaceMethodsArentOverridden() throws Exception {
+    Map<String, List<String>> overrides = overrides(
+      "package test; public class Sub extends Base implements Api { public String get() { return null; } public void put(String value) {} }",
+      "package test; public class Base { public void put(String value) {} }",
+      "package test; public interface Api { String get(); void put(String value); }"
+    );
+    //only superclass methods count: implementing an interface method isn't an override, overriding a superclass method is.
+    assertEquals(Arrays.asList("Sub.put(java.lang.String)"), overrides.get("test.Sub"));
+  }
+
+  @Test
+  public void testObjectMethodsArentOverridden() throws Exception {
+    Map<String, List<String>> overrides = overrides(
+      "package test; public class Sub extends Base { public String toString() { return null; } }",
+      "package test; public class Base { }"
+    );
+    assertEquals(Collections.<String>emptyList(), overrides.get("test.Sub"));
+  }
+
+  /**
+   * Find the methods of the given types that override a superclass method, rendering each method as "DeclaringType.name(parameterTypes)".
+   */
+  private static Map<String, List<String>> overrides(String... sources) {
+    List<SourceFile> files = new ArrayList<SourceFile>();
+    for (String source : sources) {
+      files.add(new SourceFile(source));
+    }
+
+    OverridesProcessor processor = new OverridesProcessor();
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    JavaCompiler.CompilationTask task = compiler.getTask(null, null, null, Arrays.asList("-proc:only"), null, files);
+    task.setProcessors(Arrays.asList(processor));
+    assertTrue(task.call());
+    return processor.overrides;
+  }
+
+  @SupportedAnnotationTypes("*")
+  private static class OverridesProcessor extends AbstractProcessor {
+
+    private final Map<String, List<String>> overrides = new HashMap<String, List<String>>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+      return SourceVersion.latest();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+      if (roundEnv.processingOver()) {
+        return false;
+      }
+
+      DecoratedProcessingEnvironment env = new DecoratedProcessingEnvironment(this.processingEnv);
+      for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+        MethodTable table = env.getMethodTable(type);
+        List<String> rendered = new ArrayList<String>();
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+          if (table.overridesAnother(method)) {
+            StringBuilder name = new StringBuilder().append(type.getSimpleName()).append('.').append(method.getSimpleName()).append('(');
+            for (VariableElement parameter : method.getParameters()) {
+              if (parameter != method.getParameters().get(0)) {
+                name.append(',');
+              }
+              name.append(parameter.asType());
+            }
+            rendered.add(name.append(')').toString());
+          }
+        }
+        this.overrides.put(type.getQualifiedName().toString(), rendered);
+      }
+      return false;
+    }
+  }
+
+  private static class SourceFile extends SimpleJavaFileObject {
+
+    private final String source;
+
+    private SourceFile(String source) {
+      super(URI.create("string:///" + source.replaceAll("^package (\\w+);.*?(class|interface) (\\w+).*$", "$1/$3") + Kind.SOURCE.extension), Kind.SOURCE);
+      this.source = source;
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      return source;
+    }
+  }
+}
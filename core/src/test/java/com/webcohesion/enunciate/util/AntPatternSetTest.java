@@ -0,0 +1,118 @@
+package com.webcohesion.enunciate.util;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ryan Heaton
+ */
+public class AntPatternSetTest {
+
+  @Test
+  public void testClassName() throws Exception {
+    AntPatternSet set = set("com.foo.Bar");
+    assertTrue(set.matches("com.foo.Bar"));
+    assertFalse(set.matches("com.foo.Bar2"));
+    assertFalse(set.matches("com.foo"));
+    assertFalse(set.matches(null));
+  }
+
+  @Test
+  public void testSingleSegmentWildcard() throws Exception {
+    AntPatternSet set = set("com.foo.*");
+    assertTrue(set.matches("com.foo.Bar"));
+    assertFalse(set.matches("com.foo.bar.Baz"));
+    assertFalse(set.matches("com.food.Bar"));
+
+    set = set("com.foo.*Service");
+    assertTrue(set.matches("com.foo.Service"));
+    assertTrue(set.matches("com.foo.PersonService"));
+    assertFalse(set.matches("com.foo.PersonServices"));
+    assertFalse(set.matches("com.foo.impl.PersonService"));
+  }
+
+  @Test
+  public void testMultiSegmentWildcard() throws Exception {
+    AntPatternSet set = set("com.foo.**");
+    assertTrue(set.matches("com.foo"));
+    assertTrue(set.matches("com.foo.Bar"));
+    assertTrue(set.matches("com.foo.bar.Baz"));
+    assertFalse(set.matches("com.food"));
+    assertFalse(set.matches("com.food.Bar"));
+    assertFalse(set.matches("org.foo.Bar"));
+
+    set = set("com.**.Bar");
+    assertTrue(set.matches("com.Bar"));
+    assertTrue(set.matches("com.foo.Bar"));
+    assertTrue(set.matches("com.foo.bar.Bar"));
+    assertFalse(set.matches("com.foo.Baz"));
+    assertFalse(set.matches("com.foo.Bar.Baz"));
+
+    set = set("**.Bar");
+    assertTrue(set.matches("Bar"));
+    assertTrue(set.matches("com.foo.Bar"));
+    assertFalse(set.matches("com.foo.Baz"));
+  }
+
+  @Test
+  public void testSingleCharacterWildcard() throws Exception {
+    AntPatternSet set = set("com.foo.B?r");
+    assertTrue(set.matches("com.foo.Bar"));
+    assertTrue(set.matches("com.foo.Bor"));
+    assertFalse(set.matches("com.foo.Br"));
+    assertFalse(set.matches("com.foo.Baar"));
+    assertFalse(set.matches("com.foo.B.r"));
+  }
+
+  @Test
+  public void testPackagePrefix() throws Exception {
+    //the literal prefix of a pattern only rules out names, it doesn't match them.
+    AntPatternSet set = set("com.foo.*.Bar");
+    assertTrue(set.matches("com.foo.x.Bar"));
+    assertFalse(set.matches("com.foo.Bar"));
+    assertFalse(set.matches("com.foo"));
+    assertFalse(set.matches("com.fo"));
+    assertFalse(set.matches("com.foox.x.Bar"));
+  }
+
+  @Test
+  public void testAnyEntryMatches() throws Exception {
+    AntPatternSet set = set("com.foo.**", "org.bar.*", "net.Baz");
+    assertTrue(set.matches("com.foo.x.Y"));
+    assertTrue(set.matches("org.bar.Y"));
+    assertTrue(set.matches("net.Baz"));
+    assertFalse(set.matches("org.bar.x.Y"));
+    assertFalse(set.matches("net.Baz2"));
+    assertFalse(set.matches("io.Y"));
+  }
+
+  @Test
+  public void testCompile() throws Exception {
+    assertNull(AntPatternSet.compile(null));
+    assertNull(AntPatternSet.compile(Collections.<String>emptySet()));
+    assertTrue(AntPatternSet.compile(new HashSet<String>(Arrays.asList("com.**"))).matches("com.Foo"));
+  }
+
+  @Test
+  public void testSameAsMatcher() throws Exception {
+    String[] patterns = {"com.foo.*", "com.foo.**", "com.**.Bar", "**.Bar", "**", "*", "com.*.*", "com.f?o.*", "com.foo.**.*Bar",
+      "com.**.foo.**", "*.foo", "com..foo.*", ".com.*", "com.*.", "com.foo*", "com.foo.**Bar"};
+    String[] names = {"com", "com.foo", "com.foo.Bar", "com.foo.bar.Bar", "com.fao.Bar", "com.food.Bar", "com.Bar", "Bar", "x.foo",
+      "com..foo.Bar", ".com.foo", "com.foo.", "com.fooBar", "com.foo.xBar", "com.foo.foo.Baz", ""};
+    for (String pattern : patterns) {
+      AntPatternSet set = set(pattern);
+      for (String name : names) {
+        assertEquals(pattern + " / " + name, AntPatternMatcher.INSTANCE.match(pattern, name), set.matches(name));
+      }
+    }
+  }
+
+  private static AntPatternSet set(String... patterns) {
+    return new AntPatternSet(Arrays.asList(patterns));
+  }
+}
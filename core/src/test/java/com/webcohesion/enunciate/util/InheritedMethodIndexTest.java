@@ -0,0 +1,141 @@
+package com.webcohesion.enunciate.util;
+
+import com.webcohesion.enunciate.javac.decorations.DecoratedProcessingEnvironment;
+import com.webcohesion.enunciate.javac.decorations.type.TypeVariableContext;
+import org.junit.Test;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.JavaCompiler;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ryan Heaton
+ */
+public class InheritedMethodIndexTest {
+
+  @Test
+  public void testDeclaredMethodsComeFirst() throws Exception {
+    Map<String, List<String>> methods = index(
+      "package test; public class Sub extends Base { public String get() { return null; } public void sub() {} }",
+      "package test; public class Base { public String get() { return null; } public void base() {} }"
+    );
+    assertEquals(Arrays.asList("Sub.get", "Sub.sub", "Base.base"), methods.get("test.Sub"));
+    assertEquals(Arrays.asList("Base.get", "Base.base"), methods.get("test.Base"));
+  }
+
+  @Test
+  public void testInterfaceMethodsComeBeforeSuperclassMethods() throws Exception {
+    Map<String, List<String>> methods = index(
+      "package test; public class Sub extends Base implements Api { public void sub() {} }",
+      "package test; public class Base { public void base() {} }",
+      "package test; public interface Api { void api(); }"
+    );
+    assertEquals(Arrays.asList("Sub.sub", "Api.api", "Base.base"), methods.get("test.Sub"));
+  }
+
+  @Test
+  public void testOverriddenMethodsAreMerged() throws Exception {
+    Map<String, List<String>> methods = index(
+      "package test; public class Sub extends Base { public String get(String id) { return null; } }",
+      "package test; public abstract class Base implements Api { public String get() { return null; } }",
+      "package test; public interface Api { String get(); String get(String id); void put(String value); }"
+    );
+    assertEquals(Arrays.asList("Base.get", "Api.get", "Api.put"), methods.get("test.Base"));
+    assertEquals(Arrays.asList("Sub.get", "Base.get", "Api.put"), methods.get("test.Sub"));
+  }
+
+  @Test
+  public void testVariableContextOfInheritedMethods() throws Exception {
+    Map<String, List<String>> methods = index(
+      "package test; public class Sub extends Base<String> { }",
+      "package test; public class Base<T> { public T find() { return null; } }"
+    );
+    assertEquals(Arrays.asList("Base.find:java.lang.String"), methods.get("test.Sub"));
+  }
+
+  /**
+   * Index the public methods of the given types, rendering each method as "DeclaringType.name", followed by the resolved return type if
+   * the method returns a type variable.
+   */
+  private static Map<String, List<String>> index(String... sources) {
+    List<SourceFile> files = new ArrayList<SourceFile>();
+    for (String source : sources) {
+      files.add(new SourceFile(source));
+    }
+
+    IndexingProcessor processor = new IndexingProcessor();
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    JavaCompiler.CompilationTask task = compiler.getTask(null, null, null, Arrays.asList("-proc:only"), null, files);
+    task.setProcessors(Arrays.asList(processor));
+    assertTrue(task.call());
+    return processor.methods;
+  }
+
+  @SupportedAnnotationTypes("*")
+  private static class IndexingProcessor extends AbstractProcessor {
+
+    private final Map<String, List<String>> methods = new HashMap<String, List<String>>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+      return SourceVersion.latest();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+      if (roundEnv.processingOver()) {
+        return false;
+      }
+
+      final DecoratedProcessingEnvironment env = new DecoratedProcessingEnvironment(this.processingEnv);
+      InheritedMethodIndex index = new InheritedMethodIndex(env) {
+        @Override
+        protected boolean isCandidate(ExecutableElement method) {
+          return method.getModifiers().contains(Modifier.PUBLIC);
+        }
+      };
+
+      for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+        List<String> rendered = new ArrayList<String>();
+        for (InheritedMethodIndex.InheritedMethod inherited : index.getMethods(type)) {
+          ExecutableElement method = inherited.getMethod();
+          String name = method.getEnclosingElement().getSimpleName() + "." + method.getSimpleName();
+          if (method.getReturnType().getKind() == TypeKind.TYPEVAR) {
+            name += ":" + inherited.getVariableContext(new TypeVariableContext()).resolveTypeVariables(method.getReturnType(), env);
+          }
+          rendered.add(name);
+        }
+        this.methods.put(type.getQualifiedName().toString(), rendered);
+      }
+      return false;
+    }
+  }
+
+  private static class SourceFile extends SimpleJavaFileObject {
+
+    private final String source;
+
+    private SourceFile(String source) {
+      super(URI.create("string:///" + source.replaceAll("^package (\\w+);.*?(class|interface) (\\w+).*$", "$1/$3") + Kind.SOURCE.extension), Kind.SOURCE);
+      this.source = source;
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      return source;
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package com.webcohesion.enunciate.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ryan Heaton
+ */
+public class PathTrieTest {
+
+  @Test
+  public void testNodesAreShared() throws Exception {
+    PathTrie trie = new PathTrie();
+    PathTrie.Node node = trie.getRoot().getChild("/persons").getChild("/{id}");
+    assertSame(node, trie.getRoot().getChild("/persons").getChild("/{id}"));
+    assertNotSame(node, trie.getRoot().getChild("/persons").getChild("/{name}"));
+  }
+
+  @Test
+  public void testPath() throws Exception {
+    PathTrie trie = new PathTrie();
+    assertEquals("", trie.getRoot().getPath());
+    PathTrie.Node node = trie.getRoot().getChild("/persons").getChild("/{id}").getChild("/address");
+    assertEquals("/persons/{id}/address", node.getPath());
+    assertEquals("/address", node.getSegment());
+  }
+
+  @Test
+  public void testServletPattern() throws Exception {
+    PathTrie trie = new PathTrie();
+    assertEquals("/persons", trie.getRoot().getChild("/persons").getServletPattern());
+    assertEquals("/persons/*", trie.getRoot().getChild("/persons").getChild("/{id}").getServletPattern());
+    assertEquals("/persons/*", trie.getRoot().getChild("/persons").getChild("/{id}").getChild("/address").getServletPattern());
+  }
+
+  @Test
+  public void testBreadthFirstOrder() throws Exception {
+    List<String> paths = paths();
+    Collections.sort(paths, new BreadthFirstResourcePathComparator());
+    assertEquals(Arrays.asList("/a", "/b", "/a/b", "/a/c", "/b/a"), paths);
+  }
+
+  @Test
+  public void testDepthFirstOrder() throws Exception {
+    List<String> paths = paths();
+    Collections.sort(paths, new DepthFirstResourcePathComparator());
+    assertEquals(Arrays.asList("/a", "/a/b", "/a/c", "/b", "/b/a"), paths);
+  }
+
+  private static List<String> paths() {
+    PathTrie trie = new PathTrie();
+    PathTrie.Node root = trie.getRoot();
+    return new ArrayList<String>(Arrays.asList(
+      root.getChild("/b").getChild("/a").getPath(),
+      root.getChild("/a").getChild("/c").getPath(),
+      root.getChild("/b").getPath(),
+      root.getChild("/a").getChild("/b").getPath(),
+      root.getChild("/a").getPath()
+    ));
+  }
+}
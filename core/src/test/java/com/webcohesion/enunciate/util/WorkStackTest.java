@@ -0,0 +1,93 @@
+package com.webcohesion.enunciate.util;
+
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ryan Heaton
+ */
+public class WorkStackTest {
+
+  private static final Map<String, List<String>> GRAPH = new HashMap<String, List<String>>();
+  static {
+    GRAPH.put("a", Arrays.asList("b", "c", "d"));
+    GRAPH.put("b", Arrays.asList("e", "c"));
+    GRAPH.put("c", Arrays.asList("f", "a"));
+    GRAPH.put("d", Arrays.asList("e"));
+    GRAPH.put("e", Collections.<String>emptyList());
+    GRAPH.put("f", Arrays.asList("g"));
+    GRAPH.put("g", Collections.<String>emptyList());
+  }
+
+  @Test
+  public void testSameOrderAsRecursion() throws Exception {
+    List<String> recursive = new ArrayList<String>();
+    visitRecursively("a", new HashSet<String>(), recursive);
+
+    List<String> iterative = new ArrayList<String>();
+    visit(new WorkStack(), "a", new HashSet<String>(), iterative);
+
+    //each node is recorded before and after its children.
+    assertEquals(Arrays.asList("a", "b", "e", "/e", "c", "f", "g", "/g", "/f", "/c", "/b", "d", "/d", "/a"), recursive);
+    assertEquals(recursive, iterative);
+  }
+
+  @Test
+  public void testStateResetOnFailure() throws Exception {
+    WorkStack work = new WorkStack();
+    final List<String> ran = new ArrayList<String>();
+    try {
+      work.perform(new WorkStack.Step() {
+        @Override
+        public void run() {
+          throw new IllegalStateException();
+        }
+      });
+      fail();
+    }
+    catch (IllegalStateException e) {
+      //fall through...
+    }
+
+    work.perform(new WorkStack.Step() {
+      @Override
+      public void run() {
+        ran.add("run");
+      }
+    });
+    assertEquals(Arrays.asList("run"), ran);
+  }
+
+  private static void visitRecursively(String node, Set<String> visited, List<String> order) {
+    if (visited.add(node)) {
+      order.add(node);
+      for (String child : GRAPH.get(node)) {
+        visitRecursively(child, visited, order);
+      }
+      order.add("/" + node);
+    }
+  }
+
+  private static void visit(final WorkStack work, final String node, final Set<String> visited, final List<String> order) {
+    work.perform(new WorkStack.Step() {
+      @Override
+      public void run() {
+        if (visited.add(node)) {
+          order.add(node);
+          for (String child : GRAPH.get(node)) {
+            visit(work, child, visited, order);
+          }
+          work.perform(new WorkStack.Step() {
+            @Override
+            public void run() {
+              order.add("/" + node);
+            }
+          });
+        }
+      }
+    });
+  }
+}
@@ -104,7 +104,7 @@ public class ClientClassnameForMethod extends com.webcohesion.enunciate.util.fre
   }
 
   @Override
-  public String convert(TypeElement declaration) throws TemplateModelException {
+  protected String loadClassnameConversion(TypeElement declaration) throws TemplateModelException {
     if (classConversions.containsKey(declaration.getQualifiedName().toString())) {
       return classConversions.get(declaration.getQualifiedName().toString());
     }
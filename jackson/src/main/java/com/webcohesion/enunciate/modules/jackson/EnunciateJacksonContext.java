@@ -14,14 +14,18 @@ import com.webcohesion.enunciate.api.datatype.Namespace;
 import com.webcohesion.enunciate.api.datatype.Syntax;
 import com.webcohesion.enunciate.api.resources.MediaTypeDescriptor;
 import com.webcohesion.enunciate.facets.FacetFilter;
+import com.webcohesion.enunciate.javac.decorations.Annotations;
+import com.webcohesion.enunciate.javac.decorations.DecoratedProcessingEnvironment;
 import com.webcohesion.enunciate.javac.decorations.SourcePosition;
 import com.webcohesion.enunciate.javac.decorations.type.DecoratedDeclaredType;
 import com.webcohesion.enunciate.javac.decorations.type.DecoratedTypeMirror;
+import com.webcohesion.enunciate.javac.decorations.type.TypeMirrorUtils;
 import com.webcohesion.enunciate.metadata.json.JsonSeeAlso;
 import com.webcohesion.enunciate.metadata.qname.XmlQNameEnum;
 import com.webcohesion.enunciate.module.EnunciateModuleContext;
 import com.webcohesion.enunciate.modules.jackson.api.impl.DataTypeReferenceImpl;
 import com.webcohesion.enunciate.modules.jackson.api.impl.EnumDataTypeImpl;
+import com.webcohesion.enunciate.modules.jackson.api.impl.ExampleCache;
 import com.webcohesion.enunciate.modules.jackson.api.impl.MediaTypeDescriptorImpl;
 import com.webcohesion.enunciate.modules.jackson.api.impl.ObjectDataTypeImpl;
 import com.webcohesion.enunciate.modules.jackson.model.*;
@@ -32,20 +36,23 @@ import com.webcohesion.enunciate.modules.jackson.model.types.KnownJsonType;
 import com.webcohesion.enunciate.modules.jackson.model.util.JacksonUtil;
 import com.webcohesion.enunciate.modules.jackson.model.util.MapType;
 import com.webcohesion.enunciate.util.IgnoreUtils;
+import com.webcohesion.enunciate.util.KnownTypeRegistry;
 import com.webcohesion.enunciate.util.OneTimeLogMessage;
+import com.webcohesion.enunciate.util.ReferenceGraph;
+import com.webcohesion.enunciate.util.WorkStack;
 
 import javax.activation.DataHandler;
+import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.*;
-import javax.lang.model.util.Elements;
 import javax.lang.model.util.SimpleTypeVisitor6;
-import javax.lang.model.util.Types;
 import javax.xml.bind.JAXBElement;
 import javax.xml.datatype.XMLGregorianCalendar;
 import java.sql.Timestamp;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Ryan Heaton
@@ -55,21 +62,43 @@ public class EnunciateJacksonContext extends EnunciateModuleContext implements S
 
   public static final String SYNTAX_LABEL = "JSON";
 
-  private final Map<String, JsonType> knownTypes;
+  /**
+   * The known types by qualified name for each date type, shared by all contexts.
+   */
+  private static final Map<KnownJsonType, Map<String, JsonType>> KNOWN_TYPES = new EnumMap<KnownJsonType, Map<String, JsonType>>(KnownJsonType.class);
+  static {
+    for (KnownJsonType dateType : KnownJsonType.values()) {
+      KNOWN_TYPES.put(dateType, loadDefaultKnownTypes(dateType));
+    }
+  }
+
+  private final KnownTypeRegistry<JsonType> knownTypes;
   private final Map<String, TypeDefinition> typeDefinitions;
   private final boolean honorJaxb;
   private final KnownJsonType dateType;
   private final Map<String, TypeDefinition> typeDefinitionsBySlug;
+  private final Map<String, String> slugsByQualifiedName;
   private final boolean collapseTypeHierarchy;
+  private final ReferenceGraph referenceGraph;
+  private final WorkStack typeDefinitionWork;
+  private final Map<String, JsonType> resolvedTypes;
+  private final Map<String, DataTypeReference> dataTypeReferences;
+  private final ExampleCache exampleCache;
 
   public EnunciateJacksonContext(EnunciateContext context, boolean honorJaxb, KnownJsonType dateType, boolean collapseTypeHierarchy) {
     super(context);
     this.dateType = dateType;
-    this.knownTypes = loadKnownTypes();
+    this.knownTypes = new KnownTypeRegistry<JsonType>(loadKnownTypes(), context.getProcessingEnvironment(), JAXBElement.class);
     this.typeDefinitions = new HashMap<String, TypeDefinition>();
     this.honorJaxb = honorJaxb;
     this.collapseTypeHierarchy = collapseTypeHierarchy;
     this.typeDefinitionsBySlug = new HashMap<String, TypeDefinition>();
+    this.slugsByQualifiedName = new HashMap<String, String>();
+    this.referenceGraph = new ReferenceGraph();
+    this.typeDefinitionWork = new WorkStack();
+    this.resolvedTypes = new ConcurrentHashMap<String, JsonType>();
+    this.dataTypeReferences = new ConcurrentHashMap<String, DataTypeReference>();
+    this.exampleCache = new ExampleCache();
   }
 
   @Override
@@ -86,6 +115,44 @@ public class EnunciateJacksonContext extends EnunciateModuleContext implements S
     return context;
   }
 
+  /**
+   * The graph of where each type definition was referenced from.
+   *
+   * @return The graph of where each type definition was referenced from.
+   */
+  public ReferenceGraph getReferenceGraph() {
+    return referenceGraph;
+  }
+
+  /**
+   * The JSON type resolved for the type mirror with the given canonical key (see {@link TypeMirrorUtils#getCanonicalKey(TypeMirror)}), if it's been resolved.
+   *
+   * @param key The canonical key of the type mirror.
+   * @return The resolved type, or null.
+   */
+  public JsonType findResolvedType(String key) {
+    return this.resolvedTypes.get(key);
+  }
+
+  /**
+   * Cache the JSON type resolved for the type mirror with the given canonical key. The cache is reset whenever a type definition is added.
+   *
+   * @param key The canonical key of the type mirror.
+   * @param type The resolved type.
+   */
+  public void cacheResolvedType(String key, JsonType type) {
+    this.resolvedTypes.put(key, type);
+  }
+
+  /**
+   * The memoized JSON examples of the type definitions of this context.
+   *
+   * @return The memoized JSON examples.
+   */
+  public ExampleCache getExampleCache() {
+    return exampleCache;
+  }
+
   public boolean isHonorJaxb() {
     return honorJaxb;
   }
@@ -138,6 +205,12 @@ public class EnunciateJacksonContext extends EnunciateModuleContext implements S
       return null;
     }
 
+    String key = TypeMirrorUtils.getCanonicalKey(typeMirror);
+    DataTypeReference reference = key == null ? null : this.dataTypeReferences.get(key);
+    if (reference != null) {
+      return reference;
+    }
+
     JsonType jsonType;
     try {
       jsonType = JsonTypeFactory.getJsonType(typeMirror, this);
@@ -146,7 +219,11 @@ public class EnunciateJacksonContext extends EnunciateModuleContext implements S
       jsonType = null;
     }
 
-    return jsonType == null ? null : new DataTypeReferenceImpl(jsonType);
+    reference = jsonType == null ? null : new DataTypeReferenceImpl(jsonType);
+    if (key != null && reference != null) {
+      this.dataTypeReferences.put(key, reference);
+    }
+    return reference;
   }
 
   @Override
@@ -159,20 +236,26 @@ public class EnunciateJacksonContext extends EnunciateModuleContext implements S
   }
 
   public JsonType getKnownType(Element declaration) {
-    if (declaration instanceof TypeElement) {
-      return this.knownTypes.get(((TypeElement) declaration).getQualifiedName().toString());
-    }
-    return null;
+    return this.knownTypes.getKnownType(declaration);
   }
 
   public TypeDefinition findTypeDefinition(Element declaration) {
     if (declaration instanceof TypeElement) {
-      return this.typeDefinitions.get(((TypeElement) declaration).getQualifiedName().toString());
+      return this.typeDefinitions.get(this.context.getProcessingEnvironment().getQualifiedName(declaration));
     }
     return null;
   }
 
+  /**
+   * Loads the (shared) table of the known types by qualified name, given the configured date type.
+   *
+   * @return The table of the known types.
+   */
   protected Map<String, JsonType> loadKnownTypes() {
+    return KNOWN_TYPES.get(this.dateType);
+  }
+
+  private static Map<String, JsonType> loadDefaultKnownTypes(KnownJsonType dateType) {
     HashMap<String, JsonType> knownTypes = new HashMap<String, JsonType>();
 
     knownTypes.put(Boolean.class.getName(), KnownJsonType.BOOLEAN);
@@ -194,16 +277,16 @@ public class EnunciateJacksonContext extends EnunciateModuleContext implements S
     knownTypes.put(String.class.getName(), KnownJsonType.STRING);
     knownTypes.put(java.math.BigInteger.class.getName(), KnownJsonType.WHOLE_NUMBER);
     knownTypes.put(java.math.BigDecimal.class.getName(), KnownJsonType.NUMBER);
-    knownTypes.put(java.util.Calendar.class.getName(), this.dateType);
-    knownTypes.put(java.util.Date.class.getName(), this.dateType);
-    knownTypes.put(Timestamp.class.getName(), this.dateType);
+    knownTypes.put(java.util.Calendar.class.getName(), dateType);
+    knownTypes.put(java.util.Date.class.getName(), dateType);
+    knownTypes.put(Timestamp.class.getName(), dateType);
     knownTypes.put(java.net.URI.class.getName(), KnownJsonType.STRING);
     knownTypes.put(java.lang.Object.class.getName(), KnownJsonType.OBJECT);
     knownTypes.put(byte[].class.getName(), KnownJsonType.STRING);
     knownTypes.put(DataHandler.class.getName(), KnownJsonType.STRING);
     knownTypes.put(java.util.UUID.class.getName(), KnownJsonType.STRING);
-    knownTypes.put(XMLGregorianCalendar.class.getName(), this.dateType);
-    knownTypes.put(GregorianCalendar.class.getName(), this.dateType);
+    knownTypes.put(XMLGregorianCalendar.class.getName(), dateType);
+    knownTypes.put(GregorianCalendar.class.getName(), dateType);
     knownTypes.put(JsonNode.class.getName(), KnownJsonType.OBJECT);
     knownTypes.put(ContainerNode.class.getName(), KnownJsonType.OBJECT);
     knownTypes.put(ArrayNode.class.getName(), KnownJsonType.ARRAY);
@@ -226,9 +309,9 @@ public class EnunciateJacksonContext extends EnunciateModuleContext implements S
     knownTypes.put(Class.class.getName(), KnownJsonType.OBJECT);
 
     knownTypes.put("java.time.Period", KnownJsonType.STRING);
-    knownTypes.put("java.time.Duration", this.dateType);
-    knownTypes.put("java.time.Instant", this.dateType);
-    knownTypes.put("java.time.Year", this.dateType);
+    knownTypes.put("java.time.Duration", dateType);
+    knownTypes.put("java.time.Instant", dateType);
+    knownTypes.put("java.time.Year", dateType);
     knownTypes.put("java.time.YearMonth", KnownJsonType.STRING);
     knownTypes.put("java.time.MonthDay", KnownJsonType.STRING);
     knownTypes.put("java.time.ZoneId", KnownJsonType.STRING);
@@ -237,12 +320,12 @@ public class EnunciateJacksonContext extends EnunciateModuleContext implements S
     knownTypes.put("java.time.LocalTime", KnownJsonType.STRING);
     knownTypes.put("java.time.LocalDateTime", KnownJsonType.STRING);
     knownTypes.put("java.time.OffsetTime", KnownJsonType.STRING);
-    knownTypes.put("java.time.ZonedDateTime", this.dateType);
-    knownTypes.put("java.time.OffsetDateTime", this.dateType);
-    knownTypes.put("org.joda.time.DateTime", this.dateType);
+    knownTypes.put("java.time.ZonedDateTime", dateType);
+    knownTypes.put("java.time.OffsetDateTime", dateType);
+    knownTypes.put("org.joda.time.DateTime", dateType);
 
 
-    return knownTypes;
+    return Collections.unmodifiableMap(knownTypes);
   }
 
   /**
@@ -344,9 +427,37 @@ public class EnunciateJacksonContext extends EnunciateModuleContext implements S
     return IgnoreUtils.isIgnored(el) || (el.getAnnotation(JsonIgnore.class) != null && el.getAnnotation(JsonIgnore.class).value());
   }
 
-  public void add(TypeDefinition typeDef, LinkedList<Element> stack) {
+  /**
+   * Add a type definition to the model, along with the type definitions it references. The referenced type definitions are added depth-first
+   * from a work stack instead of recursively, so a deep type graph doesn't grow the call stack.
+   *
+   * @param typeDef The type definition.
+   * @param stack   The context stack.
+   */
+  public void add(final TypeDefinition typeDef, LinkedList<Element> stack) {
     if (findTypeDefinition(typeDef) == null && !isKnownType(typeDef)) {
-      this.typeDefinitions.put(typeDef.getQualifiedName().toString(), typeDef);
+      final LinkedList<Element> referenceStack = new LinkedList<Element>(stack);
+      this.typeDefinitionWork.perform(new WorkStack.Step() {
+        @Override
+        public void run() {
+          addTypeDefinition(typeDef, referenceStack);
+        }
+      });
+    }
+  }
+
+  /**
+   * Add a type definition to the model and perform the step that adds the type definitions it references.
+   *
+   * @param typeDef The type definition.
+   * @param stack   The context stack.
+   */
+  protected void addTypeDefinition(final TypeDefinition typeDef, final LinkedList<Element> stack) {
+    if (findTypeDefinition(typeDef) == null && !isKnownType(typeDef)) {
+      this.typeDefinitions.put(this.context.getProcessingEnvironment().getQualifiedName(typeDef), typeDef);
+      //the resolved types may depend on which type definitions are in the model.
+      this.resolvedTypes.clear();
+      this.dataTypeReferences.clear();
 
       if (this.context.isExcluded(typeDef)) {
         warn("Added %s as a Jackson type definition even though is was supposed to be excluded according to configuration. It was referenced from %s%s, so it had to be included to prevent broken references.", typeDef.getQualifiedName(), stack.size() > 0 ? stack.get(0) : "an unknown location", stack.size() > 1 ? " of " + stack.get(1) : "");
@@ -360,29 +471,28 @@ public class EnunciateJacksonContext extends EnunciateModuleContext implements S
         debug("Unable to find source file for %s.", typeDef.getQualifiedName());
       }
 
-      typeDef.getReferencedFrom().addAll(stack);
-      try {
-        stack.push(typeDef);
-
-        addSeeAlsoTypeDefinitions(typeDef, stack);
+      this.referenceGraph.addReference(typeDef, stack);
+      stack.push(typeDef);
+      this.typeDefinitionWork.perform(new WorkStack.Step() {
+        @Override
+        public void run() {
+          addSeeAlsoTypeDefinitions(typeDef, stack);
 
-        for (Member member : typeDef.getMembers()) {
-          addReferencedTypeDefinitions(member, stack);
-        }
+          for (Member member : typeDef.getMembers()) {
+            addReferencedTypeDefinitions(member, stack);
+          }
 
-        Value value = typeDef.getValue();
-        if (value != null) {
-          addReferencedTypeDefinitions(value, stack);
-        }
+          Value value = typeDef.getValue();
+          if (value != null) {
+            addReferencedTypeDefinitions(value, stack);
+          }
 
-        TypeMirror superclass = typeDef.getSuperclass();
-        if (!typeDef.isEnum() && superclass != null && superclass.getKind() != TypeKind.NONE && !isCollapseTypeHierarchy()) {
-          addReferencedTypeDefinitions(superclass, stack);
+          TypeMirror superclass = typeDef.getSuperclass();
+          if (!typeDef.isEnum() && superclass != null && superclass.getKind() != TypeKind.NONE && !isCollapseTypeHierarchy()) {
+            addReferencedTypeDefinitions(superclass, stack);
+          }
         }
-      }
-      finally {
-        stack.pop();
-      }
+      });
     }
   }
 
@@ -461,32 +571,14 @@ public class EnunciateJacksonContext extends EnunciateModuleContext implements S
    * @param declaration The declaration.
    */
   protected void addSeeAlsoTypeDefinitions(Element declaration, LinkedList<Element> stack) {
-    JsonSubTypes subTypes = declaration.getAnnotation(JsonSubTypes.class);
-    if (subTypes != null) {
-      Elements elementUtils = getContext().getProcessingEnvironment().getElementUtils();
-      Types typeUtils = getContext().getProcessingEnvironment().getTypeUtils();
-      JsonSubTypes.Type[] types = subTypes.value();
-      for (JsonSubTypes.Type type : types) {
+    DecoratedProcessingEnvironment env = getContext().getProcessingEnvironment();
+    List<AnnotationMirror> subTypes = Annotations.annotationsOf(declaration, JsonSubTypes.class, "value", env);
+    if (!subTypes.isEmpty()) {
+      TypeElement subTypesDeclaration = env.getElementUtils().getTypeElement(JsonSubTypes.class.getName());
+      for (AnnotationMirror type : subTypes) {
+        stack.push(subTypesDeclaration);
         try {
-          stack.push(elementUtils.getTypeElement(JsonSubTypes.class.getName()));
-          Class clazz = type.value();
-          add(createTypeDefinition(elementUtils.getTypeElement(clazz.getName())), stack);
-        }
-        catch (MirroredTypeException e) {
-          TypeMirror mirror = e.getTypeMirror();
-          Element element = typeUtils.asElement(mirror);
-          if (element instanceof TypeElement) {
-            add(createTypeDefinition((TypeElement)element), stack);
-          }
-        }
-        catch (MirroredTypesException e) {
-          List<? extends TypeMirror> mirrors = e.getTypeMirrors();
-          for (TypeMirror mirror : mirrors) {
-            Element element = typeUtils.asElement(mirror);
-            if (element instanceof TypeElement) {
-              add(createTypeDefinition((TypeElement)element), stack);
-            }
-          }
+          addSeeAlsoTypeDefinition(Annotations.mirrorOf(type, "value", env, null), stack);
         }
         finally {
           stack.pop();
@@ -494,31 +586,12 @@ public class EnunciateJacksonContext extends EnunciateModuleContext implements S
       }
     }
 
-    JsonSeeAlso seeAlso = declaration.getAnnotation(JsonSeeAlso.class);
-    if (seeAlso != null) {
-      Elements elementUtils = getContext().getProcessingEnvironment().getElementUtils();
-      Types typeUtils = getContext().getProcessingEnvironment().getTypeUtils();
-      stack.push(elementUtils.getTypeElement(JsonSeeAlso.class.getName()));
+    List<DecoratedTypeMirror> seeAlsos = Annotations.mirrorsOf(declaration, JsonSeeAlso.class, "value", env);
+    if (!seeAlsos.isEmpty()) {
+      stack.push(env.getElementUtils().getTypeElement(JsonSeeAlso.class.getName()));
       try {
-        Class[] classes = seeAlso.value();
-        for (Class clazz : classes) {
-          add(createTypeDefinition(elementUtils.getTypeElement(clazz.getName())), stack);
-        }
-      }
-      catch (MirroredTypeException e) {
-        TypeMirror mirror = e.getTypeMirror();
-        Element element = typeUtils.asElement(mirror);
-        if (element instanceof TypeElement) {
-          add(createTypeDefinition((TypeElement) element), stack);
-        }
-      }
-      catch (MirroredTypesException e) {
-        List<? extends TypeMirror> mirrors = e.getTypeMirrors();
-        for (TypeMirror mirror : mirrors) {
-          Element element = typeUtils.asElement(mirror);
-          if (element instanceof TypeElement) {
-            add(createTypeDefinition((TypeElement) element), stack);
-          }
+        for (DecoratedTypeMirror seeAlso : seeAlsos) {
+          addSeeAlsoTypeDefinition(seeAlso, stack);
         }
       }
       finally {
@@ -527,6 +600,13 @@ public class EnunciateJacksonContext extends EnunciateModuleContext implements S
     }
   }
 
+  private void addSeeAlsoTypeDefinition(TypeMirror mirror, LinkedList<Element> stack) {
+    Element element = mirror instanceof DeclaredType ? ((DeclaredType) mirror).asElement() : null;
+    if (element instanceof TypeElement) {
+      add(createTypeDefinition((TypeElement) element), stack);
+    }
+  }
+
   /**
    * Whether the specified type is a known type.
    *
@@ -534,7 +614,7 @@ public class EnunciateJacksonContext extends EnunciateModuleContext implements S
    * @return Whether the specified type is a known type.
    */
   protected boolean isKnownType(TypeElement typeDef) {
-    return knownTypes.containsKey(typeDef.getQualifiedName().toString()) || ((DecoratedTypeMirror) typeDef.asType()).isInstanceOf(JAXBElement.class);
+    return this.knownTypes.isKnownType(typeDef);
   }
 
   /**
@@ -544,8 +624,14 @@ public class EnunciateJacksonContext extends EnunciateModuleContext implements S
    * @return The slug for the type definition.
    */
   public String getSlug(TypeDefinition typeDefinition) {
-    String[] qualifiedNameTokens = typeDefinition.getQualifiedName().toString().split("\\.");
-    String slug = "";
+    String qualifiedName = this.context.getProcessingEnvironment().getQualifiedName(typeDefinition);
+    String slug = this.slugsByQualifiedName.get(qualifiedName);
+    if (slug != null) {
+      return slug;
+    }
+
+    String[] qualifiedNameTokens = qualifiedName.split("\\.");
+    slug = "";
     for (int i = qualifiedNameTokens.length - 1; i >= 0; i--) {
       slug = slug.isEmpty() ? qualifiedNameTokens[i] : slug + "_" + qualifiedNameTokens[i];
 
@@ -555,11 +641,12 @@ public class EnunciateJacksonContext extends EnunciateModuleContext implements S
         this.typeDefinitionsBySlug.put(slug, entry);
       }
 
-      if (entry.getQualifiedName().toString().equals(typeDefinition.getQualifiedName().toString())) {
-        return slug;
+      if (this.context.getProcessingEnvironment().getQualifiedName(entry).equals(qualifiedName)) {
+        break;
       }
     }
 
+    this.slugsByQualifiedName.put(qualifiedName, slug);
     return slug;
   }
 
@@ -0,0 +1,48 @@
+package com.webcohesion.enunciate.modules.jackson.api.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The JSON examples of a Jackson context, memoized per type definition: the rendered example bodies and the example fragments
+ * of the types that are nested in other examples.
+ *
+ * @author Ryan Heaton
+ */
+public class ExampleCache {
+
+  private final Map<String, Fragment> fragments = new ConcurrentHashMap<String, Fragment>();
+  private final Map<String, String> bodies = new ConcurrentHashMap<String, String>();
+
+  Fragment getFragment(String key) {
+    return this.fragments.get(key);
+  }
+
+  void putFragment(String key, Fragment fragment) {
+    this.fragments.put(key, fragment);
+  }
+
+  String getBody(String key) {
+    return this.bodies.get(key);
+  }
+
+  void putBody(String key, String body) {
+    this.bodies.put(key, body);
+  }
+
+  /**
+   * A (complete) example fragment of a type and the number of nodes in it. Fragments are shared, so they must not be modified.
+   */
+  static final class Fragment {
+
+    final JsonNode node;
+    final int size;
+
+    Fragment(JsonNode node, int size) {
+      this.node = node;
+      this.size = size;
+    }
+  }
+}
@@ -18,7 +18,7 @@ package com.webcohesion.enunciate.modules.jackson.model;
 
 import com.webcohesion.enunciate.facets.Facet;
 import com.webcohesion.enunciate.facets.HasFacets;
-import com.webcohesion.enunciate.javac.decorations.TypeMirrorDecorator;
+import com.webcohesion.enunciate.javac.decorations.Annotations;
 import com.webcohesion.enunciate.javac.decorations.element.DecoratedElement;
 import com.webcohesion.enunciate.javac.decorations.type.DecoratedDeclaredType;
 import com.webcohesion.enunciate.javac.decorations.type.DecoratedTypeMirror;
@@ -35,7 +35,6 @@ import com.webcohesion.enunciate.modules.jackson.model.util.MapType;
 import com.webcohesion.enunciate.util.HasClientConvertibleType;
 
 import javax.lang.model.element.Element;
-import javax.lang.model.type.MirroredTypeException;
 import javax.lang.model.type.TypeMirror;
 import java.util.LinkedList;
 import java.util.Set;
@@ -216,17 +215,7 @@ public abstract class Accessor extends DecoratedElement<javax.lang.model.element
    * @return The enum type containing the known qnames for this qname enum accessor.
    */
   public DecoratedTypeMirror getQNameEnumRef() {
-    XmlQNameEnumRef enumRef = getAnnotation(XmlQNameEnumRef.class);
-    DecoratedTypeMirror qnameEnumType = null;
-    if (enumRef != null) {
-      try {
-        qnameEnumType = TypeMirrorUtils.mirrorOf(enumRef.value(), this.env);
-      }
-      catch (MirroredTypeException e) {
-        qnameEnumType = (DecoratedTypeMirror) TypeMirrorDecorator.decorate(e.getTypeMirror(), this.env);
-      }
-    }
-    return qnameEnumType;
+    return Annotations.mirrorOf(this, XmlQNameEnumRef.class, "value", this.env);
   }
 
   /**
@@ -235,7 +224,7 @@ public abstract class Accessor extends DecoratedElement<javax.lang.model.element
    * @return The referenced-from list.
    */
   public LinkedList<Element> getReferencedFrom() {
-    LinkedList<Element> stack = new LinkedList<Element>(this.typeDefinition.getReferencedFrom());
+    LinkedList<Element> stack = this.typeDefinition.getReferencedFrom();
     stack.add(this);
     return stack;
   }
@@ -28,6 +28,7 @@ import com.webcohesion.enunciate.modules.jackson.model.types.JsonType;
 import com.webcohesion.enunciate.modules.jackson.model.types.JsonTypeFactory;
 import com.webcohesion.enunciate.util.BeanValidationUtils;
 
+import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.DeclaredType;
 import javax.xml.bind.annotation.*;
@@ -35,7 +36,6 @@ import java.beans.Introspector;
 import java.lang.annotation.IncompleteAnnotationException;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.concurrent.Callable;
 
 /**
  * An accessor that is marshalled in json to an json element.
@@ -73,15 +73,10 @@ public class Member extends Accessor {
     XmlElementRefs xmlElementRefs = getAnnotation(XmlElementRefs.class);
 
     if (subTypes != null && subTypes.value().length > 0) {
-      for (final JsonSubTypes.Type element : subTypes.value()) {
-        DecoratedTypeMirror choiceType = Annotations.mirrorOf(new Callable<Class<?>>() {
-          @Override
-          public Class<?> call() throws Exception {
-            return element.value();
-          }
-        }, this.env);
+      for (AnnotationMirror element : Annotations.annotationsOf(this, JsonSubTypes.class, "value", this.env)) {
+        DecoratedTypeMirror choiceType = Annotations.mirrorOf(element, "value", this.env, null);
         if (choiceType != null) {
-          String choiceTypeId = element.name();
+          String choiceTypeId = (String) Annotations.valueOf(element, "name");
           if ("".equals(choiceTypeId)) {
             //try to look at the type.
             if (choiceType.isDeclared()) {
@@ -117,15 +112,10 @@ public class Member extends Accessor {
       typeIdInclusion = JsonTypeInfo.As.WRAPPER_OBJECT;
 
       if (xmlElements != null) {
-        for (final XmlElement xmlElement : xmlElements.value()) {
-          DecoratedTypeMirror choiceType = Annotations.mirrorOf(new Callable<Class<?>>() {
-            @Override
-            public Class<?> call() throws Exception {
-              return xmlElement.type();
-            }
-          }, this.env);
+        for (AnnotationMirror xmlElement : Annotations.annotationsOf(this, XmlElements.class, "value", this.env)) {
+          DecoratedTypeMirror choiceType = Annotations.mirrorOf(xmlElement, "type", this.env, null);
           if (choiceType != null) {
-            String choiceTypeId = xmlElement.name();
+            String choiceTypeId = (String) Annotations.valueOf(xmlElement, "name");
 
             if ("##default".equals(choiceTypeId)) {
               choiceTypeId = "";
@@ -137,15 +127,10 @@ public class Member extends Accessor {
       }
 
       if (xmlElementRefs != null) {
-        for (final XmlElementRef elementRef : xmlElementRefs.value()) {
-          DecoratedTypeMirror choiceType = Annotations.mirrorOf(new Callable<Class<?>>() {
-            @Override
-            public Class<?> call() throws Exception {
-              return elementRef.type();
-            }
-          }, this.env);
+        for (AnnotationMirror elementRef : Annotations.annotationsOf(this, XmlElementRefs.class, "value", this.env)) {
+          DecoratedTypeMirror choiceType = Annotations.mirrorOf(elementRef, "type", this.env, null);
           if (choiceType != null) {
-            String choiceTypeId = elementRef.name();
+            String choiceTypeId = (String) Annotations.valueOf(elementRef, "name");
 
             if ("##default".equals(choiceTypeId)) {
               TypeElement choiceElement = (TypeElement) ((DeclaredType) choiceType).asElement();
@@ -29,12 +29,12 @@ import com.webcohesion.enunciate.modules.jackson.model.util.JacksonUtil;
 import com.webcohesion.enunciate.modules.jackson.model.util.MapType;
 import com.webcohesion.enunciate.util.TypeHintUtils;
 
+import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.*;
 import javax.lang.model.util.SimpleTypeVisitor6;
 import java.util.LinkedList;
-import java.util.concurrent.Callable;
 
 /**
  * Utility visitor for discovering the json types of type mirrors.
@@ -75,7 +75,7 @@ public class JsonTypeVisitor extends SimpleTypeVisitor6<JsonType, JsonTypeVisito
     context.getStack().push(fqn);
 
     try {
-      TypeHint typeHint = declaredElement.getAnnotation(TypeHint.class);
+      AnnotationMirror typeHint = Annotations.findAnnotation(declaredElement, TypeHint.class);
       if (typeHint != null) {
         TypeMirror hint = TypeHintUtils.getTypeHint(typeHint, context.getContext().getContext().getProcessingEnvironment(), null);
         if (hint != null) {
@@ -83,27 +83,17 @@ public class JsonTypeVisitor extends SimpleTypeVisitor6<JsonType, JsonTypeVisito
         }
       }
 
-      final JsonSerialize serializeInfo = declaredElement.getAnnotation(JsonSerialize.class);
+      JsonSerialize serializeInfo = declaredElement.getAnnotation(JsonSerialize.class);
       if (serializeInfo != null) {
         DecoratedProcessingEnvironment env = context.getContext().getContext().getProcessingEnvironment();
-        DecoratedTypeMirror using = Annotations.mirrorOf(new Callable<Class<?>>() {
-          @Override
-          public Class<?> call() throws Exception {
-            return serializeInfo.using();
-          }
-        }, env, JsonSerializer.None.class);
+        DecoratedTypeMirror using = Annotations.mirrorOf(declaredElement, JsonSerialize.class, "using", env, JsonSerializer.None.class);
 
         if (using != null) {
           //custom serializer; just say it's an object.
           jsonType = KnownJsonType.OBJECT;
         }
 
-        DecoratedTypeMirror as = Annotations.mirrorOf(new Callable<Class<?>>() {
-          @Override
-          public Class<?> call() throws Exception {
-            return serializeInfo.as();
-          }
-        }, env, Void.class);
+        DecoratedTypeMirror as = Annotations.mirrorOf(declaredElement, JsonSerialize.class, "as", env, Void.class);
 
         if (as != null) {
           jsonType = (JsonType) as.accept(this, new Context(context.context, false, false, context.stack));
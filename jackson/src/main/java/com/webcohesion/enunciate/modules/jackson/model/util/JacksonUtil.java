@@ -35,7 +35,6 @@ import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeMirror;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import java.util.List;
-import java.util.concurrent.Callable;
 
 /**
  * Consolidation of common logic for implementing the Jackson contract.
@@ -91,21 +90,12 @@ public class JacksonUtil {
   private static AdapterType findAdapterType(DecoratedTypeMirror maybeContainedAdaptedType, Element referer, EnunciateJacksonContext context) {
     DecoratedProcessingEnvironment env = context.getContext().getProcessingEnvironment();
     TypeMirror adaptedType = TypeMirrorUtils.getComponentType(maybeContainedAdaptedType, env);
-    final boolean isContained = adaptedType != null;
+    boolean isContained = adaptedType != null;
     adaptedType = isContained ? adaptedType : maybeContainedAdaptedType;
-    JsonSerialize serializationInfo = referer != null ? referer.getAnnotation(JsonSerialize.class) : null;
-    if (serializationInfo == null && adaptedType instanceof DeclaredType) {
-      serializationInfo = ((DeclaredType) adaptedType).asElement().getAnnotation(JsonSerialize.class);
-    }
+    Element serializationSource = referer != null && Annotations.findAnnotation(referer, JsonSerialize.class) != null ? referer : adaptedType instanceof DeclaredType ? ((DeclaredType) adaptedType).asElement() : null;
 
-    if (serializationInfo != null) {
-      final JsonSerialize finalInfo = serializationInfo;
-      DecoratedTypeMirror adapterTypeMirror = Annotations.mirrorOf(new Callable<Class<?>>() {
-        @Override
-        public Class<?> call() throws Exception {
-          return isContained ? finalInfo.contentConverter() : finalInfo.converter();
-        }
-      }, env, Converter.None.class);
+    if (serializationSource != null) {
+      DecoratedTypeMirror adapterTypeMirror = Annotations.mirrorOf(serializationSource, JsonSerialize.class, isContained ? "contentConverter" : "converter", env, Converter.None.class);
 
       if (adapterTypeMirror instanceof  DeclaredType) {
         AdapterType adapterType = new AdapterType((DeclaredType) adapterTypeMirror, context);
@@ -119,22 +109,10 @@ public class JacksonUtil {
     }
 
     if (context.isHonorJaxb()) {
-      XmlJavaTypeAdapter typeAdapterInfo = referer != null ? referer.getAnnotation(XmlJavaTypeAdapter.class) : null;
-      if (adaptedType instanceof DeclaredType) {
-        if (typeAdapterInfo == null) {
-          typeAdapterInfo = ((DeclaredType) adaptedType).asElement().getAnnotation(XmlJavaTypeAdapter.class);
-        }
-      }
-
-      if (typeAdapterInfo != null) {
-        final XmlJavaTypeAdapter finalInfo = typeAdapterInfo;
-        DecoratedDeclaredType adapterTypeMirror = (DecoratedDeclaredType) Annotations.mirrorOf(new Callable<Class<?>>() {
-          @Override
-          public Class<?> call() throws Exception {
-            return finalInfo.value();
-          }
-        }, env);
+      Element typeAdapterSource = referer != null && Annotations.findAnnotation(referer, XmlJavaTypeAdapter.class) != null ? referer : adaptedType instanceof DeclaredType ? ((DeclaredType) adaptedType).asElement() : null;
+      DecoratedDeclaredType adapterTypeMirror = typeAdapterSource == null ? null : (DecoratedDeclaredType) Annotations.mirrorOf(typeAdapterSource, XmlJavaTypeAdapter.class, "value", env);
 
+      if (adapterTypeMirror != null) {
         AdapterType adapterType = new AdapterType(adapterTypeMirror, context);
         if ((adaptedType instanceof DeclaredType && adapterType.canAdapt(adaptedType, context.getContext())) ||
           (maybeContainedAdaptedType != adaptedType && adapterType.canAdapt(maybeContainedAdaptedType, context.getContext()))) {
@@ -30,6 +30,14 @@ import java.util.Random;
  */
 public class ExampleImpl implements Example {
 
+  /**
+   * The maximum number of nodes in an example. Nested types are expanded until a type would repeat (a cycle) or the budget
+   * is spent, after which nested objects are left empty.
+   */
+  static final int MAX_EXAMPLE_NODES = 300;
+
+  private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationConfig.Feature.INDENT_OUTPUT);
+
   private final ObjectTypeDefinition type;
 
   public ExampleImpl(ObjectTypeDefinition type) {
@@ -43,15 +51,22 @@ public class ExampleImpl implements Example {
 
   @Override
   public String getBody() {
+    ExampleCache exampleCache = this.type.getContext().getExampleCache();
+    String key = this.type.getQualifiedName().toString();
+    String body = exampleCache.getBody(key);
+    if (body != null) {
+      return body;
+    }
+
     ObjectNode node = JsonNodeFactory.instance.objectNode();
 
     Context context = new Context();
     context.stack = new LinkedList<String>();
+    context.cache = exampleCache;
     build(node, this.type, context);
 
-    ObjectMapper mapper = new ObjectMapper().enable(SerializationConfig.Feature.INDENT_OUTPUT);
     try {
-      return mapper.writeValueAsString(node);
+      body = MAPPER.writeValueAsString(node);
     }
     catch (JsonProcessingException e) {
       throw new EnunciateException(e);
@@ -59,14 +74,12 @@ public class ExampleImpl implements Example {
     catch (IOException e) {
       throw new EnunciateException(e);
     }
+
+    exampleCache.putBody(key, body);
+    return body;
   }
 
   private void build(ObjectNode node, ObjectTypeDefinition type, Context context) {
-    if (context.stack.size() > 2) {
-      //don't go deeper than 2 for fear of the OOM (see https://github.com/stoicflame/enunciate/issues/139).
-      return;
-    }
-
     if (type.getTypeIdInclusion() == JsonTypeInfo.As.PROPERTY) {
       if (type.getTypeIdProperty() != null) {
         node.put(type.getTypeIdProperty(), "...");
@@ -143,6 +156,7 @@ public class ExampleImpl implements Example {
 
               if (member.getSubtypeIdInclusion() == JsonTypeInfo.As.PROPERTY) {
                 if (member.getSubtypeIdProperty() != null && itemNode instanceof ObjectNode) {
+                  itemNode = copyOf((ObjectNode) itemNode);
                   ((ObjectNode) itemNode).put(member.getSubtypeIdProperty(), "...");
                 }
               }
@@ -183,6 +197,7 @@ public class ExampleImpl implements Example {
 
               if (member.getSubtypeIdInclusion() == JsonTypeInfo.As.PROPERTY) {
                 if (member.getSubtypeIdProperty() != null && exampleNode instanceof ObjectNode) {
+                  exampleNode = copyOf((ObjectNode) exampleNode);
                   ((ObjectNode) exampleNode).put(member.getSubtypeIdProperty(), "...");
                 }
               }
@@ -215,20 +230,11 @@ public class ExampleImpl implements Example {
   }
 
   private JsonNode exampleNode(JsonType jsonType, String specifiedExample, String specifiedExample2, Context context) {
+    context.size++;
     if (jsonType instanceof JsonClassType) {
       TypeDefinition typeDefinition = ((JsonClassType) jsonType).getTypeDefinition();
       if (typeDefinition instanceof ObjectTypeDefinition) {
-        ObjectNode objectNode = JsonNodeFactory.instance.objectNode();
-        if (!context.stack.contains(typeDefinition.getQualifiedName().toString())) {
-          context.stack.push(typeDefinition.getQualifiedName().toString());
-          try {
-            build(objectNode, (ObjectTypeDefinition) typeDefinition, context);
-          }
-          finally {
-            context.stack.pop();
-          }
-        }
-        return objectNode;
+        return objectExampleNode((ObjectTypeDefinition) typeDefinition, context);
       }
       else if (typeDefinition instanceof EnumTypeDefinition) {
         String example = "???";
@@ -260,11 +266,15 @@ public class ExampleImpl implements Example {
       ArrayNode arrayNode = JsonNodeFactory.instance.arrayNode();
       JsonNode componentNode = exampleNode(((JsonArrayType) jsonType).getComponentType(), specifiedExample, specifiedExample2, context);
       arrayNode.add(componentNode);
-      Context context2 = new Context();
-      context2.stack = context.stack;
-      context2.currentIndex = 1;
-      JsonNode componentNode2 = exampleNode(((JsonArrayType) jsonType).getComponentType(), specifiedExample2, specifiedExample, context2);
-      arrayNode.add(componentNode2);
+      int currentIndex = context.currentIndex;
+      context.currentIndex = 1;
+      try {
+        JsonNode componentNode2 = exampleNode(((JsonArrayType) jsonType).getComponentType(), specifiedExample2, specifiedExample, context);
+        arrayNode.add(componentNode2);
+      }
+      finally {
+        context.currentIndex = currentIndex;
+      }
       return arrayNode;
     }
     else if (jsonType.isWholeNumber()) {
@@ -307,8 +317,53 @@ public class ExampleImpl implements Example {
     }
   }
 
+  /**
+   * The example node of an object type. The example of a type that is already being built (a cycle), or that doesn't fit in the remaining
+   * budget, is an empty object. Complete examples (not cut short by a cycle or the budget) are memoized per type.
+   */
+  private JsonNode objectExampleNode(ObjectTypeDefinition typeDefinition, Context context) {
+    String typeName = typeDefinition.getQualifiedName().toString();
+    if (context.stack.contains(typeName) || context.size >= MAX_EXAMPLE_NODES) {
+      context.truncations++;
+      return JsonNodeFactory.instance.objectNode();
+    }
+
+    String key = typeName + '#' + context.currentIndex;
+    ExampleCache.Fragment fragment = context.cache.getFragment(key);
+    if (fragment != null && context.size + fragment.size <= MAX_EXAMPLE_NODES) {
+      context.size += fragment.size;
+      return fragment.node;
+    }
+
+    int size = context.size;
+    int truncations = context.truncations;
+    ObjectNode objectNode = JsonNodeFactory.instance.objectNode();
+    context.stack.push(typeName);
+    try {
+      build(objectNode, typeDefinition, context);
+    }
+    finally {
+      context.stack.pop();
+    }
+
+    if (context.truncations == truncations) {
+      context.cache.putFragment(key, new ExampleCache.Fragment(objectNode, context.size - size));
+    }
+    return objectNode;
+  }
+
+  private static ObjectNode copyOf(ObjectNode node) {
+    //example fragments are shared, so they're copied before they're modified.
+    ObjectNode copy = JsonNodeFactory.instance.objectNode();
+    copy.putAll(node);
+    return copy;
+  }
+
   private static class Context {
     LinkedList<String> stack;
+    ExampleCache cache;
     int currentIndex = 0;
+    int size = 0;
+    int truncations = 0;
   }
 }
@@ -19,6 +19,7 @@ package com.webcohesion.enunciate.modules.jackson1.model;
 import com.webcohesion.enunciate.EnunciateException;
 import com.webcohesion.enunciate.facets.Facet;
 import com.webcohesion.enunciate.facets.HasFacets;
+import com.webcohesion.enunciate.javac.decorations.element.AccessorCatalog;
 import com.webcohesion.enunciate.javac.decorations.element.DecoratedElement;
 import com.webcohesion.enunciate.javac.decorations.element.DecoratedExecutableElement;
 import com.webcohesion.enunciate.javac.decorations.element.DecoratedTypeElement;
@@ -29,14 +30,12 @@ import com.webcohesion.enunciate.metadata.Ignore;
 import com.webcohesion.enunciate.modules.jackson1.EnunciateJackson1Context;
 import org.codehaus.jackson.annotate.*;
 
-import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.type.TypeVariable;
 import javax.lang.model.type.WildcardType;
-import javax.lang.model.util.ElementFilter;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlType;
 import java.util.*;
@@ -51,7 +50,6 @@ public abstract class TypeDefinition extends DecoratedTypeElement implements Has
   private final SortedSet<Member> members;
   private final Value value;
   private final WildcardMember wildcardMember;
-  private final LinkedList<javax.lang.model.element.Element> referencedFrom = new LinkedList<javax.lang.model.element.Element>();
   private final Set<Facet> facets = new TreeSet<Facet>();
   protected final EnunciateJackson1Context context;
 
@@ -165,13 +163,14 @@ public abstract class TypeDefinition extends DecoratedTypeElement implements Has
       return;
     }
 
-    DecoratedTypeElement superDeclaration = clazz.getSuperclass() != null ? (DecoratedTypeElement) this.env.getTypeUtils().asElement(clazz.getSuperclass()) : null;
+    AccessorCatalog catalog = this.env.getAccessorCatalog(clazz);
+    DecoratedTypeElement superDeclaration = catalog.getSuperDeclaration();
     if (superDeclaration != null && (this.context.isIgnored(superDeclaration) || inlineAccessorsOfSuperclasses)) {
       inlineAccessorsOfSuperclasses = true;
       aggregatePotentialAccessors(fields, properties, superDeclaration, filter, true);
     }
 
-    for (VariableElement fieldDeclaration : ElementFilter.fieldsIn(clazz.getEnclosedElements())) {
+    for (VariableElement fieldDeclaration : catalog.getFields()) {
       JsonUnwrapped unwrapped = fieldDeclaration.getAnnotation(JsonUnwrapped.class);
       if (unwrapped != null && unwrapped.enabled()) {
         TypeMirror typeMirror = fieldDeclaration.asType();
@@ -188,7 +187,7 @@ public abstract class TypeDefinition extends DecoratedTypeElement implements Has
       }
     }
 
-    for (PropertyElement propertyDeclaration : clazz.getProperties()) {
+    for (PropertyElement propertyDeclaration : catalog.getProperties()) {
       JsonUnwrapped unwrapped = propertyDeclaration.getAnnotation(JsonUnwrapped.class);
       if (unwrapped != null && unwrapped.enabled()) {
         DecoratedTypeElement element;
@@ -244,16 +243,7 @@ public abstract class TypeDefinition extends DecoratedTypeElement implements Has
     final TypeElement declaringType = (TypeElement) method.getEnclosingElement();
     TypeElement superType = (TypeElement) this.env.getTypeUtils().asElement(declaringType.getSuperclass());
     if (!this.context.isIgnored(superType)) {
-      while (superType != null && !Object.class.getName().equals(superType.getQualifiedName().toString())) {
-        List<ExecutableElement> methods = ElementFilter.methodsIn(superType.getEnclosedElements());
-        for (ExecutableElement candidate : methods) {
-          if (this.env.getElementUtils().overrides(method, candidate, declaringType)) {
-            return true;
-          }
-        }
-
-        superType = (TypeElement) this.env.getTypeUtils().asElement(superType.getSuperclass());
-      }
+      return this.env.getAccessorCatalog(declaringType).overridesAnother(method);
     }
 
     return false;
@@ -389,7 +379,7 @@ public abstract class TypeDefinition extends DecoratedTypeElement implements Has
    * @return The referenced-from list.
    */
   public LinkedList<javax.lang.model.element.Element> getReferencedFrom() {
-    return referencedFrom;
+    return this.context.getReferenceGraph().getReferencedFrom(this);
   }
 
   /**
@@ -30,9 +30,9 @@ import com.webcohesion.enunciate.util.TypeHintUtils;
 import org.codehaus.jackson.map.JsonSerializer;
 import org.codehaus.jackson.map.annotate.JsonSerialize;
 
+import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.type.TypeMirror;
 import java.util.LinkedList;
-import java.util.concurrent.Callable;
 
 /**
  * A decorator that decorates the relevant type mirrors as json type mirrors.
@@ -55,7 +55,7 @@ public class JsonTypeFactory {
     if (adaptable instanceof Accessor) {
       Accessor accessor = (Accessor) adaptable;
 
-      TypeHint typeHint = accessor.getAnnotation(TypeHint.class);
+      AnnotationMirror typeHint = Annotations.findAnnotation(accessor, TypeHint.class);
       if (typeHint != null) {
         TypeMirror hint = TypeHintUtils.getTypeHint(typeHint, context.getContext().getProcessingEnvironment(), null);
         if (hint != null) {
@@ -63,47 +63,27 @@ public class JsonTypeFactory {
         }
       }
 
-      final JsonSerialize serializeInfo = accessor.getAnnotation(JsonSerialize.class);
+      JsonSerialize serializeInfo = accessor.getAnnotation(JsonSerialize.class);
 
       if (serializeInfo != null) {
         DecoratedProcessingEnvironment env = context.getContext().getProcessingEnvironment();
 
-        DecoratedTypeMirror using = Annotations.mirrorOf(new Callable<Class<?>>() {
-          @Override
-          public Class<?> call() throws Exception {
-            return serializeInfo.using();
-          }
-        }, env, JsonSerializer.None.class);
+        DecoratedTypeMirror using = Annotations.mirrorOf(accessor, JsonSerialize.class, "using", env, JsonSerializer.None.class);
 
         if (using != null) {
           //we're using some custom serialization, so we just have to return a generic object.
           return KnownJsonType.OBJECT;
         }
         else {
-          DecoratedTypeMirror as = Annotations.mirrorOf(new Callable<Class<?>>() {
-            @Override
-            public Class<?> call() throws Exception {
-              return serializeInfo.as();
-            }
-          }, env, Void.class);
+          DecoratedTypeMirror as = Annotations.mirrorOf(accessor, JsonSerialize.class, "as", env, Void.class);
 
           if (as != null) {
             return getJsonType(as, context);
           }
           else {
-            DecoratedTypeMirror contentAs = Annotations.mirrorOf(new Callable<Class<?>>() {
-              @Override
-              public Class<?> call() throws Exception {
-                return serializeInfo.contentAs();
-              }
-            }, env, Void.class);
+            DecoratedTypeMirror contentAs = Annotations.mirrorOf(accessor, JsonSerialize.class, "contentAs", env, Void.class);
 
-            DecoratedTypeMirror contentUsing = Annotations.mirrorOf(new Callable<Class<?>>() {
-              @Override
-              public Class<?> call() throws Exception {
-                return serializeInfo.contentUsing();
-              }
-            }, env, JsonSerializer.None.class);
+            DecoratedTypeMirror contentUsing = Annotations.mirrorOf(accessor, JsonSerialize.class, "contentUsing", env, JsonSerializer.None.class);
 
             DecoratedTypeMirror accessorType = (DecoratedTypeMirror) accessor.asType();
             if (accessorType.isCollection() || accessorType.isArray()) {
@@ -119,19 +99,9 @@ public class JsonTypeFactory {
             else {
               MapType mapType = MapType.findMapType(accessorType, context);
               if (mapType != null) {
-                DecoratedTypeMirror keyAs = Annotations.mirrorOf(new Callable<Class<?>>() {
-                  @Override
-                  public Class<?> call() throws Exception {
-                    return serializeInfo.keyAs();
-                  }
-                }, env, Void.class);
-
-                DecoratedTypeMirror keyUsing = Annotations.mirrorOf(new Callable<Class<?>>() {
-                  @Override
-                  public Class<?> call() throws Exception {
-                    return serializeInfo.keyUsing();
-                  }
-                }, env, JsonSerializer.None.class);
+                DecoratedTypeMirror keyAs = Annotations.mirrorOf(accessor, JsonSerialize.class, "keyAs", env, Void.class);
+
+                DecoratedTypeMirror keyUsing = Annotations.mirrorOf(accessor, JsonSerialize.class, "keyUsing", env, JsonSerializer.None.class);
 
                 if (keyAs != null || contentAs != null) {
                   JsonType keyType = keyUsing == null ? getJsonType(keyAs == null ? (DecoratedTypeMirror) mapType.getKeyType() : keyAs, context) : KnownJsonType.OBJECT;
@@ -153,18 +123,28 @@ public class JsonTypeFactory {
   }
 
   /**
-   * Get the json type for the specified type mirror.
+   * Get the json type for the specified type mirror, resolved once per type (see {@link TypeMirrorUtils#getCanonicalKey(TypeMirror)}).
    *
    * @param typeMirror The type mirror.
    * @param context The context.
    * @return The json type for the specified type mirror.
    */
   public static JsonType getJsonType(TypeMirror typeMirror, EnunciateJackson1Context context) {
+    String key = TypeMirrorUtils.getCanonicalKey(typeMirror);
+    JsonType jsonType = key == null ? null : context.findResolvedType(key);
+    if (jsonType != null) {
+      return jsonType;
+    }
+
     DecoratedTypeMirror decorated = (DecoratedTypeMirror) TypeMirrorDecorator.decorate(typeMirror, context.getContext().getProcessingEnvironment());
     JsonTypeVisitor visitor = new JsonTypeVisitor();
     TypeMirror componentType = TypeMirrorUtils.getComponentType(decorated, context.getContext().getProcessingEnvironment());
     componentType = componentType == null ? decorated : componentType;
-    return componentType.accept(visitor, new JsonTypeVisitor.Context(context, decorated.isArray(), decorated.isCollection(), new LinkedList<String>()));
+    jsonType = componentType.accept(visitor, new JsonTypeVisitor.Context(context, decorated.isArray(), decorated.isCollection(), new LinkedList<String>()));
+    if (key != null && jsonType != null) {
+      context.cacheResolvedType(key, jsonType);
+    }
+    return jsonType;
   }
 
 }
@@ -65,7 +65,7 @@ public class ClientClassnameForMethod extends com.webcohesion.enunciate.util.fre
   }
 
   @Override
-  public String convert(TypeElement declaration) throws TemplateModelException {
+  protected String loadClassnameConversion(TypeElement declaration) throws TemplateModelException {
     TypeMirror adaptingType = jsonContext.findAdaptingType(declaration);
     if (adaptingType != null) {
       return convert(adaptingType);
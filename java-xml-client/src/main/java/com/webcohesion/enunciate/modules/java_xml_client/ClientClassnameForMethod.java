@@ -81,7 +81,7 @@ public class ClientClassnameForMethod extends com.webcohesion.enunciate.util.fre
   }
 
   @Override
-  public String convert(TypeElement declaration) throws TemplateModelException {
+  protected String loadClassnameConversion(TypeElement declaration) throws TemplateModelException {
     AdapterType adapterType = JAXBUtil.findAdapterType(declaration, this.jaxbContext);
     if (adapterType != null) {
       return convert(adapterType.getAdaptingType());
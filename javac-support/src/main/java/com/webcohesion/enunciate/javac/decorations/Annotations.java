@@ -1,14 +1,19 @@
 package com.webcohesion.enunciate.javac.decorations;
 
 import com.webcohesion.enunciate.javac.decorations.type.DecoratedTypeMirror;
-import com.webcohesion.enunciate.javac.decorations.type.TypeMirrorUtils;
 
 import javax.annotation.processing.ProcessingEnvironment;
-import javax.lang.model.element.Element;
-import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.*;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.MirroredTypeException;
-import java.util.concurrent.Callable;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 /**
  * @author Ryan Heaton
@@ -18,31 +23,186 @@ public class Annotations {
 
   private Annotations(){}
 
-  public static DecoratedTypeMirror mirrorOf(Callable<Class<?>> annotationValueFunction, ProcessingEnvironment env) {
-    return mirrorOf(annotationValueFunction, env, null);
+  /**
+   * The type mirror of a Class-valued annotation member, read from the annotation mirror on the element (no {@link MirroredTypeException}).
+   *
+   * @param element The annotated element.
+   * @param annotationType The annotation type.
+   * @param member The name of the member.
+   * @param env The processing environment.
+   * @return The type mirror, or null if the element isn't annotated.
+   */
+  public static DecoratedTypeMirror mirrorOf(Element element, Class<? extends Annotation> annotationType, String member, ProcessingEnvironment env) {
+    return mirrorOf(element, annotationType, member, env, null);
   }
 
-  public static DecoratedTypeMirror mirrorOf(Callable<Class<?>> annotationValueFunction, ProcessingEnvironment env, Class<?> emptyClass) {
-    try {
-      Class<?> clazz = annotationValueFunction.call();
-      if (emptyClass != null && emptyClass.equals(clazz)) {
-        return null;
+  /**
+   * The type mirror of a Class-valued annotation member, read from the annotation mirror on the element (no {@link MirroredTypeException}).
+   *
+   * @param element The annotated element.
+   * @param annotationType The annotation type.
+   * @param member The name of the member.
+   * @param env The processing environment.
+   * @param emptyClass The class that means "no value" (e.g. <code>Void.class</code>), or null.
+   * @return The type mirror, or null if the element isn't annotated or the value is the empty class.
+   */
+  public static DecoratedTypeMirror mirrorOf(Element element, Class<? extends Annotation> annotationType, String member, ProcessingEnvironment env, Class<?> emptyClass) {
+    return toMirror(valueOf(element, annotationType, member, env), env, emptyClass);
+  }
+
+  /**
+   * The type mirror of a Class-valued member of an annotation mirror (e.g. an annotation nested in another annotation).
+   *
+   * @param annotation The annotation mirror.
+   * @param member The name of the member.
+   * @param env The processing environment.
+   * @param emptyClass The class that means "no value" (e.g. <code>Void.class</code>), or null.
+   * @return The type mirror, or null if the value is the empty class.
+   */
+  public static DecoratedTypeMirror mirrorOf(AnnotationMirror annotation, String member, ProcessingEnvironment env, Class<?> emptyClass) {
+    return toMirror(valueOf(annotation, member), env, emptyClass);
+  }
+
+  /**
+   * The type mirrors of a Class[]-valued annotation member, read from the annotation mirror on the element.
+   *
+   * @param element The annotated element.
+   * @param annotationType The annotation type.
+   * @param member The name of the member.
+   * @param env The processing environment.
+   * @return The type mirrors (empty if the element isn't annotated).
+   */
+  public static List<DecoratedTypeMirror> mirrorsOf(Element element, Class<? extends Annotation> annotationType, String member, ProcessingEnvironment env) {
+    Object value = valueOf(element, annotationType, member, env);
+    if (!(value instanceof List)) {
+      DecoratedTypeMirror mirror = toMirror(value, env, null);
+      return mirror == null ? Collections.<DecoratedTypeMirror>emptyList() : Collections.singletonList(mirror);
+    }
+
+    List<DecoratedTypeMirror> mirrors = new ArrayList<DecoratedTypeMirror>();
+    for (Object item : (List<?>) value) {
+      DecoratedTypeMirror mirror = toMirror(item instanceof AnnotationValue ? ((AnnotationValue) item).getValue() : item, env, null);
+      if (mirror != null) {
+        mirrors.add(mirror);
+      }
+    }
+    return mirrors;
+  }
+
+  /**
+   * The annotation mirrors of an annotation-array-valued annotation member (e.g. <code>@XmlElements.value()</code>), in declaration order.
+   *
+   * @param element The annotated element.
+   * @param annotationType The annotation type.
+   * @param member The name of the member.
+   * @param env The processing environment.
+   * @return The annotation mirrors (empty if the element isn't annotated).
+   */
+  public static List<AnnotationMirror> annotationsOf(Element element, Class<? extends Annotation> annotationType, String member, ProcessingEnvironment env) {
+    return toAnnotations(valueOf(element, annotationType, member, env));
+  }
+
+  /**
+   * The annotation mirrors of an annotation-array-valued member of an annotation mirror (e.g. <code>@StatusCodes.value()</code> of an
+   * inherited annotation), in declaration order.
+   *
+   * @param annotation The annotation mirror.
+   * @param member The name of the member.
+   * @return The annotation mirrors.
+   */
+  public static List<AnnotationMirror> annotationsOf(AnnotationMirror annotation, String member) {
+    return toAnnotations(valueOf(annotation, member));
+  }
+
+  /**
+   * Find the mirror of an annotation on an element, including an {@link Inherited} annotation on a superclass.
+   *
+   * @param element The element.
+   * @param annotationType The annotation type.
+   * @return The annotation mirror, or null if the element isn't annotated.
+   */
+  public static AnnotationMirror findAnnotation(Element element, Class<? extends Annotation> annotationType) {
+    String annotationName = annotationType.getCanonicalName();
+    boolean inherited = annotationType.isAnnotationPresent(Inherited.class);
+    while (element != null) {
+      for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+        Element annotationElement = annotation.getAnnotationType().asElement();
+        if (annotationElement instanceof TypeElement && ((TypeElement) annotationElement).getQualifiedName().contentEquals(annotationName)) {
+          return annotation;
+        }
+      }
+
+      if (!inherited || !(element instanceof TypeElement)) {
+        break;
+      }
+
+      TypeMirror superclass = ((TypeElement) element).getSuperclass();
+      element = superclass instanceof DeclaredType ? ((DeclaredType) superclass).asElement() : null;
+    }
+    return null;
+  }
+
+  /**
+   * The value of a member of an annotation mirror, falling back to the default value of the member.
+   *
+   * @param annotation The annotation mirror.
+   * @param member The name of the member.
+   * @return The value (a {@link TypeMirror} for a Class, a list of {@link AnnotationValue}s for an array, etc.), or null.
+   */
+  public static Object valueOf(AnnotationMirror annotation, String member) {
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+      if (entry.getKey().getSimpleName().contentEquals(member)) {
+        return entry.getValue().getValue();
       }
-      return TypeMirrorUtils.mirrorOf(clazz, env);
     }
-    catch (MirroredTypeException e) {
-      DecoratedTypeMirror typeMirror = (DecoratedTypeMirror) TypeMirrorDecorator.decorate(e.getTypeMirror(), env);
-      if (emptyClass != null && same(typeMirror, emptyClass)) {
-        return null;
+
+    for (ExecutableElement method : ElementFilter.methodsIn(annotation.getAnnotationType().asElement().getEnclosedElements())) {
+      if (method.getSimpleName().contentEquals(member)) {
+        AnnotationValue defaultValue = method.getDefaultValue();
+        return defaultValue == null ? null : defaultValue.getValue();
       }
-      return typeMirror;
     }
-    catch (RuntimeException e) {
-      throw e;
+
+    return null;
+  }
+
+  private static Object valueOf(Element element, Class<? extends Annotation> annotationType, String member, ProcessingEnvironment env) {
+    if (env instanceof DecoratedProcessingEnvironment) {
+      return ((DecoratedProcessingEnvironment) env).findAnnotationValue(element, annotationType, member);
     }
-    catch (Exception e) {
-      throw new RuntimeException(e);
+
+    AnnotationMirror annotation = findAnnotation(element, annotationType);
+    return annotation == null ? null : valueOf(annotation, member);
+  }
+
+  private static List<AnnotationMirror> toAnnotations(Object value) {
+    if (value instanceof AnnotationMirror) {
+      return Collections.singletonList((AnnotationMirror) value);
+    }
+    else if (!(value instanceof List)) {
+      return Collections.emptyList();
+    }
+
+    List<AnnotationMirror> annotations = new ArrayList<AnnotationMirror>();
+    for (Object item : (List<?>) value) {
+      item = item instanceof AnnotationValue ? ((AnnotationValue) item).getValue() : item;
+      if (item instanceof AnnotationMirror) {
+        annotations.add((AnnotationMirror) item);
+      }
+    }
+    return annotations;
+  }
+
+  private static DecoratedTypeMirror toMirror(Object value, ProcessingEnvironment env, Class<?> emptyClass) {
+    if (!(value instanceof TypeMirror)) {
+      return null;
+    }
+
+    DecoratedTypeMirror typeMirror = (DecoratedTypeMirror) TypeMirrorDecorator.decorate((TypeMirror) value, env);
+    if (emptyClass != null && same(typeMirror, emptyClass)) {
+      return null;
     }
+    return typeMirror;
   }
 
   private static boolean same(DecoratedTypeMirror typeMirror, Class<?> emptyClass) {
@@ -4,15 +4,26 @@ import com.sun.source.tree.CompilationUnitTree;
 import com.sun.source.util.SourcePositions;
 import com.sun.source.util.TreePath;
 import com.sun.source.util.Trees;
+import com.webcohesion.enunciate.javac.decorations.element.AccessorCatalog;
 import com.webcohesion.enunciate.javac.decorations.element.DecoratedElement;
+import com.webcohesion.enunciate.javac.decorations.element.MethodTable;
+import com.webcohesion.enunciate.javac.decorations.element.PropertyElement;
 
 import javax.annotation.processing.Filer;
 import javax.annotation.processing.Messager;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
+import java.io.File;
+import java.lang.annotation.Annotation;
+import java.net.URI;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -24,6 +35,16 @@ public class DecoratedProcessingEnvironment implements ProcessingEnvironment {
 
   private final ProcessingEnvironment delegate;
   private final Map<String, Object> properties = new ConcurrentHashMap<String, Object>();
+  private static final SourcePosition NO_SOURCE_POSITION = new SourcePosition(null, null, -1, -1, -1);
+  private static final Object NO_ANNOTATION_VALUE = new Object();
+
+  private final Map<Element, SourcePosition> sourcePositions = new ConcurrentHashMap<Element, SourcePosition>();
+  private final Map<CompilationUnitTree, Long> sourceTimestamps = new ConcurrentHashMap<CompilationUnitTree, Long>();
+  private final Map<TypeElement, MethodTable> methodTables = new ConcurrentHashMap<TypeElement, MethodTable>();
+  private final Map<TypeElement, AccessorCatalog> accessorCatalogs = new ConcurrentHashMap<TypeElement, AccessorCatalog>();
+  private final Map<Element, String> qualifiedNames = new ConcurrentHashMap<Element, String>();
+  private final Map<TypeElement, Boolean> completedTypes = new ConcurrentHashMap<TypeElement, Boolean>();
+  private final Map<Element, Map<String, Object>> annotationValues = new ConcurrentHashMap<Element, Map<String, Object>>();
   private final Trees trees;
 
   public DecoratedProcessingEnvironment(ProcessingEnvironment delegate) {
@@ -69,6 +90,72 @@ public class DecoratedProcessingEnvironment implements ProcessingEnvironment {
     return delegate.getLocale();
   }
 
+  /**
+   * The qualified name of the given type or package. The name is computed once per element and the same string instance is shared
+   * by the whole model, so it can be used as a map key without rebuilding it from the javac name table.
+   *
+   * @param element The type or package.
+   * @return The qualified name, or null if the element is neither a type nor a package.
+   */
+  public String getQualifiedName(Element element) {
+    while (element instanceof DecoratedElement) {
+      element = ((DecoratedElement) element).getDelegate();
+    }
+
+    if (element == null) {
+      return null;
+    }
+
+    String qualifiedName = this.qualifiedNames.get(element);
+    if (qualifiedName == null) {
+      if (element instanceof TypeElement) {
+        qualifiedName = ((TypeElement) element).getQualifiedName().toString();
+      }
+      else if (element instanceof PackageElement) {
+        qualifiedName = ((PackageElement) element).getQualifiedName().toString();
+      }
+      else {
+        return null;
+      }
+      this.qualifiedNames.put(element, qualifiedName);
+    }
+    return qualifiedName;
+  }
+
+  /**
+   * Complete the symbol of the given type (supertypes, members, member types and annotations) once, up front, so that reading the
+   * type and its members later doesn't trigger javac symbol completion. Javac isn't thread-safe, so the model is analyzed on a single thread.
+   *
+   * @param type The type to complete.
+   */
+  public void completeSymbols(TypeElement type) {
+    while (type instanceof DecoratedElement) {
+      type = (TypeElement) ((DecoratedElement) type).getDelegate();
+    }
+
+    if (type == null || this.completedTypes.containsKey(type)) {
+      return;
+    }
+
+    if (this.completedTypes.put(type, Boolean.TRUE) != null) {
+      return;
+    }
+
+    type.getSuperclass();
+    type.getInterfaces();
+    type.getTypeParameters();
+    type.getAnnotationMirrors();
+    for (Element member : type.getEnclosedElements()) {
+      member.asType();
+      member.getAnnotationMirrors();
+      if (member instanceof ExecutableElement) {
+        for (VariableElement parameter : ((ExecutableElement) member).getParameters()) {
+          parameter.getAnnotationMirrors();
+        }
+      }
+    }
+  }
+
   public Object getProperty(String property) {
     return this.properties.get(property);
   }
@@ -77,11 +164,27 @@ public class DecoratedProcessingEnvironment implements ProcessingEnvironment {
     this.properties.put(property, value);
   }
 
+  /**
+   * Find the source position of the given element. Positions are computed once per element.
+   *
+   * @param element The element.
+   * @return The source position, or null if the element has no source.
+   */
   public SourcePosition findSourcePosition(Element element) {
     while (element instanceof DecoratedElement) {
       element = ((DecoratedElement) element).getDelegate();
     }
 
+    SourcePosition position = this.sourcePositions.get(element);
+    if (position == null) {
+      position = loadSourcePosition(element);
+      this.sourcePositions.put(element, position == null ? NO_SOURCE_POSITION : position);
+    }
+
+    return position == NO_SOURCE_POSITION ? null : position;
+  }
+
+  protected SourcePosition loadSourcePosition(Element element) {
     TreePath path = this.trees.getPath(element);
     if (path != null) {
       CompilationUnitTree cu = path.getCompilationUnit();
@@ -95,4 +198,110 @@ public class DecoratedProcessingEnvironment implements ProcessingEnvironment {
       return null;
     }
   }
+
+  /**
+   * Find the last-modified timestamp of the source file of the given element. Timestamps are read once per compilation unit.
+   *
+   * @param element The element.
+   * @return The timestamp, or 0 if the element wasn't compiled from a source file.
+   */
+  public long findSourceTimestamp(Element element) {
+    SourcePosition sp = findSourcePosition(element);
+    CompilationUnitTree cu = sp == null ? null : sp.getPath() == null ? null : sp.getPath().getCompilationUnit();
+    if (cu == null) {
+      return 0;
+    }
+
+    Long timestamp = this.sourceTimestamps.get(cu);
+    if (timestamp == null) {
+      timestamp = 0L;
+      URI uri = cu.getSourceFile() == null ? null : cu.getSourceFile().toUri();
+      if (uri != null && "file".equalsIgnoreCase(uri.getScheme())) {
+        //it's a file uri.
+        timestamp = new File(uri).lastModified();
+      }
+      this.sourceTimestamps.put(cu, timestamp);
+    }
+
+    return timestamp;
+  }
+
+  /**
+   * Find the value of a member of an annotation on an element, read from the annotation mirror (see {@link Annotations#valueOf(AnnotationMirror, String)}).
+   * The value is read once per element, annotation and member. For a property, the annotation on the getter is preferred to the one on the setter.
+   *
+   * @param element The annotated element.
+   * @param annotationType The annotation type.
+   * @param member The name of the annotation member.
+   * @return The value, or null if the element isn't annotated.
+   */
+  public Object findAnnotationValue(Element element, Class<? extends Annotation> annotationType, String member) {
+    while (element instanceof DecoratedElement && !(element instanceof PropertyElement)) {
+      element = ((DecoratedElement) element).getDelegate();
+    }
+
+    if (element instanceof PropertyElement) {
+      //the annotation on the getter, or else the one on the setter.
+      PropertyElement property = (PropertyElement) element;
+      Object value = property.getGetter() == null ? null : findAnnotationValue(property.getGetter(), annotationType, member);
+      return value == null && property.getSetter() != null ? findAnnotationValue(property.getSetter(), annotationType, member) : value;
+    }
+
+    if (element == null) {
+      return null;
+    }
+
+    Map<String, Object> values = this.annotationValues.get(element);
+    if (values == null) {
+      values = new ConcurrentHashMap<String, Object>();
+      this.annotationValues.put(element, values);
+    }
+
+    String key = annotationType.getName() + '#' + member;
+    Object value = values.get(key);
+    if (value == null) {
+      AnnotationMirror annotation = Annotations.findAnnotation(element, annotationType);
+      value = annotation == null ? null : Annotations.valueOf(annotation, member);
+      values.put(key, value == null ? NO_ANNOTATION_VALUE : value);
+    }
+    return value == NO_ANNOTATION_VALUE ? null : value;
+  }
+
+  /**
+   * The method table for the given type, built once per type.
+   *
+   * @param type The type.
+   * @return The method table.
+   */
+  public MethodTable getMethodTable(TypeElement type) {
+    while (type instanceof DecoratedElement) {
+      type = (TypeElement) ((DecoratedElement) type).getDelegate();
+    }
+
+    MethodTable table = this.methodTables.get(type);
+    if (table == null) {
+      table = new MethodTable(type, this);
+      this.methodTables.put(type, table);
+    }
+    return table;
+  }
+
+  /**
+   * The catalogue of the potential accessors declared by the given type, built once per type and shared by all the syntax modules.
+   *
+   * @param type The type.
+   * @return The accessor catalogue.
+   */
+  public AccessorCatalog getAccessorCatalog(TypeElement type) {
+    while (type instanceof DecoratedElement) {
+      type = (TypeElement) ((DecoratedElement) type).getDelegate();
+    }
+
+    AccessorCatalog catalog = this.accessorCatalogs.get(type);
+    if (catalog == null) {
+      catalog = new AccessorCatalog(type, this);
+      this.accessorCatalogs.put(type, catalog);
+    }
+    return catalog;
+  }
 }
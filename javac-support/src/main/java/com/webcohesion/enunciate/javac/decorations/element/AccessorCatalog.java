@@ -0,0 +1,102 @@
+package com.webcohesion.enunciate.javac.decorations.element;
+
+import com.webcohesion.enunciate.javac.decorations.DecoratedProcessingEnvironment;
+import com.webcohesion.enunciate.javac.decorations.ElementDecorator;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The syntax-neutral catalogue of the potential accessors declared by a type: its fields, its properties, its superclass and the override
+ * relations of its methods. Catalogues are built once per type (see {@link DecoratedProcessingEnvironment#getAccessorCatalog(TypeElement)}),
+ * so the syntax modules (e.g. JAXB and Jackson) that walk the same class hierarchies share the walk and only apply their own accessor
+ * filters on top of it.
+ *
+ * @author Ryan Heaton
+ */
+public class AccessorCatalog {
+
+  private final DecoratedTypeElement type;
+  private final DecoratedTypeElement superDeclaration;
+  private final List<VariableElement> fields;
+  private final List<PropertyElement> properties;
+  private final MethodTable methodTable;
+
+  public AccessorCatalog(TypeElement type, DecoratedProcessingEnvironment env) {
+    this.type = (DecoratedTypeElement) ElementDecorator.decorate(unwrap(type), env);
+
+    TypeMirror superclass = this.type.getSuperclass();
+    this.superDeclaration = superclass instanceof DeclaredType ? (DecoratedTypeElement) ((DeclaredType) superclass).asElement() : null;
+    this.fields = Collections.unmodifiableList(ElementFilter.fieldsIn(this.type.getEnclosedElements()));
+    this.properties = Collections.unmodifiableList(this.type.getProperties());
+    this.methodTable = env.getMethodTable(this.type);
+  }
+
+  /**
+   * The (decorated) type for which this catalogue was built.
+   *
+   * @return The type for which this catalogue was built.
+   */
+  public DecoratedTypeElement getType() {
+    return type;
+  }
+
+  /**
+   * The declaration of the superclass of the type, or null if there is no superclass.
+   *
+   * @return The declaration of the superclass.
+   */
+  public DecoratedTypeElement getSuperDeclaration() {
+    return superDeclaration;
+  }
+
+  /**
+   * The fields declared by the type, in declaration order.
+   *
+   * @return The fields declared by the type.
+   */
+  public List<VariableElement> getFields() {
+    return fields;
+  }
+
+  /**
+   * The properties declared by the type.
+   *
+   * @return The properties declared by the type.
+   */
+  public List<PropertyElement> getProperties() {
+    return properties;
+  }
+
+  /**
+   * The method table of the type.
+   *
+   * @return The method table of the type.
+   */
+  public MethodTable getMethodTable() {
+    return methodTable;
+  }
+
+  /**
+   * Whether the given method (declared by the type) overrides a method of any of the superclasses of the type.
+   *
+   * @param method The method.
+   * @return Whether the method overrides another.
+   */
+  public boolean overridesAnother(ExecutableElement method) {
+    return this.methodTable.overridesAnother(method);
+  }
+
+  private static TypeElement unwrap(TypeElement type) {
+    while (type instanceof DecoratedElement) {
+      type = (TypeElement) ((DecoratedElement) type).getDelegate();
+    }
+    return type;
+  }
+}
@@ -0,0 +1,103 @@
+package com.webcohesion.enunciate.javac.decorations.element;
+
+import com.webcohesion.enunciate.javac.decorations.DecoratedProcessingEnvironment;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A table of the methods declared by a type, indexed by name and arity and chained to the table of the superclass. Tables are built once
+ * per type (see {@link DecoratedProcessingEnvironment#getMethodTable(TypeElement)}), so the tables of a class hierarchy are shared by
+ * all of its subtypes.
+ *
+ * @author Ryan Heaton
+ */
+public class MethodTable {
+
+  private final TypeElement type;
+  private final MethodTable superTable;
+  private final Map<String, List<ExecutableElement>> methodsBySignature;
+  private final Map<ExecutableElement, Boolean> overrides = new ConcurrentHashMap<ExecutableElement, Boolean>();
+  private final DecoratedProcessingEnvironment env;
+
+  public MethodTable(TypeElement type, DecoratedProcessingEnvironment env) {
+    this.type = unwrap(type);
+    this.env = env;
+
+    List<ExecutableElement> methods = ElementFilter.methodsIn(this.type.getEnclosedElements());
+    Map<String, List<ExecutableElement>> methodsBySignature = new HashMap<String, List<ExecutableElement>>(methods.size() * 2);
+    for (ExecutableElement method : methods) {
+      String key = signatureKey(method);
+      List<ExecutableElement> bucket = methodsBySignature.get(key);
+      if (bucket == null) {
+        bucket = new ArrayList<ExecutableElement>(1);
+        methodsBySignature.put(key, bucket);
+      }
+      bucket.add(method);
+    }
+    this.methodsBySignature = methodsBySignature;
+
+    TypeMirror superclass = this.type.getSuperclass();
+    TypeElement superDeclaration = superclass instanceof DeclaredType ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+    this.superTable = superDeclaration == null || Object.class.getName().equals(superDeclaration.getQualifiedName().toString()) ? null : env.getMethodTable(superDeclaration);
+  }
+
+  /**
+   * Whether the given method (declared by the type of this table) overrides a method of any of the superclasses of this type. Only methods of
+   * the same name and arity are compared, and the result is computed once per method.
+   *
+   * @param method The method.
+   * @return Whether the method overrides a method of any superclass.
+   */
+  public boolean overridesAnother(ExecutableElement method) {
+    if (method == null || this.superTable == null) {
+      return false;
+    }
+
+    method = unwrap(method);
+    Boolean overrides = this.overrides.get(method);
+    if (overrides == null) {
+      overrides = this.superTable.isOverriddenBy(method, this.type);
+      this.overrides.put(method, overrides);
+    }
+    return overrides;
+  }
+
+  private boolean isOverriddenBy(ExecutableElement method, TypeElement declaringType) {
+    String key = signatureKey(method);
+    MethodTable table = this;
+    while (table != null) {
+      List<ExecutableElement> candidates = table.methodsBySignature.get(key);
+      if (candidates != null) {
+        for (ExecutableElement candidate : candidates) {
+          if (this.env.getElementUtils().overrides(method, candidate, declaringType)) {
+            return true;
+          }
+        }
+      }
+      table = table.superTable;
+    }
+    return false;
+  }
+
+  /**
+   * The index key for a method. Erased parameter types aren't used because a method can override a generic method with a different erasure,
+   * so the key is the name and arity; the (few) candidates are then checked with {@link javax.lang.model.util.Elements#overrides}.
+   */
+  private static String signatureKey(ExecutableElement method) {
+    return method.getSimpleName().toString() + '/' + method.getParameters().size();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <E extends javax.lang.model.element.Element> E unwrap(E element) {
+    while (element instanceof DecoratedElement) {
+      element = (E) ((DecoratedElement) element).getDelegate();
+    }
+    return element;
+  }
+}
@@ -7,6 +7,7 @@ import javax.lang.model.element.Name;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.TypeParameterElement;
 import javax.lang.model.type.*;
+import javax.lang.model.util.SimpleTypeVisitor6;
 import java.util.Collection;
 import java.util.List;
 
@@ -188,4 +189,99 @@ public class TypeMirrorUtils {
 
     return null;
   }
+
+  /**
+   * A canonical key for the given type mirror, suitable for caching what is resolved from the type: the qualified names of the declared
+   * types with their type arguments, e.g. <code>java.util.List&lt;com.acme.Item&gt;</code>. Two mirrors of the same type have the same key,
+   * whatever their decoration.
+   *
+   * @param typeMirror The type mirror.
+   * @return The key, or null if the type can't be keyed on its own (e.g. it refers to type variables, whose bounds depend on where they're declared).
+   */
+  public static String getCanonicalKey(TypeMirror typeMirror) {
+    if (typeMirror == null) {
+      return null;
+    }
+
+    StringBuilder key = new StringBuilder();
+    return typeMirror.accept(CanonicalKeyVisitor.INSTANCE, key) ? key.toString() : null;
+  }
+
+  private static class CanonicalKeyVisitor extends SimpleTypeVisitor6<Boolean, StringBuilder> {
+
+    static final CanonicalKeyVisitor INSTANCE = new CanonicalKeyVisitor();
+
+    private CanonicalKeyVisitor() {
+      super(Boolean.FALSE);
+    }
+
+    @Override
+    public Boolean visitPrimitive(PrimitiveType t, StringBuilder key) {
+      key.append(t.getKind().name().toLowerCase());
+      return Boolean.TRUE;
+    }
+
+    @Override
+    public Boolean visitNoType(NoType t, StringBuilder key) {
+      if (t.getKind() != TypeKind.VOID) {
+        return Boolean.FALSE;
+      }
+      key.append("void");
+      return Boolean.TRUE;
+    }
+
+    @Override
+    public Boolean visitArray(ArrayType t, StringBuilder key) {
+      if (!t.getComponentType().accept(this, key)) {
+        return Boolean.FALSE;
+      }
+      key.append("[]");
+      return Boolean.TRUE;
+    }
+
+    @Override
+    public Boolean visitDeclared(DeclaredType t, StringBuilder key) {
+      if (!(t.asElement() instanceof TypeElement)) {
+        return Boolean.FALSE;
+      }
+
+      TypeMirror enclosingType = t.getEnclosingType();
+      if (enclosingType != null && enclosingType.getKind() == TypeKind.DECLARED && !((DeclaredType) enclosingType).getTypeArguments().isEmpty()) {
+        if (!enclosingType.accept(this, key)) {
+          return Boolean.FALSE;
+        }
+        key.append('$');
+      }
+
+      key.append(((TypeElement) t.asElement()).getQualifiedName());
+      List<? extends TypeMirror> typeArgs = t.getTypeArguments();
+      if (!typeArgs.isEmpty()) {
+        key.append('<');
+        for (int i = 0; i < typeArgs.size(); i++) {
+          if (i > 0) {
+            key.append(',');
+          }
+          if (!typeArgs.get(i).accept(this, key)) {
+            return Boolean.FALSE;
+          }
+        }
+        key.append('>');
+      }
+      return Boolean.TRUE;
+    }
+
+    @Override
+    public Boolean visitWildcard(WildcardType t, StringBuilder key) {
+      key.append('?');
+      if (t.getExtendsBound() != null) {
+        key.append(" extends ");
+        return t.getExtendsBound().accept(this, key);
+      }
+      else if (t.getSuperBound() != null) {
+        key.append(" super ");
+        return t.getSuperBound().accept(this, key);
+      }
+      return Boolean.TRUE;
+    }
+  }
 }
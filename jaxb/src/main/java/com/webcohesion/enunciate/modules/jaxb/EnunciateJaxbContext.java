@@ -6,12 +6,16 @@ import com.webcohesion.enunciate.api.datatype.DataTypeReference;
 import com.webcohesion.enunciate.api.datatype.Namespace;
 import com.webcohesion.enunciate.api.datatype.Syntax;
 import com.webcohesion.enunciate.api.resources.MediaTypeDescriptor;
+import com.webcohesion.enunciate.javac.decorations.Annotations;
+import com.webcohesion.enunciate.javac.decorations.DecoratedProcessingEnvironment;
 import com.webcohesion.enunciate.javac.decorations.element.DecoratedTypeElement;
 import com.webcohesion.enunciate.javac.decorations.type.DecoratedDeclaredType;
 import com.webcohesion.enunciate.javac.decorations.type.DecoratedTypeMirror;
+import com.webcohesion.enunciate.javac.decorations.type.TypeMirrorUtils;
 import com.webcohesion.enunciate.metadata.qname.XmlQNameEnum;
 import com.webcohesion.enunciate.module.EnunciateModuleContext;
 import com.webcohesion.enunciate.modules.jaxb.api.impl.DataTypeReferenceImpl;
+import com.webcohesion.enunciate.modules.jaxb.api.impl.ExampleCache;
 import com.webcohesion.enunciate.modules.jaxb.api.impl.MediaTypeDescriptorImpl;
 import com.webcohesion.enunciate.modules.jaxb.api.impl.NamespaceImpl;
 import com.webcohesion.enunciate.modules.jaxb.model.*;
@@ -21,7 +25,10 @@ import com.webcohesion.enunciate.modules.jaxb.model.types.XmlType;
 import com.webcohesion.enunciate.modules.jaxb.model.types.XmlTypeFactory;
 import com.webcohesion.enunciate.modules.jaxb.model.util.JAXBUtil;
 import com.webcohesion.enunciate.modules.jaxb.model.util.MapType;
+import com.webcohesion.enunciate.util.KnownTypeRegistry;
 import com.webcohesion.enunciate.util.OneTimeLogMessage;
+import com.webcohesion.enunciate.util.ReferenceGraph;
+import com.webcohesion.enunciate.util.WorkStack;
 
 import javax.activation.DataHandler;
 import javax.lang.model.element.Element;
@@ -29,14 +36,13 @@ import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.*;
-import javax.lang.model.util.Elements;
 import javax.lang.model.util.SimpleTypeVisitor6;
-import javax.lang.model.util.Types;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.annotation.*;
 import javax.xml.datatype.XMLGregorianCalendar;
 import java.sql.Timestamp;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Ryan Heaton
@@ -46,22 +52,39 @@ public class EnunciateJaxbContext extends EnunciateModuleContext implements Synt
 
   public static final String SYNTAX_LABEL = "XML";
 
+  /**
+   * The known types by qualified name, shared by all contexts.
+   */
+  private static final Map<String, XmlType> KNOWN_TYPES = loadDefaultKnownTypes();
+
   private int prefixIndex = 0;
-  private final Map<String, XmlType> knownTypes;
+  private final KnownTypeRegistry<XmlType> knownTypes;
   private final Map<String, TypeDefinition> typeDefinitions;
   private final Map<String, ElementDeclaration> elementDeclarations;
   private final Map<String, String> namespacePrefixes;
   private final Map<String, SchemaInfo> schemas;
   private final Map<String, Map<String, XmlSchemaType>> packageSpecifiedTypes;
+  private final ReferenceGraph referenceGraph;
+  private final WorkStack typeDefinitionWork;
+  private final Map<String, XmlType> resolvedTypes;
+  private final Map<String, DataTypeReference> dataTypeReferences;
+  private final ExampleCache exampleCache;
+  private final NamespaceGraph namespaceGraph;
 
   public EnunciateJaxbContext(EnunciateContext context) {
     super(context);
-    this.knownTypes = loadKnownTypes();
+    this.knownTypes = new KnownTypeRegistry<XmlType>(loadKnownTypes(), context.getProcessingEnvironment(), JAXBElement.class);
     this.typeDefinitions = new HashMap<String, TypeDefinition>();
     this.elementDeclarations = new HashMap<String, ElementDeclaration>();
     this.namespacePrefixes = loadKnownPrefixes(context);
     this.schemas = new HashMap<String, SchemaInfo>();
     this.packageSpecifiedTypes = new HashMap<String, Map<String, XmlSchemaType>>();
+    this.referenceGraph = new ReferenceGraph();
+    this.typeDefinitionWork = new WorkStack();
+    this.resolvedTypes = new ConcurrentHashMap<String, XmlType>();
+    this.dataTypeReferences = new ConcurrentHashMap<String, DataTypeReference>();
+    this.exampleCache = new ExampleCache();
+    this.namespaceGraph = new NamespaceGraph();
   }
 
   protected Map<String, String> loadKnownPrefixes(EnunciateContext context) {
@@ -147,6 +170,12 @@ public class EnunciateJaxbContext extends EnunciateModuleContext implements Synt
       return null;
     }
 
+    String key = TypeMirrorUtils.getCanonicalKey(typeMirror);
+    DataTypeReference reference = key == null ? null : this.dataTypeReferences.get(key);
+    if (reference != null) {
+      return reference;
+    }
+
     XmlType xmlType;
 
     try {
@@ -156,7 +185,11 @@ public class EnunciateJaxbContext extends EnunciateModuleContext implements Synt
       xmlType = null;
     }
 
-    return xmlType == null ? null : new DataTypeReferenceImpl(xmlType, typeMirror.isCollection() || typeMirror.isArray());
+    reference = xmlType == null ? null : new DataTypeReferenceImpl(xmlType, typeMirror.isCollection() || typeMirror.isArray());
+    if (key != null && reference != null) {
+      this.dataTypeReferences.put(key, reference);
+    }
+    return reference;
   }
 
   @Override
@@ -172,23 +205,67 @@ public class EnunciateJaxbContext extends EnunciateModuleContext implements Synt
     return context;
   }
 
+  /**
+   * The graph of where each type definition was referenced from.
+   *
+   * @return The graph of where each type definition was referenced from.
+   */
+  public ReferenceGraph getReferenceGraph() {
+    return referenceGraph;
+  }
+
+  /**
+   * The XML type resolved for the type mirror with the given canonical key (see {@link TypeMirrorUtils#getCanonicalKey(TypeMirror)}), if it's been resolved.
+   *
+   * @param key The canonical key of the type mirror.
+   * @return The resolved type, or null.
+   */
+  public XmlType findResolvedType(String key) {
+    return this.resolvedTypes.get(key);
+  }
+
+  /**
+   * Cache the XML type resolved for the type mirror with the given canonical key. The cache is reset whenever a type definition is added.
+   *
+   * @param key The canonical key of the type mirror.
+   * @param type The resolved type.
+   */
+  public void cacheResolvedType(String key, XmlType type) {
+    this.resolvedTypes.put(key, type);
+  }
+
+  /**
+   * The memoized XML examples of the type definitions of this context.
+   *
+   * @return The memoized XML examples.
+   */
+  public ExampleCache getExampleCache() {
+    return exampleCache;
+  }
+
+  /**
+   * The graph of the namespaces referenced by the schemas of this context.
+   *
+   * @return The graph of the namespaces referenced by the schemas of this context.
+   */
+  public NamespaceGraph getNamespaceGraph() {
+    return namespaceGraph;
+  }
+
   public XmlType getKnownType(Element declaration) {
-    if (declaration instanceof TypeElement) {
-      return this.knownTypes.get(((TypeElement) declaration).getQualifiedName().toString());
-    }
-    return null;
+    return this.knownTypes.getKnownType(declaration);
   }
 
   public TypeDefinition findTypeDefinition(Element declaration) {
     if (declaration instanceof TypeElement) {
-      return this.typeDefinitions.get(((TypeElement) declaration).getQualifiedName().toString());
+      return this.typeDefinitions.get(this.context.getProcessingEnvironment().getQualifiedName(declaration));
     }
     return null;
   }
 
   public ElementDeclaration findElementDeclaration(Element declaredElement) {
     if (declaredElement instanceof TypeElement) {
-      return this.elementDeclarations.get(((TypeElement) declaredElement).getQualifiedName().toString());
+      return this.elementDeclarations.get(this.context.getProcessingEnvironment().getQualifiedName(declaredElement));
     }
     else if (declaredElement instanceof ExecutableElement) {
       return this.elementDeclarations.get(declaredElement.toString());
@@ -216,7 +293,16 @@ public class EnunciateJaxbContext extends EnunciateModuleContext implements Synt
     return schemas;
   }
 
+  /**
+   * Loads the (shared) table of the known types by qualified name.
+   *
+   * @return The table of the known types.
+   */
   protected Map<String, XmlType> loadKnownTypes() {
+    return KNOWN_TYPES;
+  }
+
+  private static Map<String, XmlType> loadDefaultKnownTypes() {
     HashMap<String, XmlType> knownTypes = new HashMap<String, XmlType>();
 
     knownTypes.put(Boolean.class.getName(), KnownXmlType.BOOLEAN);
@@ -253,7 +339,7 @@ public class EnunciateJaxbContext extends EnunciateModuleContext implements Synt
     knownTypes.put(XMLGregorianCalendar.class.getName(), KnownXmlType.DATE_TIME); //JAXB spec says it maps to anySimpleType, but we can just assume dateTime...
     knownTypes.put(GregorianCalendar.class.getName(), KnownXmlType.DATE_TIME);
 
-    return knownTypes;
+    return Collections.unmodifiableMap(knownTypes);
   }
 
   /**
@@ -388,7 +474,7 @@ public class EnunciateJaxbContext extends EnunciateModuleContext implements Synt
    */
   public void add(RootElementDeclaration rootElement, LinkedList<Element> stack) {
     if (findElementDeclaration(rootElement) == null) {
-      this.elementDeclarations.put(rootElement.getQualifiedName().toString(), rootElement);
+      this.elementDeclarations.put(this.context.getProcessingEnvironment().getQualifiedName(rootElement), rootElement);
       debug("Added %s as a root XML element.", rootElement.getQualifiedName());
       add(rootElement.getSchema());
 
@@ -485,7 +571,7 @@ public class EnunciateJaxbContext extends EnunciateModuleContext implements Synt
       schemas.put(namespace, schemaInfo);
     }
 
-    this.elementDeclarations.put(led.getElementType().getQualifiedName().toString(), led);
+    this.elementDeclarations.put(this.context.getProcessingEnvironment().getQualifiedName(led.getElementType()), led);
 
     schemaInfo.getLocalElementDeclarations().add(led);
 
@@ -538,7 +624,7 @@ public class EnunciateJaxbContext extends EnunciateModuleContext implements Synt
   }
 
   protected void add(Schema schema, LinkedList<Element> stack) {
-    stack.add(schema);
+    stack.push(schema);
     try {
       String namespace = schema.getNamespace();
       String prefix = addNamespace(namespace);
@@ -574,9 +660,38 @@ public class EnunciateJaxbContext extends EnunciateModuleContext implements Synt
     }
   }
 
-  protected void add(TypeDefinition typeDef, LinkedList<Element> stack) {
+  /**
+   * Add a type definition to the model, along with the type definitions it references. The referenced type definitions are added depth-first
+   * from a work stack instead of recursively, so a deep type graph doesn't grow the call stack.
+   *
+   * @param typeDef The type definition.
+   * @param stack   The context stack.
+   */
+  protected void add(final TypeDefinition typeDef, LinkedList<Element> stack) {
+    if (findTypeDefinition(typeDef) == null && !isKnownType(typeDef)) {
+      final LinkedList<Element> referenceStack = new LinkedList<Element>(stack);
+      this.typeDefinitionWork.perform(new WorkStack.Step() {
+        @Override
+        public void run() {
+          addTypeDefinition(typeDef, referenceStack);
+        }
+      });
+    }
+  }
+
+  /**
+   * Add a type definition to the model and perform the steps that add the type definitions it references.
+   *
+   * @param typeDef The type definition.
+   * @param stack   The context stack.
+   */
+  protected void addTypeDefinition(final TypeDefinition typeDef, final LinkedList<Element> stack) {
     if (findTypeDefinition(typeDef) == null && !isKnownType(typeDef)) {
-      this.typeDefinitions.put(typeDef.getQualifiedName().toString(), typeDef);
+      this.typeDefinitions.put(this.context.getProcessingEnvironment().getQualifiedName(typeDef), typeDef);
+      //the resolved types may depend on which type definitions are in the model.
+      this.resolvedTypes.clear();
+      this.dataTypeReferences.clear();
+      this.namespaceGraph.reset();
       if (this.context.isExcluded(typeDef)) {
         warn("Added %s as a JAXB type definition even though is was supposed to be excluded according to configuration. It was referenced from %s%s, so it had to be included to prevent broken references.", typeDef.getQualifiedName(), stack.size() > 0 ? stack.get(0) : "an unknown location", stack.size() > 1 ? " of " + stack.get(1) : "");
       }
@@ -594,75 +709,102 @@ public class EnunciateJaxbContext extends EnunciateModuleContext implements Synt
         add(new RootElementDeclaration(typeDef.getDelegate(), typeDef, this), stack);
       }
 
-      typeDef.getReferencedFrom().addAll(stack);
-      try {
-        stack.push(typeDef);
-        add(typeDef.getSchema(), stack);
-
-        String namespace = typeDef.getNamespace();
-        String prefix = addNamespace(namespace);
-
-        SchemaInfo schemaInfo = this.schemas.get(namespace);
-        if (schemaInfo == null) {
-          schemaInfo = new SchemaInfo(this);
-          schemaInfo.setId(prefix);
-          schemaInfo.setNamespace(namespace);
-          this.schemas.put(namespace, schemaInfo);
+      this.referenceGraph.addReference(typeDef, stack);
+      stack.push(typeDef);
+      add(typeDef.getSchema(), stack);
+
+      String namespace = typeDef.getNamespace();
+      String prefix = addNamespace(namespace);
+
+      SchemaInfo schemaInfo = this.schemas.get(namespace);
+      if (schemaInfo == null) {
+        schemaInfo = new SchemaInfo(this);
+        schemaInfo.setId(prefix);
+        schemaInfo.setNamespace(namespace);
+        this.schemas.put(namespace, schemaInfo);
+      }
+      schemaInfo.getTypeDefinitions().add(typeDef);
+
+      this.typeDefinitionWork.perform(new WorkStack.Step() {
+        @Override
+        public void run() {
+          addSeeAlsoTypeDefinitions(typeDef, stack);
         }
-        schemaInfo.getTypeDefinitions().add(typeDef);
-
-        addSeeAlsoTypeDefinitions(typeDef, stack);
-
-        for (com.webcohesion.enunciate.modules.jaxb.model.Element element : typeDef.getElements()) {
-          addReferencedTypeDefinitions(element, stack);
-
-          ImplicitSchemaElement implicitElement = getImplicitElement(element);
-          if (implicitElement != null) {
-            String implicitNamespace = element.isWrapped() ? element.getWrapperNamespace() : element.getNamespace();
-            SchemaInfo referencedSchemaInfo = schemas.get(implicitNamespace);
-            if (referencedSchemaInfo == null) {
-              referencedSchemaInfo = new SchemaInfo(this);
-              referencedSchemaInfo.setId(addNamespace(implicitNamespace));
-              referencedSchemaInfo.setNamespace(implicitNamespace);
-              schemas.put(implicitNamespace, referencedSchemaInfo);
+      });
+
+      for (final com.webcohesion.enunciate.modules.jaxb.model.Element element : typeDef.getElements()) {
+        this.typeDefinitionWork.perform(new WorkStack.Step() {
+          @Override
+          public void run() {
+            addReferencedTypeDefinitions(element, stack);
+          }
+        });
+
+        //the implicit element is added once the type definitions referenced by the element have been added.
+        this.typeDefinitionWork.perform(new WorkStack.Step() {
+          @Override
+          public void run() {
+            ImplicitSchemaElement implicitElement = getImplicitElement(element);
+            if (implicitElement != null) {
+              String implicitNamespace = element.isWrapped() ? element.getWrapperNamespace() : element.getNamespace();
+              SchemaInfo referencedSchemaInfo = schemas.get(implicitNamespace);
+              if (referencedSchemaInfo == null) {
+                referencedSchemaInfo = new SchemaInfo(EnunciateJaxbContext.this);
+                referencedSchemaInfo.setId(addNamespace(implicitNamespace));
+                referencedSchemaInfo.setNamespace(implicitNamespace);
+                schemas.put(implicitNamespace, referencedSchemaInfo);
+              }
+              referencedSchemaInfo.getImplicitSchemaElements().add(implicitElement);
             }
-            referencedSchemaInfo.getImplicitSchemaElements().add(implicitElement);
           }
-        }
+        });
+      }
 
-        for (Attribute attribute : typeDef.getAttributes()) {
-          addReferencedTypeDefinitions(attribute, stack);
-          ImplicitSchemaAttribute implicitAttribute = getImplicitAttribute(attribute);
-          if (implicitAttribute != null) {
-            String implicitAttributeNamespace = attribute.getNamespace();
-            SchemaInfo referencedSchemaInfo = schemas.get(implicitAttributeNamespace);
-            if (referencedSchemaInfo == null) {
-              referencedSchemaInfo = new SchemaInfo(this);
-              referencedSchemaInfo.setId(addNamespace(implicitAttributeNamespace));
-              referencedSchemaInfo.setNamespace(implicitAttributeNamespace);
-              schemas.put(implicitAttributeNamespace, referencedSchemaInfo);
+      for (final Attribute attribute : typeDef.getAttributes()) {
+        this.typeDefinitionWork.perform(new WorkStack.Step() {
+          @Override
+          public void run() {
+            addReferencedTypeDefinitions(attribute, stack);
+          }
+        });
+
+        this.typeDefinitionWork.perform(new WorkStack.Step() {
+          @Override
+          public void run() {
+            ImplicitSchemaAttribute implicitAttribute = getImplicitAttribute(attribute);
+            if (implicitAttribute != null) {
+              String implicitAttributeNamespace = attribute.getNamespace();
+              SchemaInfo referencedSchemaInfo = schemas.get(implicitAttributeNamespace);
+              if (referencedSchemaInfo == null) {
+                referencedSchemaInfo = new SchemaInfo(EnunciateJaxbContext.this);
+                referencedSchemaInfo.setId(addNamespace(implicitAttributeNamespace));
+                referencedSchemaInfo.setNamespace(implicitAttributeNamespace);
+                schemas.put(implicitAttributeNamespace, referencedSchemaInfo);
+              }
+              referencedSchemaInfo.getImplicitSchemaAttributes().add(implicitAttribute);
             }
-            referencedSchemaInfo.getImplicitSchemaAttributes().add(implicitAttribute);
           }
-        }
+        });
+      }
 
-        if (typeDef.getAnyAttributeQNameEnumRef() != null) {
-          addReferencedTypeDefinitions(typeDef.getAnyAttributeQNameEnumRef(), stack);
-        }
+      this.typeDefinitionWork.perform(new WorkStack.Step() {
+        @Override
+        public void run() {
+          if (typeDef.getAnyAttributeQNameEnumRef() != null) {
+            addReferencedTypeDefinitions(typeDef.getAnyAttributeQNameEnumRef(), stack);
+          }
 
-        Value value = typeDef.getValue();
-        if (value != null) {
-          addReferencedTypeDefinitions(value, stack);
-        }
+          Value value = typeDef.getValue();
+          if (value != null) {
+            addReferencedTypeDefinitions(value, stack);
+          }
 
-        TypeMirror superclass = typeDef.getSuperclass();
-        if (!typeDef.isEnum() && superclass != null && superclass.getKind() != TypeKind.NONE) {
-          addReferencedTypeDefinitions(superclass, stack);
+          TypeMirror superclass = typeDef.getSuperclass();
+          if (!typeDef.isEnum() && superclass != null && superclass.getKind() != TypeKind.NONE) {
+            addReferencedTypeDefinitions(superclass, stack);
+          }
         }
-      }
-      finally {
-        stack.pop();
-      }
+      });
     }
   }
 
@@ -773,28 +915,13 @@ public class EnunciateJaxbContext extends EnunciateModuleContext implements Synt
    * @param declaration The declaration.
    */
   protected void addSeeAlsoTypeDefinitions(Element declaration, LinkedList<Element> stack) {
-    XmlSeeAlso seeAlso = declaration.getAnnotation(XmlSeeAlso.class);
-    if (seeAlso != null) {
-      Elements elementUtils = getContext().getProcessingEnvironment().getElementUtils();
-      Types typeUtils = getContext().getProcessingEnvironment().getTypeUtils();
-      stack.push(elementUtils.getTypeElement(XmlSeeAlso.class.getName()));
+    DecoratedProcessingEnvironment env = getContext().getProcessingEnvironment();
+    List<DecoratedTypeMirror> seeAlsos = Annotations.mirrorsOf(declaration, XmlSeeAlso.class, "value", env);
+    if (!seeAlsos.isEmpty()) {
+      stack.push(env.getElementUtils().getTypeElement(XmlSeeAlso.class.getName()));
       try {
-        Class[] classes = seeAlso.value();
-        for (Class clazz : classes) {
-          addSeeAlsoReference(elementUtils.getTypeElement(clazz.getName()), stack);
-        }
-      }
-      catch (MirroredTypeException e) {
-        TypeMirror mirror = e.getTypeMirror();
-        Element element = typeUtils.asElement(mirror);
-        if (element instanceof TypeElement) {
-          addSeeAlsoReference((TypeElement) element, stack);
-        }
-      }
-      catch (MirroredTypesException e) {
-        List<? extends TypeMirror> mirrors = e.getTypeMirrors();
-        for (TypeMirror mirror : mirrors) {
-          Element element = typeUtils.asElement(mirror);
+        for (DecoratedTypeMirror seeAlso : seeAlsos) {
+          Element element = seeAlso instanceof DeclaredType ? ((DeclaredType) seeAlso).asElement() : null;
           if (element instanceof TypeElement) {
             addSeeAlsoReference((TypeElement) element, stack);
           }
@@ -825,7 +952,7 @@ public class EnunciateJaxbContext extends EnunciateModuleContext implements Synt
    * @return Whether the specified type is a known type.
    */
   protected boolean isKnownType(TypeElement typeDef) {
-    return knownTypes.containsKey(typeDef.getQualifiedName().toString()) || ((DecoratedTypeMirror) typeDef.asType()).isInstanceOf(JAXBElement.class);
+    return this.knownTypes.isKnownType(typeDef);
   }
 
   /**
@@ -0,0 +1,49 @@
+package com.webcohesion.enunciate.modules.jaxb.api.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The XML examples of a JAXB context, memoized per type definition: the rendered example bodies and the example fragments
+ * (the content of an element) of the complex types that are nested in other examples.
+ *
+ * @author Ryan Heaton
+ */
+public class ExampleCache {
+
+  private final Map<String, Fragment> fragments = new ConcurrentHashMap<String, Fragment>();
+  private final Map<String, String> bodies = new ConcurrentHashMap<String, String>();
+
+  Fragment getFragment(String key) {
+    return this.fragments.get(key);
+  }
+
+  void putFragment(String key, Fragment fragment) {
+    this.fragments.put(key, fragment);
+  }
+
+  String getBody(String key) {
+    return this.bodies.get(key);
+  }
+
+  void putBody(String key, String body) {
+    this.bodies.put(key, body);
+  }
+
+  /**
+   * A (complete) example fragment: an element built for a type, the default namespace that was resolved while building it
+   * and the number of nodes in it. Fragments are shared, so they must not be modified.
+   */
+  static final class Fragment {
+
+    final ExampleImpl.XmlNode node;
+    final String defaultNamespace;
+    final int size;
+
+    Fragment(ExampleImpl.XmlNode node, String defaultNamespace, int size) {
+      this.node = node;
+      this.defaultNamespace = defaultNamespace;
+      this.size = size;
+    }
+  }
+}
@@ -11,26 +11,28 @@ import com.webcohesion.enunciate.modules.jaxb.model.ComplexTypeDefinition;
 import com.webcohesion.enunciate.modules.jaxb.model.ElementDeclaration;
 import com.webcohesion.enunciate.modules.jaxb.model.types.XmlClassType;
 import com.webcohesion.enunciate.modules.jaxb.model.types.XmlType;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 import java.io.StringWriter;
-import java.util.LinkedList;
+import java.util.*;
 
 /**
  * @author Ryan Heaton
  */
 public class ExampleImpl implements Example {
 
+  /**
+   * The maximum number of nodes (elements and attributes) in an example. Nested types are expanded until a type would repeat (a cycle)
+   * or the budget is spent, after which nested elements are left empty.
+   */
+  static final int MAX_EXAMPLE_NODES = 300;
+
+  private static final String INDENT = "  ";
+
+  private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
   private final ComplexTypeDefinition typeDefinition;
 
   public ExampleImpl(ComplexTypeDefinition typeDefinition) {
@@ -44,58 +46,51 @@ public class ExampleImpl implements Example {
 
   @Override
   public String getBody() {
-    try {
-      DocumentBuilderFactory builderFactory = DocumentBuilderFactory.newInstance();
-      builderFactory.setNamespaceAware(true);
-      DocumentBuilder domBuilder = builderFactory.newDocumentBuilder();
-      Document document = domBuilder.newDocument();
-
-      String rootName = Character.toLowerCase(this.typeDefinition.getSimpleName().charAt(0)) + "-----";
-      String rootNamespace = this.typeDefinition.getNamespace();
-      ElementDeclaration element = typeDefinition.getContext().findElementDeclaration(typeDefinition);
-      if (element != null) {
-        rootName = element.getName();
-        rootNamespace = element.getNamespace();
-      }
+    ExampleCache exampleCache = this.typeDefinition.getContext().getExampleCache();
+    String key = this.typeDefinition.getQualifiedName().toString();
+    String body = exampleCache.getBody(key);
+    if (body != null) {
+      return body;
+    }
 
-      Element rootElement = document.createElementNS(rootNamespace, rootName);
-      document.appendChild(rootElement);
-
-      Context context = new Context();
-      context.stack = new LinkedList<String>();
-      build(rootElement, this.typeDefinition, document, context);
-
-      TransformerFactory transformerFactory = TransformerFactory.newInstance();
-      Transformer transformer = transformerFactory.newTransformer();
-      transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-      transformer.setOutputProperty(OutputKeys.METHOD, "xml");
-      transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
-      transformer.setOutputProperty(OutputKeys.ENCODING, "utf-8");
-      transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "2");
-      DOMSource source = new DOMSource(document);
-      StringWriter value = new StringWriter();
-      transformer.transform(source, new StreamResult(value));
-      return value.toString();
+    String rootName = Character.toLowerCase(this.typeDefinition.getSimpleName().charAt(0)) + "-----";
+    String rootNamespace = this.typeDefinition.getNamespace();
+    ElementDeclaration element = typeDefinition.getContext().findElementDeclaration(typeDefinition);
+    if (element != null) {
+      rootName = element.getName();
+      rootNamespace = element.getNamespace();
     }
-    catch (ParserConfigurationException e) {
-      throw new EnunciateException(e);
+
+    XmlNode rootElement = new XmlNode(rootNamespace, rootName);
+
+    Context context = new Context();
+    context.stack = new LinkedList<String>();
+    context.cache = exampleCache;
+    build(rootElement, this.typeDefinition, context);
+
+    try {
+      StringWriter value = new StringWriter();
+      XMLStreamWriter writer = OUTPUT_FACTORY.createXMLStreamWriter(value);
+      write(rootElement, writer, "", Collections.<String, String>emptyMap(), 0);
+      writer.flush();
+      writer.close();
+      body = value.append('\n').toString();
     }
-    catch (TransformerException e) {
+    catch (XMLStreamException e) {
       throw new EnunciateException(e);
     }
-  }
 
-  private String build(Element rootElement, ComplexTypeDefinition type, final Document document, Context context) {
-    if (context.stack.size() > 2) {
-      //don't go deeper than 2 for fear of the OOM (see https://github.com/stoicflame/enunciate/issues/139).
-      return rootElement.getNamespaceURI();
-    }
+    exampleCache.putBody(key, body);
+    return body;
+  }
 
-    if (context.stack.contains(type.getQualifiedName().toString())) {
-      return rootElement.getNamespaceURI();
+  private String build(XmlNode rootElement, ComplexTypeDefinition type, Context context) {
+    if (context.stack.contains(type.getQualifiedName().toString()) || context.size >= MAX_EXAMPLE_NODES) {
+      context.truncations++;
+      return rootElement.namespace;
     }
 
-    String defaultNamespace = rootElement.getNamespaceURI();
+    String defaultNamespace = rootElement.namespace;
     context.stack.push(type.getQualifiedName().toString());
     try {
       FacetFilter facetFilter = type.getContext().getContext().getConfiguration().getFacetFilter();
@@ -128,7 +123,8 @@ public class ExampleImpl implements Example {
             example = documentationExample.value();
           }
         }
-        rootElement.setAttributeNS(attribute.getNamespace(), attribute.getName(), example);
+        rootElement.setAttribute(attribute.getNamespace(), attribute.getName(), example);
+        context.size++;
         if (attribute.getNamespace() == null) {
           defaultNamespace = null;
         }
@@ -150,7 +146,7 @@ public class ExampleImpl implements Example {
           }
         }
 
-        rootElement.setTextContent(example);
+        rootElement.setText(example);
       }
       else {
         for (com.webcohesion.enunciate.modules.jaxb.model.Element element : type.getElements()) {
@@ -162,10 +158,11 @@ public class ExampleImpl implements Example {
             continue;
           }
 
-          Element currentElement = rootElement;
+          XmlNode currentElement = rootElement;
           if (element.isWrapped()) {
-            Element wrapper = document.createElementNS(element.getWrapperNamespace(), element.getWrapperName());
+            XmlNode wrapper = new XmlNode(element.getWrapperNamespace(), element.getWrapperName());
             rootElement.appendChild(wrapper);
+            context.size++;
             currentElement = wrapper;
             if (element.getWrapperNamespace() == null) {
               defaultNamespace = null;
@@ -173,14 +170,14 @@ public class ExampleImpl implements Example {
           }
 
           for (com.webcohesion.enunciate.modules.jaxb.model.Element choice : element.getChoices()) {
-            Element childElement = document.createElementNS(choice.getNamespace(), choice.getName());
+            XmlNode childElement = new XmlNode(choice.getNamespace(), choice.getName());
             if (choice.getNamespace() == null) {
               defaultNamespace = null;
             }
 
             XmlType baseType = choice.getXmlType();
             if (baseType instanceof XmlClassType && ((XmlClassType) baseType).getTypeDefinition() instanceof ComplexTypeDefinition) {
-              String defaultChildNs = build(childElement, (ComplexTypeDefinition) ((XmlClassType) baseType).getTypeDefinition(), document, context);
+              String defaultChildNs = buildNested(childElement, (ComplexTypeDefinition) ((XmlClassType) baseType).getTypeDefinition(), context);
               if (defaultChildNs == null) {
                 defaultNamespace = null;
               }
@@ -207,10 +204,11 @@ public class ExampleImpl implements Example {
                 }
               }
 
-              childElement.setTextContent(example);
+              childElement.setText(example);
             }
 
             currentElement.appendChild(childElement);
+            context.size++;
           }
         }
       }
@@ -218,19 +216,20 @@ public class ExampleImpl implements Example {
 
       XmlType supertype = type.getBaseType();
       if (supertype instanceof XmlClassType && ((XmlClassType)supertype).getTypeDefinition() instanceof ComplexTypeDefinition) {
-        String defaultSuperNs = build(rootElement, (ComplexTypeDefinition) ((XmlClassType) supertype).getTypeDefinition(), document, context);
+        String defaultSuperNs = build(rootElement, (ComplexTypeDefinition) ((XmlClassType) supertype).getTypeDefinition(), context);
         if (defaultSuperNs == null) {
           defaultNamespace = null;
         }
       }
 
       if (type.getAnyElement() != null && ElementUtils.findDeprecationMessage(type.getAnyElement()) == null) {
-        Element extension1 = document.createElementNS(defaultNamespace, "extension1");
-        extension1.setTextContent("...");
+        XmlNode extension1 = new XmlNode(defaultNamespace, "extension1");
+        extension1.setText("...");
         rootElement.appendChild(extension1);
-        Element extension2 = document.createElementNS(defaultNamespace, "extension2");
-        extension2.setTextContent("...");
+        XmlNode extension2 = new XmlNode(defaultNamespace, "extension2");
+        extension2.setText("...");
         rootElement.appendChild(extension2);
+        context.size += 2;
       }
     }
     finally {
@@ -240,8 +239,155 @@ public class ExampleImpl implements Example {
     return defaultNamespace;
   }
 
+  /**
+   * Build the content of an element of a nested complex type. Complete fragments (not cut short by a cycle or the budget) are memoized per
+   * type, element namespace and example index.
+   */
+  private String buildNested(XmlNode childElement, ComplexTypeDefinition type, Context context) {
+    String key = type.getQualifiedName().toString() + '#' + childElement.namespace + '#' + context.currentIndex;
+    ExampleCache.Fragment fragment = context.cache.getFragment(key);
+    if (fragment != null && context.size + fragment.size <= MAX_EXAMPLE_NODES) {
+      childElement.shareContent(fragment.node);
+      context.size += fragment.size;
+      return fragment.defaultNamespace;
+    }
+
+    int size = context.size;
+    int truncations = context.truncations;
+    String defaultNamespace = build(childElement, type, context);
+    if (context.truncations == truncations) {
+      context.cache.putFragment(key, new ExampleCache.Fragment(childElement, defaultNamespace, context.size - size));
+    }
+    return defaultNamespace;
+  }
+
+  /**
+   * Write an element (indented by two spaces per level). As with the DOM serializer this replaces, the attribute namespaces get the
+   * prefixes ns0, ns1 and so on, counted per element and declared unless already in scope, and the default namespace is declared after
+   * the attributes when it changes.
+   */
+  private void write(XmlNode node, XMLStreamWriter writer, String defaultNamespace, Map<String, String> prefixes, int depth) throws XMLStreamException {
+    String namespace = node.namespace == null ? "" : node.namespace;
+    boolean empty = node.content.isEmpty();
+    if (empty) {
+      writer.writeEmptyElement("", node.name, namespace);
+    }
+    else {
+      writer.writeStartElement("", node.name, namespace);
+    }
+
+    Map<String, String> declaredPrefixes = prefixes;
+    int prefixIndex = 0;
+    for (String[] attribute : node.attributes) {
+      String attributeNamespace = attribute[0];
+      String value = attribute[2] == null ? "" : attribute[2];
+      if (attributeNamespace == null || attributeNamespace.isEmpty()) {
+        writer.writeAttribute(attribute[1], value);
+      }
+      else {
+        String prefix = "ns" + prefixIndex++;
+        if (!attributeNamespace.equals(declaredPrefixes.get(prefix))) {
+          declaredPrefixes = new HashMap<String, String>(declaredPrefixes);
+          declaredPrefixes.put(prefix, attributeNamespace);
+          writer.writeNamespace(prefix, attributeNamespace);
+        }
+        writer.writeAttribute(prefix, attributeNamespace, attribute[1], value);
+      }
+    }
+
+    if (!namespace.equals(defaultNamespace)) {
+      writer.writeDefaultNamespace(namespace);
+    }
+
+    if (!empty) {
+      boolean elementContent = false;
+      for (Object item : node.content) {
+        if (item instanceof XmlNode) {
+          writer.writeCharacters("\n");
+          indent(writer, depth + 1);
+          write((XmlNode) item, writer, namespace, declaredPrefixes, depth + 1);
+          elementContent = true;
+        }
+        else {
+          writer.writeCharacters((String) item);
+        }
+      }
+
+      if (elementContent) {
+        writer.writeCharacters("\n");
+        indent(writer, depth);
+      }
+      writer.writeEndElement();
+    }
+  }
+
+  private static void indent(XMLStreamWriter writer, int depth) throws XMLStreamException {
+    for (int i = 0; i < depth; i++) {
+      writer.writeCharacters(INDENT);
+    }
+  }
+
+  /**
+   * An element of an example: its attributes (namespace, name and value) and its content (child elements and text), in document order.
+   */
+  static final class XmlNode {
+
+    final String namespace;
+    final String name;
+    List<String[]> attributes = new ArrayList<String[]>();
+    List<Object> content = new ArrayList<Object>();
+
+    XmlNode(String namespace, String name) {
+      this.namespace = namespace;
+      this.name = name;
+    }
+
+    void setAttribute(String namespace, String name, String value) {
+      //like a DOM attribute map, the attributes are kept ordered by name.
+      int position = -1;
+      for (int i = 0; i < this.attributes.size(); i++) {
+        String[] attribute = this.attributes.get(i);
+        if (attribute[1].equals(name) && (namespace == null ? attribute[0] == null : namespace.equals(attribute[0]))) {
+          attribute[2] = value;
+          return;
+        }
+        else if (position < 0 && attribute[1].compareTo(name) >= 0) {
+          position = i;
+        }
+      }
+      this.attributes.add(position < 0 ? this.attributes.size() : position, new String[]{namespace, name, value});
+    }
+
+    void setText(String text) {
+      //like DOM text content, the text replaces any existing content.
+      this.content.clear();
+      if (text != null) {
+        this.content.add(text);
+      }
+    }
+
+    void appendChild(XmlNode child) {
+      this.content.add(child);
+    }
+
+    /**
+     * Take the attributes and content of a memoized fragment. The lists are copied so the fragment stays as it was built; the child nodes
+     * themselves are complete and are never changed again, so they're shared.
+     */
+    void shareContent(XmlNode fragment) {
+      this.attributes = new ArrayList<String[]>(fragment.attributes.size());
+      for (String[] attribute : fragment.attributes) {
+        this.attributes.add(attribute.clone());
+      }
+      this.content = new ArrayList<Object>(fragment.content);
+    }
+  }
+
   private static class Context {
     LinkedList<String> stack;
+    ExampleCache cache;
     int currentIndex = 0;
+    int size = 0;
+    int truncations = 0;
   }
 }
@@ -19,7 +19,6 @@ package com.webcohesion.enunciate.modules.jaxb.model;
 import com.webcohesion.enunciate.facets.Facet;
 import com.webcohesion.enunciate.facets.HasFacets;
 import com.webcohesion.enunciate.javac.decorations.Annotations;
-import com.webcohesion.enunciate.javac.decorations.TypeMirrorDecorator;
 import com.webcohesion.enunciate.javac.decorations.element.DecoratedElement;
 import com.webcohesion.enunciate.javac.decorations.element.DecoratedTypeElement;
 import com.webcohesion.enunciate.javac.decorations.element.PropertyElement;
@@ -46,7 +45,6 @@ import javax.lang.model.util.ElementFilter;
 import javax.xml.bind.annotation.*;
 import javax.xml.namespace.QName;
 import java.util.*;
-import java.util.concurrent.Callable;
 
 /**
  * An accessor for a field or method value into a type.
@@ -405,15 +403,7 @@ public abstract class Accessor extends DecoratedElement<javax.lang.model.element
     Collection<DecoratedTypeMirror> seeAlsos = null;
     XmlSeeAlso seeAlsoInfo = getAnnotation(XmlSeeAlso.class);
     if (seeAlsoInfo != null) {
-      seeAlsos = new ArrayList<DecoratedTypeMirror>();
-      try {
-        for (Class clazz : seeAlsoInfo.value()) {
-          seeAlsos.add(TypeMirrorUtils.mirrorOf(clazz, this.env));
-        }
-      }
-      catch (MirroredTypesException e) {
-        seeAlsos.addAll((Collection<? extends DecoratedTypeMirror>) TypeMirrorDecorator.decorate(e.getTypeMirrors(), this.env));
-      }
+      seeAlsos = new ArrayList<DecoratedTypeMirror>(Annotations.mirrorsOf(this, XmlSeeAlso.class, "value", this.env));
     }
     return seeAlsos;
   }
@@ -470,17 +460,7 @@ public abstract class Accessor extends DecoratedElement<javax.lang.model.element
    * @return The enum type containing the known qnames for this qname enum accessor.
    */
   public DecoratedTypeMirror getQNameEnumRef() {
-    final XmlQNameEnumRef enumRef = getAnnotation(XmlQNameEnumRef.class);
-    DecoratedTypeMirror qnameEnumType = null;
-    if (enumRef != null) {
-      qnameEnumType = Annotations.mirrorOf(new Callable<Class<?>>() {
-        @Override
-        public Class<?> call() throws Exception {
-          return enumRef.value();
-        }
-      }, this.env);
-    }
-    return qnameEnumType;
+    return Annotations.mirrorOf(this, XmlQNameEnumRef.class, "value", this.env);
   }
 
   /**
@@ -489,7 +469,7 @@ public abstract class Accessor extends DecoratedElement<javax.lang.model.element
    * @return The referenced-from list.
    */
   public LinkedList<Element> getReferencedFrom() {
-    LinkedList<Element> stack = new LinkedList<Element>(this.typeDefinition.getReferencedFrom());
+    LinkedList<Element> stack = this.typeDefinition.getReferencedFrom();
     stack.add(this);
     return stack;
   }
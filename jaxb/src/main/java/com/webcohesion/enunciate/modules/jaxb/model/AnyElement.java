@@ -19,11 +19,13 @@ package com.webcohesion.enunciate.modules.jaxb.model;
 import com.webcohesion.enunciate.EnunciateException;
 import com.webcohesion.enunciate.facets.Facet;
 import com.webcohesion.enunciate.facets.HasFacets;
+import com.webcohesion.enunciate.javac.decorations.Annotations;
 import com.webcohesion.enunciate.javac.decorations.element.DecoratedElement;
 import com.webcohesion.enunciate.javac.decorations.type.DecoratedTypeMirror;
 import com.webcohesion.enunciate.metadata.ClientName;
 import com.webcohesion.enunciate.modules.jaxb.EnunciateJaxbContext;
 
+import javax.lang.model.element.AnnotationMirror;
 import javax.xml.bind.annotation.XmlAnyElement;
 import javax.xml.bind.annotation.XmlElementRef;
 import javax.xml.bind.annotation.XmlElementRefs;
@@ -52,8 +54,10 @@ public class AnyElement extends DecoratedElement<javax.lang.model.element.Elemen
     ArrayList<ElementRef> elementRefs = new ArrayList<ElementRef>();
     XmlElementRefs elementRefInfo = delegate.getAnnotation(XmlElementRefs.class);
     if (elementRefInfo != null && elementRefInfo.value() != null) {
-      for (XmlElementRef elementRef : elementRefInfo.value()) {
-        elementRefs.add(new ElementRef(delegate, typeDef, elementRef, context));
+      XmlElementRef[] elementRefChoices = elementRefInfo.value();
+      List<AnnotationMirror> elementRefMirrors = Annotations.annotationsOf(delegate, XmlElementRefs.class, "value", this.env);
+      for (int i = 0; i < elementRefChoices.length; i++) {
+        elementRefs.add(new ElementRef(delegate, typeDef, elementRefChoices[i], elementRefMirrors.get(i), context));
       }
     }
     refs = Collections.unmodifiableList(elementRefs);
@@ -27,6 +27,7 @@ import com.webcohesion.enunciate.modules.jaxb.model.types.XmlTypeFactory;
 import com.webcohesion.enunciate.modules.jaxb.model.util.JAXBUtil;
 import com.webcohesion.enunciate.util.BeanValidationUtils;
 
+import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.ArrayType;
 import javax.lang.model.type.TypeKind;
@@ -35,7 +36,7 @@ import javax.xml.bind.annotation.*;
 import javax.xml.namespace.QName;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.concurrent.Callable;
+import java.util.List;
 
 /**
  * An accessor that is marshalled in xml to an xml element.
@@ -46,6 +47,7 @@ import java.util.concurrent.Callable;
 public class Element extends Accessor {
 
   private final XmlElement xmlElement;
+  private final AnnotationMirror xmlElementMirror;
   private final Collection<Element> choices;
   private boolean isChoice = false;
 
@@ -53,7 +55,9 @@ public class Element extends Accessor {
     super(delegate, typedef, context);
 
     XmlElement xmlElement = getAnnotation(XmlElement.class);
+    AnnotationMirror xmlElementMirror = Annotations.findAnnotation(this, XmlElement.class);
     XmlElements xmlElements = getAnnotation(XmlElements.class);
+    List<AnnotationMirror> xmlElementsMirrors = Annotations.annotationsOf(this, XmlElements.class, "value", this.env);
     if (xmlElements != null) {
       XmlElement[] elementChoices = xmlElements.value();
       if (elementChoices.length == 0) {
@@ -61,26 +65,25 @@ public class Element extends Accessor {
       }
       else if ((xmlElement == null) && (elementChoices.length == 1)) {
         xmlElement = elementChoices[0];
+        xmlElementMirror = xmlElementsMirrors.get(0);
         xmlElements = null;
       }
     }
 
     this.xmlElement = xmlElement;
+    this.xmlElementMirror = xmlElementMirror;
     this.choices = new ArrayList<Element>();
     if (xmlElements != null) {
-      for (final XmlElement element : xmlElements.value()) {
-        DecoratedTypeMirror typeMirror = Annotations.mirrorOf(new Callable<Class<?>>() {
-          @Override
-          public Class<?> call() throws Exception {
-            return element.type();
-          }
-        }, this.env, XmlElement.DEFAULT.class);
+      XmlElement[] elementChoices = xmlElements.value();
+      for (int i = 0; i < elementChoices.length; i++) {
+        AnnotationMirror elementMirror = xmlElementsMirrors.get(i);
+        DecoratedTypeMirror typeMirror = Annotations.mirrorOf(elementMirror, "type", this.env, XmlElement.DEFAULT.class);
 
         if ((typeMirror instanceof ArrayType && ((ArrayType)typeMirror).getComponentType().getKind() != TypeKind.BYTE) || (typeMirror.isCollection())) {
           throw new EnunciateException("Member " + getName() + " of " + typedef.getQualifiedName() + ": an element choice must not be a collection or an array.");
         }
 
-        this.choices.add(new Element(getDelegate(), getTypeDefinition(), element, context));
+        this.choices.add(new Element(getDelegate(), getTypeDefinition(), elementChoices[i], elementMirror, context));
       }
     }
     else {
@@ -94,10 +97,12 @@ public class Element extends Accessor {
    * @param delegate   The delegate.
    * @param typedef    The type definition.
    * @param xmlElement The specific element annotation.
+   * @param xmlElementMirror The mirror of the specific element annotation.
    */
-  protected Element(javax.lang.model.element.Element delegate, TypeDefinition typedef, XmlElement xmlElement, EnunciateJaxbContext context) {
+  protected Element(javax.lang.model.element.Element delegate, TypeDefinition typedef, XmlElement xmlElement, AnnotationMirror xmlElementMirror, EnunciateJaxbContext context) {
     super(delegate, typedef, context);
     this.xmlElement = xmlElement;
+    this.xmlElementMirror = xmlElementMirror;
     this.choices = new ArrayList<Element>();
     this.choices.add(this);
     this.isChoice = true;
@@ -186,13 +191,8 @@ public class Element extends Accessor {
   public DecoratedTypeMirror getAccessorType() {
     DecoratedTypeMirror specifiedType = null;
 
-    if (xmlElement != null) {
-      specifiedType = Annotations.mirrorOf(new Callable<Class<?>>() {
-        @Override
-        public Class<?> call() throws Exception {
-          return xmlElement.type();
-        }
-      }, this.env, XmlElement.DEFAULT.class);
+    if (xmlElementMirror != null) {
+      specifiedType = Annotations.mirrorOf(xmlElementMirror, "type", this.env, XmlElement.DEFAULT.class);
     }
 
     if (specifiedType != null) {
@@ -220,13 +220,8 @@ public class Element extends Accessor {
    */
   @Override
   public com.webcohesion.enunciate.modules.jaxb.model.types.XmlType getBaseType() {
-    if (xmlElement != null) {
-      TypeMirror typeMirror = Annotations.mirrorOf(new Callable<Class<?>>() {
-        @Override
-        public Class<?> call() throws Exception {
-          return xmlElement.type();
-        }
-      }, this.env, XmlElement.DEFAULT.class);
+    if (xmlElementMirror != null) {
+      TypeMirror typeMirror = Annotations.mirrorOf(xmlElementMirror, "type", this.env, XmlElement.DEFAULT.class);
 
       if (typeMirror != null) {
         return XmlTypeFactory.getXmlType(typeMirror, this.context);
@@ -27,6 +27,7 @@ import com.webcohesion.enunciate.modules.jaxb.model.types.XmlClassType;
 import com.webcohesion.enunciate.modules.jaxb.model.types.XmlType;
 import com.webcohesion.enunciate.modules.jaxb.model.types.XmlTypeFactory;
 
+import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeMirror;
@@ -37,7 +38,6 @@ import javax.xml.bind.annotation.XmlElementRefs;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.namespace.QName;
 import java.util.*;
-import java.util.concurrent.Callable;
 
 /**
  * An accessor that is marshalled in xml to an xml element.
@@ -48,6 +48,7 @@ import java.util.concurrent.Callable;
 public class ElementRef extends Element {
 
   private final XmlElementRef xmlElementRef;
+  private final AnnotationMirror xmlElementRefMirror;
   private final Collection<ElementRef> choices;
   private final ReferencedElement referencedElement;
   private boolean isChoice = false;
@@ -56,7 +57,9 @@ public class ElementRef extends Element {
     super(delegate, typedef, context);
 
     XmlElementRef xmlElementRef = getAnnotation(XmlElementRef.class);
+    AnnotationMirror xmlElementRefMirror = Annotations.findAnnotation(this, XmlElementRef.class);
     XmlElementRefs xmlElementRefs = getAnnotation(XmlElementRefs.class);
+    List<AnnotationMirror> xmlElementRefsMirrors = Annotations.annotationsOf(this, XmlElementRefs.class, "value", this.env);
 
     if (xmlElementRefs != null) {
       XmlElementRef[] elementRefChoices = xmlElementRefs.value();
@@ -65,16 +68,19 @@ public class ElementRef extends Element {
       }
       else if ((xmlElementRef == null) && (elementRefChoices.length == 1)) {
         xmlElementRef = elementRefChoices[0];
+        xmlElementRefMirror = xmlElementRefsMirrors.get(0);
         xmlElementRefs = null;
       }
     }
 
     this.xmlElementRef = xmlElementRef;
+    this.xmlElementRefMirror = xmlElementRefMirror;
     Collection<ElementRef> choices;
     if (xmlElementRefs != null) {
       choices = new ArrayList<ElementRef>();
-      for (XmlElementRef elementRef : xmlElementRefs.value()) {
-        choices.add(new ElementRef(getDelegate(), getTypeDefinition(), elementRef, context));
+      XmlElementRef[] elementRefChoices = xmlElementRefs.value();
+      for (int i = 0; i < elementRefChoices.length; i++) {
+        choices.add(new ElementRef(getDelegate(), getTypeDefinition(), elementRefChoices[i], xmlElementRefsMirrors.get(i), context));
       }
 
       this.referencedElement = null;
@@ -110,10 +116,12 @@ public class ElementRef extends Element {
    * @param delegate      The delegate.
    * @param typedef       The type definition.
    * @param xmlElementRef The specific element ref annotation.
+   * @param xmlElementRefMirror The mirror of the specific element ref annotation.
    */
-  protected ElementRef(javax.lang.model.element.Element delegate, TypeDefinition typedef, XmlElementRef xmlElementRef, EnunciateJaxbContext context) {
+  protected ElementRef(javax.lang.model.element.Element delegate, TypeDefinition typedef, XmlElementRef xmlElementRef, AnnotationMirror xmlElementRefMirror, EnunciateJaxbContext context) {
     super(delegate, typedef, context);
     this.xmlElementRef = xmlElementRef;
+    this.xmlElementRefMirror = xmlElementRefMirror;
     this.choices = new ArrayList<ElementRef>();
     this.choices.add(this);
     this.referencedElement = loadRef();
@@ -130,6 +138,7 @@ public class ElementRef extends Element {
   private ElementRef(javax.lang.model.element.Element delegate, TypeDefinition typedef, ElementDeclaration ref, EnunciateJaxbContext context) {
     super(delegate, typedef, context);
     this.xmlElementRef = null;
+    this.xmlElementRefMirror = null;
     this.choices = new ArrayList<ElementRef>();
     this.choices.add(this);
     this.referencedElement = new ElementReferencedElement(ref);
@@ -144,13 +153,8 @@ public class ElementRef extends Element {
   protected ReferencedElement loadRef() {
     DecoratedTypeMirror refType = null;
 
-    if (xmlElementRef != null) {
-      refType = Annotations.mirrorOf(new Callable<Class<?>>() {
-        @Override
-        public Class<?> call() throws Exception {
-          return xmlElementRef.type();
-        }
-      }, this.env, XmlElementRef.DEFAULT.class);
+    if (xmlElementRefMirror != null) {
+      refType = Annotations.mirrorOf(xmlElementRefMirror, "type", this.env, XmlElementRef.DEFAULT.class);
     }
 
     if (refType == null) {
@@ -274,13 +278,8 @@ public class ElementRef extends Element {
   public DecoratedTypeMirror getAccessorType() {
     DecoratedTypeMirror specifiedType = null;
 
-    if (xmlElementRef != null) {
-      specifiedType = Annotations.mirrorOf(new Callable<Class<?>>() {
-        @Override
-        public Class<?> call() throws Exception {
-          return xmlElementRef.type();
-        }
-      }, this.env, XmlElementRef.DEFAULT.class);
+    if (xmlElementRefMirror != null) {
+      specifiedType = Annotations.mirrorOf(xmlElementRefMirror, "type", this.env, XmlElementRef.DEFAULT.class);
     }
 
     if (specifiedType != null) {
@@ -18,7 +18,6 @@ package com.webcohesion.enunciate.modules.jaxb.model;
 
 import com.webcohesion.enunciate.EnunciateException;
 import com.webcohesion.enunciate.javac.decorations.Annotations;
-import com.webcohesion.enunciate.javac.decorations.TypeMirrorDecorator;
 import com.webcohesion.enunciate.javac.decorations.type.DecoratedTypeMirror;
 import com.webcohesion.enunciate.javac.decorations.type.TypeMirrorUtils;
 import com.webcohesion.enunciate.modules.jaxb.EnunciateJaxbContext;
@@ -28,12 +27,10 @@ import com.webcohesion.enunciate.modules.jaxb.model.types.XmlTypeFactory;
 
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
-import javax.lang.model.type.MirroredTypeException;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import java.util.*;
-import java.util.concurrent.Callable;
 
 /**
  * An enum type definition.
@@ -76,12 +73,7 @@ public class EnumTypeDefinition extends SimpleTypeDefinition {
     XmlType xmlType = KnownXmlType.STRING;
 
     if (xmlEnum != null) {
-      DecoratedTypeMirror typeMirror = Annotations.mirrorOf(new Callable<Class<?>>() {
-        @Override
-        public Class<?> call() throws Exception {
-          return xmlEnum.value();
-        }
-      }, this.env);
+      DecoratedTypeMirror typeMirror = Annotations.mirrorOf(this, XmlEnum.class, "value", this.env);
 
       xmlType = XmlTypeFactory.getXmlType(typeMirror, this.context);
     }
@@ -95,12 +87,8 @@ public class EnumTypeDefinition extends SimpleTypeDefinition {
    * @return The enum base class.
    */
   public DecoratedTypeMirror getEnumBaseClass() {
-    try {
-      return TypeMirrorUtils.mirrorOf(xmlEnum == null ? String.class : xmlEnum.value(), this.env);
-    }
-    catch (MirroredTypeException e) {
-      return (DecoratedTypeMirror) TypeMirrorDecorator.decorate(e.getTypeMirror(), this.env);
-    }
+    DecoratedTypeMirror baseClass = xmlEnum == null ? null : Annotations.mirrorOf(this, XmlEnum.class, "value", this.env);
+    return baseClass == null ? TypeMirrorUtils.mirrorOf(String.class, this.env) : baseClass;
   }
 
   /**
@@ -21,7 +21,6 @@ import javax.xml.namespace.QName;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.concurrent.Callable;
 
 /**
  * A declaration of a "local" element (defined by a registry).
@@ -100,12 +99,7 @@ public class LocalElementDeclaration extends DecoratedExecutableElement implemen
   public DecoratedTypeElement getElementScope() {
     DecoratedTypeElement declaration = null;
 
-    DecoratedTypeMirror typeMirror = Annotations.mirrorOf(new Callable<Class<?>>() {
-      @Override
-      public Class<?> call() throws Exception {
-        return elementDecl.scope();
-      }
-    }, this.env, XmlElementDecl.GLOBAL.class);
+    DecoratedTypeMirror typeMirror = Annotations.mirrorOf(this, XmlElementDecl.class, "scope", this.env, XmlElementDecl.GLOBAL.class);
 
     if (typeMirror != null) {
       declaration = (DecoratedTypeElement) ((DeclaredType) typeMirror).asElement();
@@ -0,0 +1,210 @@
+package com.webcohesion.enunciate.modules.jaxb.model;
+
+import com.webcohesion.enunciate.modules.jaxb.model.types.MapXmlType;
+import com.webcohesion.enunciate.modules.jaxb.model.types.XmlClassType;
+import com.webcohesion.enunciate.modules.jaxb.model.types.XmlType;
+
+import javax.xml.namespace.QName;
+import java.util.*;
+
+/**
+ * The namespace references of the JAXB model. For each type definition, the graph records the namespaces it references directly and the
+ * type definitions it references; the namespaces referenced by a schema are the union of the direct references of all the type definitions
+ * reachable from the schema. Both are computed once and memoized: the type definition references until a type definition is added to the
+ * model (see {@link #reset()}), and the schema references until the content of the schema changes.
+ *
+ * @author Ryan Heaton
+ */
+public class NamespaceGraph {
+
+  private final Map<String, TypeReferences> typeReferences = new HashMap<String, TypeReferences>();
+  private final Map<SchemaInfo, SchemaReferences> schemaReferences = new IdentityHashMap<SchemaInfo, SchemaReferences>();
+
+  /**
+   * Forget all the memoized references, e.g. because a type definition was added and the XML types of the model may resolve differently.
+   */
+  public synchronized void reset() {
+    this.typeReferences.clear();
+    this.schemaReferences.clear();
+  }
+
+  /**
+   * The namespaces referenced by the given schema, including its own namespace (the null namespace is consolidated as "").
+   *
+   * @param schema The schema.
+   * @return The (unmodifiable) referenced namespaces.
+   */
+  public synchronized Set<String> getReferencedNamespaces(SchemaInfo schema) {
+    int stamp = stampOf(schema);
+    SchemaReferences references = this.schemaReferences.get(schema);
+    if (references == null || references.stamp != stamp) {
+      references = new SchemaReferences(stamp, Collections.unmodifiableSet(loadReferencedNamespaces(schema)));
+      this.schemaReferences.put(schema, references);
+    }
+    return references.namespaces;
+  }
+
+  protected Set<String> loadReferencedNamespaces(SchemaInfo schema) {
+    Set<String> referencedNamespaces = new HashSet<String>();
+    LinkedList<TypeDefinition> queue = new LinkedList<TypeDefinition>();
+
+    queue.addAll(schema.getTypeDefinitions());
+
+    for (RootElementDeclaration rootElement : schema.getRootElements()) {
+      referencedNamespaces.add(rootElement.getNamespace());
+      referencedNamespaces.add(rootElement.getTypeDefinition().getNamespace());
+    }
+
+    for (ImplicitSchemaElement schemaElement : schema.getImplicitSchemaElements()) {
+      QName typeQName = schemaElement.getTypeQName();
+      if (typeQName != null) {
+        referencedNamespaces.add(typeQName.getNamespaceURI());
+      }
+
+      if (schemaElement instanceof ImplicitRootElement) {
+        for (ImplicitChildElement childElement : ((ImplicitRootElement) schemaElement).getChildElements()) {
+          addReferences(childElement.getXmlType(), referencedNamespaces, queue);
+        }
+      }
+    }
+
+    for (ImplicitSchemaAttribute schemaAttribute : schema.getImplicitSchemaAttributes()) {
+      QName typeQName = schemaAttribute.getTypeQName();
+      if (typeQName != null) {
+        referencedNamespaces.add(typeQName.getNamespaceURI());
+      }
+    }
+
+    for (LocalElementDeclaration localElementDeclaration : schema.getLocalElementDeclarations()) {
+      QName typeQName = localElementDeclaration.getElementXmlType().getQname();
+      if (typeQName != null) {
+        referencedNamespaces.add(typeQName.getNamespaceURI());
+      }
+    }
+
+    //union of the direct references of the reachable type definitions.
+    Set<String> visited = new HashSet<String>();
+    while (!queue.isEmpty()) {
+      TypeDefinition typeDefinition = queue.removeFirst();
+      if (visited.add(typeDefinition.getQualifiedName().toString())) {
+        TypeReferences references = getTypeReferences(typeDefinition);
+        referencedNamespaces.addAll(references.namespaces);
+        queue.addAll(references.typeDefinitions);
+      }
+    }
+
+    referencedNamespaces.add(schema.getNamespace());
+    //remove the obvious referenced namespace.
+    referencedNamespaces.remove("http://www.w3.org/2001/XMLSchema");
+
+    //consolidate the "" and the null:
+    if (referencedNamespaces.remove(null)) {
+      referencedNamespaces.add("");
+    }
+
+    return referencedNamespaces;
+  }
+
+  protected TypeReferences getTypeReferences(TypeDefinition typeDefinition) {
+    String key = typeDefinition.getQualifiedName().toString();
+    TypeReferences references = this.typeReferences.get(key);
+    if (references == null) {
+      references = loadTypeReferences(typeDefinition);
+      this.typeReferences.put(key, references);
+    }
+    return references;
+  }
+
+  protected TypeReferences loadTypeReferences(TypeDefinition typeDefinition) {
+    Set<String> namespaces = new HashSet<String>();
+    List<TypeDefinition> typeDefinitions = new ArrayList<TypeDefinition>();
+
+    for (Attribute attribute : typeDefinition.getAttributes()) {
+      QName ref = attribute.getRef();
+      if (ref != null) {
+        namespaces.add(ref.getNamespaceURI());
+      }
+      else {
+        addReferences(attribute.getBaseType(), namespaces, typeDefinitions);
+      }
+    }
+
+    for (Element element : typeDefinition.getElements()) {
+      for (Element choice : element.getChoices()) {
+        QName ref = choice.getRef();
+        if (ref != null) {
+          namespaces.add(ref.getNamespaceURI());
+        }
+        else {
+          addReferences(choice.getBaseType(), namespaces, typeDefinitions);
+        }
+      }
+    }
+
+    Value value = typeDefinition.getValue();
+    if (value != null) {
+      addReferences(value.getBaseType(), namespaces, typeDefinitions);
+    }
+
+    if (typeDefinition instanceof QNameEnumTypeDefinition) {
+      for (EnumValue enumValue : ((QNameEnumTypeDefinition) typeDefinition).getEnumValues()) {
+        if (enumValue.getValue() != null) {
+          namespaces.add(((QName) enumValue.getValue()).getNamespaceURI());
+        }
+      }
+    }
+
+    addReferences(typeDefinition.getBaseType(), namespaces, typeDefinitions);
+    return new TypeReferences(namespaces, typeDefinitions);
+  }
+
+  private static void addReferences(XmlType xmlType, Set<String> namespaces, List<TypeDefinition> typeDefinitions) {
+    if (!xmlType.isAnonymous()) {
+      namespaces.add(xmlType.getNamespace());
+    }
+    else if (xmlType instanceof MapXmlType) {
+      namespaces.add(((MapXmlType) xmlType).getKeyType().getNamespace());
+      namespaces.add(((MapXmlType) xmlType).getValueType().getNamespace());
+    }
+
+    if (xmlType instanceof XmlClassType) {
+      typeDefinitions.add(((XmlClassType) xmlType).getTypeDefinition());
+    }
+  }
+
+  /**
+   * A stamp of the content of a schema. The collections of a schema are only ever added to, so the stamp changes whenever the content does.
+   */
+  private static int stampOf(SchemaInfo schema) {
+    return schema.getTypeDefinitions().size()
+      + schema.getRootElements().size()
+      + schema.getImplicitSchemaElements().size()
+      + schema.getImplicitSchemaAttributes().size()
+      + schema.getLocalElementDeclarations().size();
+  }
+
+  /**
+   * The direct references of a type definition.
+   */
+  protected static final class TypeReferences {
+
+    private final Set<String> namespaces;
+    private final List<TypeDefinition> typeDefinitions;
+
+    private TypeReferences(Set<String> namespaces, List<TypeDefinition> typeDefinitions) {
+      this.namespaces = namespaces;
+      this.typeDefinitions = typeDefinitions;
+    }
+  }
+
+  private static final class SchemaReferences {
+
+    private final int stamp;
+    private final Set<String> namespaces;
+
+    private SchemaReferences(int stamp, Set<String> namespaces) {
+      this.stamp = stamp;
+      this.namespaces = namespaces;
+    }
+  }
+}
@@ -19,11 +19,7 @@ package com.webcohesion.enunciate.modules.jaxb.model;
 import com.webcohesion.enunciate.api.InterfaceDescriptionFile;
 import com.webcohesion.enunciate.javac.TypeElementComparator;
 import com.webcohesion.enunciate.modules.jaxb.EnunciateJaxbContext;
-import com.webcohesion.enunciate.modules.jaxb.model.types.MapXmlType;
-import com.webcohesion.enunciate.modules.jaxb.model.types.XmlClassType;
-import com.webcohesion.enunciate.modules.jaxb.model.types.XmlType;
 
-import javax.xml.namespace.QName;
 import java.util.*;
 
 /**
@@ -252,133 +248,7 @@ public class SchemaInfo {
    * @return The imported namespace of a specific schema.
    */
   public Set<String> getReferencedNamespaces() {
-    Set<String> referencedNamespaces = new HashSet<String>();
-
-    for (TypeDefinition typeDefinition : getTypeDefinitions()) {
-      addReferencedNamespaces(typeDefinition, referencedNamespaces);
-    }
-
-    for (RootElementDeclaration rootElement : getRootElements()) {
-      referencedNamespaces.add(rootElement.getNamespace());
-      referencedNamespaces.add(rootElement.getTypeDefinition().getNamespace());
-    }
-
-    for (ImplicitSchemaElement schemaElement : implicitSchemaElements) {
-      QName typeQName = schemaElement.getTypeQName();
-      if (typeQName != null) {
-        referencedNamespaces.add(typeQName.getNamespaceURI());
-      }
-
-      if (schemaElement instanceof ImplicitRootElement) {
-        for (ImplicitChildElement childElement : ((ImplicitRootElement) schemaElement).getChildElements()) {
-          addReferencedNamespaces(childElement.getXmlType(), new LinkedList<String>(), referencedNamespaces);
-        }
-      }
-    }
-
-    for (ImplicitSchemaAttribute schemaAttribute : implicitSchemaAttributes) {
-      QName typeQName = schemaAttribute.getTypeQName();
-      if (typeQName != null) {
-        referencedNamespaces.add(typeQName.getNamespaceURI());
-      }
-    }
-
-    for (LocalElementDeclaration localElementDeclaration : localElementDeclarations) {
-      QName typeQName = localElementDeclaration.getElementXmlType().getQname();
-      if (typeQName != null) {
-        referencedNamespaces.add(typeQName.getNamespaceURI());
-      }
-    }
-
-    referencedNamespaces.add(getNamespace());
-    //remove the obvious referenced namespace.
-    referencedNamespaces.remove("http://www.w3.org/2001/XMLSchema");
-
-    //consolidate the "" and the null:
-    if (referencedNamespaces.remove(null)) {
-      referencedNamespaces.add("");
-    }
-
-    return referencedNamespaces;
-  }
-
-  /**
-   * Adds the referenced namespaces of the given type definition to the given set.
-   *
-   * @param typeDefinition The type definition.
-   * @param referencedNamespaces The set of referenced namespaces.
-   */
-  private void addReferencedNamespaces(TypeDefinition typeDefinition, Set<String> referencedNamespaces) {
-    addReferencedNamespaces(typeDefinition, new LinkedList<String>(), referencedNamespaces);
-  }
-
-  private void addReferencedNamespaces(TypeDefinition typeDefinition, LinkedList<String> stack, Set<String> referencedNamespaces) {
-    if (stack.contains(typeDefinition.getQualifiedName().toString())) {
-      return;
-    }
-
-    stack.push(typeDefinition.getQualifiedName().toString());
-    try {
-      for (Attribute attribute : typeDefinition.getAttributes()) {
-        QName ref = attribute.getRef();
-        if (ref != null) {
-          referencedNamespaces.add(ref.getNamespaceURI());
-        }
-        else {
-          addReferencedNamespaces(attribute.getBaseType(), stack, referencedNamespaces);
-        }
-      }
-
-      for (Element element : typeDefinition.getElements()) {
-        for (Element choice : element.getChoices()) {
-          QName ref = choice.getRef();
-          if (ref != null) {
-            referencedNamespaces.add(ref.getNamespaceURI());
-          }
-          else {
-            addReferencedNamespaces(choice.getBaseType(), stack, referencedNamespaces);
-          }
-        }
-      }
-
-      Value value = typeDefinition.getValue();
-      if (value != null) {
-        addReferencedNamespaces(value.getBaseType(), stack, referencedNamespaces);
-      }
-
-      if (typeDefinition instanceof QNameEnumTypeDefinition) {
-        for (EnumValue enumValue : ((QNameEnumTypeDefinition) typeDefinition).getEnumValues()) {
-          if (enumValue.getValue() != null) {
-            referencedNamespaces.add(((QName)enumValue.getValue()).getNamespaceURI());
-          }
-        }
-      }
-
-      addReferencedNamespaces(typeDefinition.getBaseType(), stack, referencedNamespaces);
-    }
-    finally {
-      stack.pop();
-    }
-  }
-
-  /**
-   * Adds the referenced namespaces of the given xml type to the given set.
-   *
-   * @param xmlType The xml type.
-   * @param referencedNamespaces The set of referenced namespaces.
-   */
-  private void addReferencedNamespaces(XmlType xmlType, LinkedList<String> stack, Set<String> referencedNamespaces) {
-    if (!xmlType.isAnonymous()) {
-      referencedNamespaces.add(xmlType.getNamespace());
-    }
-    else if (xmlType instanceof MapXmlType) {
-      referencedNamespaces.add(((MapXmlType) xmlType).getKeyType().getNamespace());
-      referencedNamespaces.add(((MapXmlType) xmlType).getValueType().getNamespace());
-    }
-
-    if (xmlType instanceof XmlClassType) {
-      addReferencedNamespaces(((XmlClassType) xmlType).getTypeDefinition(), stack, referencedNamespaces);
-    }
+    return new HashSet<String>(this.context.getNamespaceGraph().getReferencedNamespaces(this));
   }
 
   /**
@@ -20,7 +20,7 @@ import com.webcohesion.enunciate.EnunciateException;
 import com.webcohesion.enunciate.facets.Facet;
 import com.webcohesion.enunciate.facets.HasFacets;
 import com.webcohesion.enunciate.javac.decorations.Annotations;
-import com.webcohesion.enunciate.javac.decorations.TypeMirrorDecorator;
+import com.webcohesion.enunciate.javac.decorations.element.AccessorCatalog;
 import com.webcohesion.enunciate.javac.decorations.element.DecoratedElement;
 import com.webcohesion.enunciate.javac.decorations.element.DecoratedExecutableElement;
 import com.webcohesion.enunciate.javac.decorations.element.DecoratedTypeElement;
@@ -30,18 +30,14 @@ import com.webcohesion.enunciate.metadata.qname.XmlQNameEnumRef;
 import com.webcohesion.enunciate.modules.jaxb.EnunciateJaxbContext;
 import com.webcohesion.enunciate.modules.jaxb.model.types.XmlClassType;
 
-import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
-import javax.lang.model.type.MirroredTypesException;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
-import javax.lang.model.util.ElementFilter;
 import javax.xml.bind.annotation.*;
 import javax.xml.namespace.QName;
 import java.beans.Introspector;
 import java.util.*;
-import java.util.concurrent.Callable;
 
 /**
  * A xml type definition.
@@ -59,8 +55,8 @@ public abstract class TypeDefinition extends DecoratedTypeElement implements Has
   private final boolean hasAnyAttribute;
   private final TypeMirror anyAttributeQNameEnumRef;
   private final AnyElement anyElement;
-  private final LinkedList<javax.lang.model.element.Element> referencedFrom = new LinkedList<javax.lang.model.element.Element>();
   private final Set<Facet> facets = new TreeSet<Facet>();
+  private Map<String, List<Accessor>> accessorsBySimpleName;
   protected final EnunciateJaxbContext context;
 
   protected TypeDefinition(TypeElement delegate, EnunciateJaxbContext context) {
@@ -106,15 +102,7 @@ public abstract class TypeDefinition extends DecoratedTypeElement implements Has
       else if (isAnyAttribute(accessor)) {
         hasAnyAttribute = true;
 
-        final XmlQNameEnumRef enumRef = accessor.getAnnotation(XmlQNameEnumRef.class);
-        if (enumRef != null) {
-          anyAttributeQNameEnumRef = Annotations.mirrorOf(new Callable<Class<?>>() {
-            @Override
-            public Class<?> call() throws Exception {
-              return enumRef.value();
-            }
-          }, this.env);
-        }
+        anyAttributeQNameEnumRef = Annotations.mirrorOf(accessor, XmlQNameEnumRef.class, "value", this.env);
 
         continue;
       }
@@ -206,12 +194,13 @@ public abstract class TypeDefinition extends DecoratedTypeElement implements Has
    * @param filter     The filter.
    */
   protected void aggregatePotentialAccessors(List<VariableElement> fields, List<PropertyElement> properties, DecoratedTypeElement clazz, AccessorFilter filter, boolean inlineAccessorsOfSuperclasses) {
-    DecoratedTypeElement superDeclaration = clazz.getSuperclass() != null ? (DecoratedTypeElement) this.env.getTypeUtils().asElement(clazz.getSuperclass()) : null;
+    AccessorCatalog catalog = this.env.getAccessorCatalog(clazz);
+    DecoratedTypeElement superDeclaration = catalog.getSuperDeclaration();
     if (superDeclaration != null && (isXmlTransient(superDeclaration) || inlineAccessorsOfSuperclasses)) {
       aggregatePotentialAccessors(fields, properties, superDeclaration, filter, true);
     }
 
-    for (VariableElement fieldDeclaration : ElementFilter.fieldsIn(clazz.getEnclosedElements())) {
+    for (VariableElement fieldDeclaration : catalog.getFields()) {
       if (!filter.accept((DecoratedElement) fieldDeclaration)) {
         remove(fieldDeclaration, fields);
       }
@@ -220,7 +209,7 @@ public abstract class TypeDefinition extends DecoratedTypeElement implements Has
       }
     }
 
-    for (PropertyElement propertyDeclaration : clazz.getProperties()) {
+    for (PropertyElement propertyDeclaration : catalog.getProperties()) {
       if (!filter.accept(propertyDeclaration)) {
         remove(propertyDeclaration, properties);
       }
@@ -244,16 +233,7 @@ public abstract class TypeDefinition extends DecoratedTypeElement implements Has
     final TypeElement declaringType = (TypeElement) method.getEnclosingElement();
     TypeElement superType = (TypeElement) this.env.getTypeUtils().asElement(declaringType.getSuperclass());
     if (superType.getAnnotation(XmlTransient.class) == null) { //ignore transient supertypes.
-      while (superType != null && !Object.class.getName().equals(superType.getQualifiedName().toString())) {
-        List<ExecutableElement> methods = ElementFilter.methodsIn(superType.getEnclosedElements());
-        for (ExecutableElement candidate : methods) {
-          if (this.env.getElementUtils().overrides(method, candidate, declaringType)) {
-            return true;
-          }
-        }
-
-        superType = (TypeElement) this.env.getTypeUtils().asElement(superType.getSuperclass());
-      }
+      return this.env.getAccessorCatalog(declaringType).overridesAnother(method);
     }
 
     return false;
@@ -500,16 +480,7 @@ public abstract class TypeDefinition extends DecoratedTypeElement implements Has
     Collection<TypeMirror> seeAlsos = null;
     XmlSeeAlso seeAlsoInfo = getAnnotation(XmlSeeAlso.class);
     if (seeAlsoInfo != null) {
-      seeAlsos = new ArrayList<TypeMirror>();
-      try {
-        for (Class clazz : seeAlsoInfo.value()) {
-          TypeElement typeDeclaration = this.env.getElementUtils().getTypeElement(clazz.getName());
-          seeAlsos.add(typeDeclaration.asType());
-        }
-      }
-      catch (MirroredTypesException e) {
-        seeAlsos.addAll(TypeMirrorDecorator.decorate(e.getTypeMirrors(), this.env));
-      }
+      seeAlsos = new ArrayList<TypeMirror>(Annotations.mirrorsOf(this, XmlSeeAlso.class, "value", this.env));
     }
     return seeAlsos;
   }
@@ -568,6 +539,39 @@ public abstract class TypeDefinition extends DecoratedTypeElement implements Has
     return xmlValue;
   }
 
+  /**
+   * The accessors (attributes, value and elements) declared by this type definition with the given simple name.
+   *
+   * @param simpleName The simple name.
+   * @return The accessors with the given simple name.
+   */
+  public List<Accessor> getAccessorsBySimpleName(String simpleName) {
+    Map<String, List<Accessor>> accessorsBySimpleName = this.accessorsBySimpleName;
+    if (accessorsBySimpleName == null) {
+      ArrayList<Accessor> accessors = new ArrayList<Accessor>();
+      accessors.addAll(getAttributes());
+      if (getValue() != null) {
+        accessors.add(getValue());
+      }
+      accessors.addAll(getElements());
+
+      accessorsBySimpleName = new HashMap<String, List<Accessor>>(accessors.size() * 2);
+      for (Accessor accessor : accessors) {
+        String name = accessor.getSimpleName().toString();
+        List<Accessor> named = accessorsBySimpleName.get(name);
+        if (named == null) {
+          named = new ArrayList<Accessor>(1);
+          accessorsBySimpleName.put(name, named);
+        }
+        named.add(accessor);
+      }
+      this.accessorsBySimpleName = accessorsBySimpleName;
+    }
+
+    List<Accessor> named = accessorsBySimpleName.get(simpleName);
+    return named == null ? Collections.<Accessor>emptyList() : named;
+  }
+
   public List<Accessor> getAllAccessors() {
     ArrayList<Accessor> accessors = new ArrayList<Accessor>();
     accessors.addAll(getAllAttributes());
@@ -717,7 +721,7 @@ public abstract class TypeDefinition extends DecoratedTypeElement implements Has
    * @return The referenced-from list.
    */
   public LinkedList<javax.lang.model.element.Element> getReferencedFrom() {
-    return referencedFrom;
+    return this.context.getReferenceGraph().getReferencedFrom(this);
   }
 
   /**
@@ -18,6 +18,7 @@ package com.webcohesion.enunciate.modules.jaxb.model.types;
 
 import com.webcohesion.enunciate.EnunciateException;
 import com.webcohesion.enunciate.javac.decorations.Annotations;
+import com.webcohesion.enunciate.javac.decorations.DecoratedProcessingEnvironment;
 import com.webcohesion.enunciate.javac.decorations.TypeMirrorDecorator;
 import com.webcohesion.enunciate.javac.decorations.type.DecoratedTypeMirror;
 import com.webcohesion.enunciate.javac.decorations.type.TypeMirrorUtils;
@@ -25,6 +26,7 @@ import com.webcohesion.enunciate.modules.jaxb.EnunciateJaxbContext;
 import com.webcohesion.enunciate.modules.jaxb.model.Accessor;
 import com.webcohesion.enunciate.modules.jaxb.model.adapters.Adaptable;
 
+import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.PackageElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.DeclaredType;
@@ -32,7 +34,6 @@ import javax.lang.model.type.TypeMirror;
 import javax.xml.bind.annotation.XmlSchemaType;
 import javax.xml.bind.annotation.XmlSchemaTypes;
 import java.util.*;
-import java.util.concurrent.Callable;
 
 /**
  * A decorator that decorates the relevant type mirrors as xml type mirrors.
@@ -114,22 +115,22 @@ public class XmlTypeFactory {
     XmlSchemaTypes schemaTypes = pckg.getAnnotation(XmlSchemaTypes.class);
 
     if ((schemaTypeInfo != null) || (schemaTypes != null)) {
+      DecoratedProcessingEnvironment env = context.getContext().getProcessingEnvironment();
       ArrayList<XmlSchemaType> allSpecifiedTypes = new ArrayList<XmlSchemaType>();
+      ArrayList<AnnotationMirror> allSpecifiedTypeMirrors = new ArrayList<AnnotationMirror>();
       if (schemaTypeInfo != null) {
         allSpecifiedTypes.add(schemaTypeInfo);
+        allSpecifiedTypeMirrors.add(Annotations.findAnnotation(pckg, XmlSchemaType.class));
       }
 
       if (schemaTypes != null) {
         allSpecifiedTypes.addAll(Arrays.asList(schemaTypes.value()));
+        allSpecifiedTypeMirrors.addAll(Annotations.annotationsOf(pckg, XmlSchemaTypes.class, "value", env));
       }
 
-      for (final XmlSchemaType specifiedType : allSpecifiedTypes) {
-        DecoratedTypeMirror typeMirror = Annotations.mirrorOf(new Callable<Class<?>>() {
-          @Override
-          public Class<?> call() throws Exception {
-            return specifiedType.type();
-          }
-        }, context.getContext().getProcessingEnvironment(), XmlSchemaType.DEFAULT.class);
+      for (int i = 0; i < allSpecifiedTypes.size(); i++) {
+        XmlSchemaType specifiedType = allSpecifiedTypes.get(i);
+        DecoratedTypeMirror typeMirror = Annotations.mirrorOf(allSpecifiedTypeMirrors.get(i), "type", env, XmlSchemaType.DEFAULT.class);
 
         if (typeMirror == null) {
           throw new EnunciateException(pckg.getQualifiedName() + ": a type must be specified in " + XmlSchemaType.class.getName() + " at the package-level.");
@@ -147,18 +148,28 @@ public class XmlTypeFactory {
   }
 
   /**
-   * Get the XML type for the specified type mirror.
+   * Get the XML type for the specified type mirror, resolved once per type (see {@link TypeMirrorUtils#getCanonicalKey(TypeMirror)}).
    *
    * @param typeMirror The type mirror.
    * @param context The context.
    * @return The xml type for the specified type mirror.
    */
   public static XmlType getXmlType(TypeMirror typeMirror, EnunciateJaxbContext context) {
+    String key = TypeMirrorUtils.getCanonicalKey(typeMirror);
+    XmlType xmlType = key == null ? null : context.findResolvedType(key);
+    if (xmlType != null) {
+      return xmlType;
+    }
+
     DecoratedTypeMirror decorated = (DecoratedTypeMirror) TypeMirrorDecorator.decorate(typeMirror, context.getContext().getProcessingEnvironment());
     XmlTypeVisitor visitor = new XmlTypeVisitor();
     TypeMirror componentType = TypeMirrorUtils.getComponentType(decorated, context.getContext().getProcessingEnvironment());
     componentType = componentType == null ? decorated : componentType;
-    return componentType.accept(visitor, new XmlTypeVisitor.Context(context, decorated.isArray(), decorated.isCollection(), new LinkedList<String>()));
+    xmlType = componentType.accept(visitor, new XmlTypeVisitor.Context(context, decorated.isArray(), decorated.isCollection(), new LinkedList<String>()));
+    if (key != null && xmlType != null) {
+      context.cacheResolvedType(key, xmlType);
+    }
+    return xmlType;
   }
 
 }
@@ -28,6 +28,7 @@ import com.webcohesion.enunciate.modules.jaxb.model.Accessor;
 import com.webcohesion.enunciate.modules.jaxb.model.adapters.AdapterType;
 
 import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.PackageElement;
@@ -39,7 +40,6 @@ import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapters;
 import java.util.*;
-import java.util.concurrent.Callable;
 
 /**
  * Consolidation of common logic for implementing the JAXB contract.
@@ -143,27 +143,18 @@ public class JAXBUtil {
     DecoratedProcessingEnvironment env = context.getContext().getProcessingEnvironment();
     TypeMirror adaptedType = TypeMirrorUtils.getComponentType(maybeContainedAdaptedType, env);
     adaptedType = adaptedType == null ? maybeContainedAdaptedType : adaptedType;
-    XmlJavaTypeAdapter typeAdapterInfo = referer != null ? referer.getAnnotation(XmlJavaTypeAdapter.class) : null;
-    if (adaptedType instanceof DeclaredType) {
-      if (typeAdapterInfo == null) {
-        typeAdapterInfo = ((DeclaredType) adaptedType).asElement().getAnnotation(XmlJavaTypeAdapter.class);
-      }
-
-      if ((typeAdapterInfo == null) && (pckg != null)) {
-        TypeElement typeDeclaration = (TypeElement) ((DeclaredType) adaptedType).asElement();
-        typeAdapterInfo = getAdaptersOfPackage(pckg, context).get(typeDeclaration.getQualifiedName().toString());
-      }
+    Element typeAdapterSource = referer != null && Annotations.findAnnotation(referer, XmlJavaTypeAdapter.class) != null ? referer : null;
+    if (typeAdapterSource == null && adaptedType instanceof DeclaredType && Annotations.findAnnotation(((DeclaredType) adaptedType).asElement(), XmlJavaTypeAdapter.class) != null) {
+      typeAdapterSource = ((DeclaredType) adaptedType).asElement();
     }
 
-    if (typeAdapterInfo != null) {
-      final XmlJavaTypeAdapter finalInfo = typeAdapterInfo;
-      DecoratedDeclaredType adapterTypeMirror = (DecoratedDeclaredType) Annotations.mirrorOf(new Callable<Class<?>>() {
-        @Override
-        public Class<?> call() throws Exception {
-          return finalInfo.value();
-        }
-      }, env);
+    DecoratedDeclaredType adapterTypeMirror = typeAdapterSource == null ? null : (DecoratedDeclaredType) Annotations.mirrorOf(typeAdapterSource, XmlJavaTypeAdapter.class, "value", env);
+    if ((adapterTypeMirror == null) && (adaptedType instanceof DeclaredType) && (pckg != null)) {
+      TypeElement typeDeclaration = (TypeElement) ((DeclaredType) adaptedType).asElement();
+      adapterTypeMirror = getAdaptersOfPackage(pckg, context).get(typeDeclaration.getQualifiedName().toString());
+    }
 
+    if (adapterTypeMirror != null) {
       AdapterType adapterType = new AdapterType(adapterTypeMirror, context.getContext());
       if ((adaptedType instanceof DeclaredType && adapterType.canAdapt(adaptedType, context.getContext())) ||
         (maybeContainedAdaptedType != adaptedType && adapterType.canAdapt(maybeContainedAdaptedType, context.getContext()))) {
@@ -182,60 +173,49 @@ public class JAXBUtil {
    *
    * @param pckg the package for which to get the adapters.
    * @param context The context.
-   * @return The adapters for the package.
+   * @return The adapter types for the package, by the qualified name of the adapted type.
    */
-  private static Map<String, XmlJavaTypeAdapter> getAdaptersOfPackage(PackageElement pckg, EnunciateJaxbContext context) {
+  private static Map<String, DecoratedDeclaredType> getAdaptersOfPackage(PackageElement pckg, EnunciateJaxbContext context) {
     if (pckg == null) {
       return null;
     }
 
-    Map<String, Map<String, XmlJavaTypeAdapter>> adaptersOfAllPackages = (Map<String, Map<String, XmlJavaTypeAdapter>>) context.getContext().getProperty(ADAPTERS_BY_PACKAGE_PROPERTY);
+    Map<String, Map<String, DecoratedDeclaredType>> adaptersOfAllPackages = (Map<String, Map<String, DecoratedDeclaredType>>) context.getContext().getProperty(ADAPTERS_BY_PACKAGE_PROPERTY);
     if (adaptersOfAllPackages == null) {
-      adaptersOfAllPackages = new HashMap<String, Map<String, XmlJavaTypeAdapter>>();
+      adaptersOfAllPackages = new HashMap<String, Map<String, DecoratedDeclaredType>>();
       context.getContext().setProperty(ADAPTERS_BY_PACKAGE_PROPERTY, adaptersOfAllPackages);
     }
-    Map<String, XmlJavaTypeAdapter> adaptersOfPackage = adaptersOfAllPackages.get(pckg.getQualifiedName().toString());
+    Map<String, DecoratedDeclaredType> adaptersOfPackage = adaptersOfAllPackages.get(pckg.getQualifiedName().toString());
 
     if (adaptersOfPackage == null) {
-      adaptersOfPackage = new HashMap<String, XmlJavaTypeAdapter>();
+      adaptersOfPackage = new HashMap<String, DecoratedDeclaredType>();
       adaptersOfAllPackages.put(pckg.getQualifiedName().toString(), adaptersOfPackage);
 
-      XmlJavaTypeAdapter javaType = pckg.getAnnotation(XmlJavaTypeAdapter.class);
-      XmlJavaTypeAdapters javaTypes = pckg.getAnnotation(XmlJavaTypeAdapters.class);
+      DecoratedProcessingEnvironment env = context.getContext().getProcessingEnvironment();
+      List<AnnotationMirror> allAdaptedTypes = new ArrayList<AnnotationMirror>();
+      AnnotationMirror javaType = Annotations.findAnnotation(pckg, XmlJavaTypeAdapter.class);
+      if (javaType != null) {
+        allAdaptedTypes.add(javaType);
+      }
+      allAdaptedTypes.addAll(Annotations.annotationsOf(pckg, XmlJavaTypeAdapters.class, "value", env));
 
-      if ((javaType != null) || (javaTypes != null)) {
-        ArrayList<XmlJavaTypeAdapter> allAdaptedTypes = new ArrayList<XmlJavaTypeAdapter>();
-        if (javaType != null) {
-          allAdaptedTypes.add(javaType);
-        }
+      for (AnnotationMirror adaptedTypeInfo : allAdaptedTypes) {
+        DecoratedTypeMirror typeMirror = Annotations.mirrorOf(adaptedTypeInfo, "type", env, XmlJavaTypeAdapter.DEFAULT.class);
 
-        if (javaTypes != null) {
-          allAdaptedTypes.addAll(Arrays.asList(javaTypes.value()));
+        if (typeMirror == null) {
+          throw new EnunciateException("Package " + pckg.getQualifiedName() + ": a type must be specified in " + XmlJavaTypeAdapter.class.getName() + " at the package-level.");
         }
 
-        for (final XmlJavaTypeAdapter adaptedTypeInfo : allAdaptedTypes) {
-          DecoratedTypeMirror typeMirror = Annotations.mirrorOf(new Callable<Class<?>>() {
-            @Override
-            public Class<?> call() throws Exception {
-              return adaptedTypeInfo.type();
-            }
-          }, context.getContext().getProcessingEnvironment(), XmlJavaTypeAdapter.DEFAULT.class);
-
-          if (typeMirror == null) {
-            throw new EnunciateException("Package " + pckg.getQualifiedName() + ": a type must be specified in " + XmlJavaTypeAdapter.class.getName() + " at the package-level.");
-          }
-
-          if (!(typeMirror instanceof DeclaredType)) {
-            throw new EnunciateException("Package " + pckg.getQualifiedName() + ": unadaptable type: " + typeMirror);
-          }
-
-          TypeElement typeDeclaration = (TypeElement) ((DeclaredType) typeMirror).asElement();
-          if (typeDeclaration == null) {
-            throw new EnunciateException("Element not found: " + typeMirror);
-          }
+        if (!(typeMirror instanceof DeclaredType)) {
+          throw new EnunciateException("Package " + pckg.getQualifiedName() + ": unadaptable type: " + typeMirror);
+        }
 
-          adaptersOfPackage.put(typeDeclaration.getQualifiedName().toString(), adaptedTypeInfo);
+        TypeElement typeDeclaration = (TypeElement) ((DeclaredType) typeMirror).asElement();
+        if (typeDeclaration == null) {
+          throw new EnunciateException("Element not found: " + typeMirror);
         }
+
+        adaptersOfPackage.put(typeDeclaration.getQualifiedName().toString(), (DecoratedDeclaredType) Annotations.mirrorOf(adaptedTypeInfo, "value", env, null));
       }
     }
 
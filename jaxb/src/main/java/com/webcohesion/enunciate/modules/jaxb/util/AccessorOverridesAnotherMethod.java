@@ -26,7 +26,6 @@ import freemarker.template.TemplateMethodModelEx;
 import freemarker.template.TemplateModel;
 import freemarker.template.TemplateModelException;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -53,13 +52,10 @@ public class AccessorOverridesAnotherMethod implements TemplateMethodModelEx {
     XmlType baseType = typeDefinition.getBaseType();
     if (baseType instanceof XmlClassType) {
       typeDefinition = ((XmlClassType) baseType).getTypeDefinition();
+      String name = a.getSimpleName().toString();
 
       while (typeDefinition != null) {
-        ArrayList<Accessor> accessors = new ArrayList<Accessor>();
-        accessors.addAll(typeDefinition.getAttributes());
-        accessors.add(typeDefinition.getValue());
-        accessors.addAll(typeDefinition.getElements());
-        for (Accessor accessor : accessors) {
+        for (Accessor accessor : typeDefinition.getAccessorsBySimpleName(name)) {
           if (a.overrides(accessor)) {
             return true;
           }
@@ -0,0 +1,203 @@
+package com.webcohesion.enunciate.modules.jaxb.api.impl;
+
+import com.webcohesion.enunciate.EnunciateConfiguration;
+import com.webcohesion.enunciate.EnunciateConsoleLogger;
+import com.webcohesion.enunciate.EnunciateContext;
+import com.webcohesion.enunciate.api.ApiRegistry;
+import com.webcohesion.enunciate.javac.decorations.DecoratedProcessingEnvironment;
+import com.webcohesion.enunciate.modules.jaxb.EnunciateJaxbContext;
+import com.webcohesion.enunciate.modules.jaxb.model.ComplexTypeDefinition;
+import com.webcohesion.enunciate.modules.jaxb.model.RootElementDeclaration;
+import org.junit.Test;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.JavaCompiler;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ryan Heaton
+ */
+public class ExampleImplTest {
+
+  private static final String[] SOURCES = {
+    "package test; import javax.xml.bind.annotation.*; import java.util.List; @XmlRootElement(name = \"order\", namespace = \"urn:test\") @XmlType(namespace = \"urn:test\") @XmlAccessorType(XmlAccessType.FIELD) public class Order extends Base { @XmlAttribute String id; @XmlAttribute(namespace = \"urn:other\") String tag; @XmlElement(namespace = \"urn:test\") Customer buyer; @XmlElement(namespace = \"urn:test\") Customer seller; @XmlElementWrapper(name = \"items\", namespace = \"urn:test\") @XmlElement(name = \"item\", namespace = \"urn:test\") List<Item> items; /** @documentationExample 42 */ @XmlElement(namespace = \"urn:test\") int quantity; @XmlElement String note; }",
+    "package test; import javax.xml.bind.annotation.*; @XmlType(namespace = \"urn:test\") @XmlAccessorType(XmlAccessType.FIELD) public class Base { @XmlElement(namespace = \"urn:test\") String created; }",
+    "package test; import javax.xml.bind.annotation.*; @XmlType(namespace = \"urn:test\") @XmlAccessorType(XmlAccessType.FIELD) public class Customer { @XmlAttribute String name; @XmlAttribute(namespace = \"urn:third\") String lang; @XmlElement(namespace = \"urn:test\") Address address; }",
+    "package test; import javax.xml.bind.annotation.*; @XmlType(namespace = \"urn:test\") @XmlAccessorType(XmlAccessType.FIELD) public class Address { @XmlAttribute(namespace = \"urn:other\") String kind; @XmlAttribute(namespace = \"urn:third\") String area; @XmlAttribute String code; @XmlValue String value; }",
+    "package test; import javax.xml.bind.annotation.*; import java.util.List; @XmlType(namespace = \"urn:test\") @XmlAccessorType(XmlAccessType.FIELD) public class Item { @XmlElement(namespace = \"urn:test\") String sku; @XmlAnyElement List<Object> any; }",
+    "package test; import javax.xml.bind.annotation.*; @XmlRootElement(name = \"invoice\", namespace = \"urn:test\") @XmlType(namespace = \"urn:test\") @XmlAccessorType(XmlAccessType.FIELD) public class Invoice { @XmlElement(namespace = \"urn:test\") Customer customer; @XmlElement(namespace = \"urn:test\") Order order; }",
+  };
+
+  private static final String ORDER =
+    "<order id=\"...\" xmlns:ns0=\"urn:other\" ns0:tag=\"...\" xmlns=\"urn:test\">\n" +
+    "  <buyer xmlns:ns0=\"urn:third\" ns0:lang=\"...\" name=\"...\">\n" +
+    "    <address ns0:area=\"...\" code=\"...\" xmlns:ns1=\"urn:other\" ns1:kind=\"...\">...</address>\n" +
+    "  </buyer>\n" +
+    "  <seller xmlns:ns0=\"urn:third\" ns0:lang=\"...\" name=\"...\">\n" +
+    "    <address ns0:area=\"...\" code=\"...\" xmlns:ns1=\"urn:other\" ns1:kind=\"...\">...</address>\n" +
+    "  </seller>\n" +
+    "  <items>\n" +
+    "    <item>\n" +
+    "      <sku>...</sku>\n" +
+    "      <extension1>...</extension1>\n" +
+    "      <extension2>...</extension2>\n" +
+    "    </item>\n" +
+    "  </items>\n" +
+    "  <quantity>42</quantity>\n" +
+    "  <note xmlns=\"\">...</note>\n" +
+    "  <created>...</created>\n" +
+    "</order>\n";
+
+  private static final String CUSTOMER =
+    "<c----- xmlns:ns0=\"urn:third\" ns0:lang=\"...\" name=\"...\" xmlns=\"urn:test\">\n" +
+    "  <address ns0:area=\"...\" code=\"...\" xmlns:ns1=\"urn:other\" ns1:kind=\"...\">...</address>\n" +
+    "</c----->\n";
+
+  private static final String INVOICE =
+    "<invoice xmlns=\"urn:test\">\n" +
+    "  <customer xmlns:ns0=\"urn:third\" ns0:lang=\"...\" name=\"...\">\n" +
+    "    <address ns0:area=\"...\" code=\"...\" xmlns:ns1=\"urn:other\" ns1:kind=\"...\">...</address>\n" +
+    "  </customer>\n" +
+    "  <order id=\"...\" xmlns:ns0=\"urn:other\" ns0:tag=\"...\">\n" +
+    "    <buyer xmlns:ns0=\"urn:third\" ns0:lang=\"...\" name=\"...\">\n" +
+    "      <address ns0:area=\"...\" code=\"...\" xmlns:ns1=\"urn:other\" ns1:kind=\"...\">...</address>\n" +
+    "    </buyer>\n" +
+    "    <seller xmlns:ns0=\"urn:third\" ns0:lang=\"...\" name=\"...\">\n" +
+    "      <address ns0:area=\"...\" code=\"...\" xmlns:ns1=\"urn:other\" ns1:kind=\"...\">...</address>\n" +
+    "    </seller>\n" +
+    "    <items>\n" +
+    "      <item>\n" +
+    "        <sku>...</sku>\n" +
+    "        <extension1>...</extension1>\n" +
+    "        <extension2>...</extension2>\n" +
+    "      </item>\n" +
+    "    </items>\n" +
+    "    <quantity>42</quantity>\n" +
+    "    <note xmlns=\"\">...</note>\n" +
+    "    <created>...</created>\n" +
+    "  </order>\n" +
+    "</invoice>\n";
+
+  @Test
+  public void testSameAsDomSerializer() throws Exception {
+    //these are the bodies the DOM document and Transformer wrote: same attribute order, prefixes and namespace declarations.
+    Map<String, String> bodies = examples("test.Order", "test.Customer");
+    assertEquals(ORDER, bodies.get("test.Order"));
+    assertEquals(CUSTOMER, bodies.get("test.Customer"));
+  }
+
+  @Test
+  public void testNestedTypesExpandedToTheBudget() throws Exception {
+    //the DOM serializer stopped at a depth of 2 and left the addresses of the order's buyer and seller empty.
+    assertEquals(INVOICE, examples("test.Invoice").get("test.Invoice"));
+  }
+
+  @Test
+  public void testSameInAnyOrder() throws Exception {
+    //the customer fragments built for one example are reused by the others without changing them.
+    Map<String, String> bodies = examples("test.Invoice", "test.Customer", "test.Order");
+    assertEquals(INVOICE, bodies.get("test.Invoice"));
+    assertEquals(CUSTOMER, bodies.get("test.Customer"));
+    assertEquals(ORDER, bodies.get("test.Order"));
+  }
+
+  @Test
+  public void testSharedContentIsCopied() throws Exception {
+    ExampleImpl.XmlNode fragment = new ExampleImpl.XmlNode("urn:test", "customer");
+    fragment.setAttribute(null, "name", "...");
+    fragment.appendChild(new ExampleImpl.XmlNode("urn:test", "address"));
+
+    ExampleImpl.XmlNode node = new ExampleImpl.XmlNode("urn:test", "buyer");
+    node.shareContent(fragment);
+    node.setAttribute(null, "name", "changed");
+    node.setAttribute(null, "id", "...");
+    node.appendChild(new ExampleImpl.XmlNode("urn:test", "phone"));
+
+    assertEquals(1, fragment.attributes.size());
+    assertEquals("...", fragment.attributes.get(0)[2]);
+    assertEquals(1, fragment.content.size());
+    assertEquals(2, node.attributes.size());
+    assertEquals("id", node.attributes.get(0)[1]);
+    assertEquals("changed", node.attributes.get(1)[2]);
+    assertEquals(2, node.content.size());
+  }
+
+  /**
+   * Compile the test model and write the examples of the given types, in the given order.
+   */
+  private static Map<String, String> examples(String... types) {
+    List<SourceFile> files = new ArrayList<SourceFile>();
+    for (String source : SOURCES) {
+      files.add(new SourceFile(source));
+    }
+
+    ExamplesProcessor processor = new ExamplesProcessor(types);
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    JavaCompiler.CompilationTask task = compiler.getTask(null, null, null, Arrays.asList("-proc:only"), null, files);
+    task.setProcessors(Arrays.asList(processor));
+    assertTrue(task.call());
+    return processor.bodies;
+  }
+
+  @SupportedAnnotationTypes("*")
+  private static class ExamplesProcessor extends AbstractProcessor {
+
+    private final String[] types;
+    private final Map<String, String> bodies = new HashMap<String, String>();
+
+    private ExamplesProcessor(String[] types) {
+      this.types = types;
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+      return SourceVersion.latest();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+      if (roundEnv.processingOver()) {
+        return false;
+      }
+
+      DecoratedProcessingEnvironment env = new DecoratedProcessingEnvironment(this.processingEnv);
+      EnunciateContext context = new EnunciateContext(env, new EnunciateConsoleLogger(), new ApiRegistry(), new EnunciateConfiguration(), null, null);
+      EnunciateJaxbContext jaxbContext = new EnunciateJaxbContext(context);
+      for (String rootElement : new String[]{"test.Order", "test.Invoice"}) {
+        TypeElement element = env.getElementUtils().getTypeElement(rootElement);
+        jaxbContext.add(new RootElementDeclaration(element, new ComplexTypeDefinition(element, jaxbContext), jaxbContext), new LinkedList<Element>());
+      }
+
+      for (String type : this.types) {
+        ComplexTypeDefinition typeDefinition = new ComplexTypeDefinition(env.getElementUtils().getTypeElement(type), jaxbContext);
+        this.bodies.put(type, new ExampleImpl(typeDefinition).getBody());
+      }
+      return false;
+    }
+  }
+
+  private static class SourceFile extends SimpleJavaFileObject {
+
+    private final String source;
+
+    private SourceFile(String source) {
+      super(URI.create("string:///" + source.replaceAll("^package (\\w+);.*?public class (\\w+).*$", "$1/$2") + Kind.SOURCE.extension), Kind.SOURCE);
+      this.source = source;
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      return source;
+    }
+  }
+}
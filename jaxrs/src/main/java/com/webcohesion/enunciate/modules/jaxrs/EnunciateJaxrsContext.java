@@ -14,12 +14,15 @@ import com.webcohesion.enunciate.modules.jaxrs.api.impl.ResourceClassResourceGro
 import com.webcohesion.enunciate.modules.jaxrs.api.impl.ResourceImpl;
 import com.webcohesion.enunciate.modules.jaxrs.model.ResourceMethod;
 import com.webcohesion.enunciate.modules.jaxrs.model.RootResource;
+import com.webcohesion.enunciate.modules.jaxrs.model.SubResource;
 import com.webcohesion.enunciate.modules.jaxrs.model.util.JaxrsUtil;
 import com.webcohesion.enunciate.util.*;
 import org.apache.commons.configuration.HierarchicalConfiguration;
 
-import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.*;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
 import java.util.*;
@@ -45,6 +48,10 @@ public class EnunciateJaxrsContext extends EnunciateModuleContext implements Res
   private GroupingStrategy groupingStrategy = GroupingStrategy.resource_class;
   private PathSortStrategy pathSortStrategy = PathSortStrategy.breadth_first;
   private InterfaceDescriptionFile wadlFile = null;
+  private volatile List<ResourceGroup> resourceGroups = null;
+  private final InheritedMethodIndex resourceMethodIndex;
+  private final InheritedMethodIndex subresourceLocatorIndex;
+  private final Map<String, SubResource> subresourcesByType = new HashMap<String, SubResource>();
 
   public EnunciateJaxrsContext(EnunciateContext context) {
     super(context);
@@ -53,6 +60,56 @@ public class EnunciateJaxrsContext extends EnunciateModuleContext implements Res
     this.providers = new TreeSet<TypeElement>(new TypeElementComparator());
     this.customResourceParameterAnnotations = loadKnownCustomResourceParameterAnnotations(context);
     this.systemResourceParameterAnnotations = loadKnownSystemResourceParameterAnnotations(context);
+    this.resourceMethodIndex = new InheritedMethodIndex(context.getProcessingEnvironment()) {
+      @Override
+      protected boolean isCandidate(ExecutableElement method) {
+        return isResourceMethod(method);
+      }
+    };
+    this.subresourceLocatorIndex = new InheritedMethodIndex(context.getProcessingEnvironment()) {
+      @Override
+      protected boolean isCandidate(ExecutableElement method) {
+        return isSubresourceLocator(method);
+      }
+    };
+  }
+
+  /**
+   * Whether the specified method is a resource method, i.e. a public method annotated with a resource method designator.
+   *
+   * @param method The method.
+   * @return Whether the method is a resource method.
+   */
+  protected boolean isResourceMethod(ExecutableElement method) {
+    if (method.getModifiers().contains(Modifier.PUBLIC)) {
+      for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+        Element annotationElement = annotation.getAnnotationType().asElement();
+        if (annotationElement != null && annotationElement.getAnnotation(HttpMethod.class) != null) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Whether the specified method is a sub-resource locator, i.e. a method annotated with a path but not with a resource method designator.
+   *
+   * @param method The method.
+   * @return Whether the method is a sub-resource locator.
+   */
+  protected boolean isSubresourceLocator(ExecutableElement method) {
+    if (method.getAnnotation(Path.class) == null) {
+      return false;
+    }
+
+    for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+      Element annotationElement = annotation.getAnnotationType().asElement();
+      if (annotationElement != null && annotationElement.getAnnotation(HttpMethod.class) != null) {
+        return false;
+      }
+    }
+    return true;
   }
 
   protected Map<String, String> loadKnownMediaTypes() {
@@ -131,6 +188,29 @@ public class EnunciateJaxrsContext extends EnunciateModuleContext implements Res
     return context;
   }
 
+  /**
+   * The index of the resource methods of the resource classes, including the inherited ones.
+   *
+   * @return The index of the resource methods.
+   */
+  public InheritedMethodIndex getResourceMethodIndex() {
+    return resourceMethodIndex;
+  }
+
+  public InheritedMethodIndex getSubresourceLocatorIndex() {
+    return subresourceLocatorIndex;
+  }
+
+  /**
+   * The sub-resources that have been analysed, by type (i.e. the class of the sub-resource and its type arguments). The other
+   * sub-resources of the same type copy the analysis.
+   *
+   * @return The analysed sub-resources, by type.
+   */
+  public Map<String, SubResource> getSubresourcesByType() {
+    return subresourcesByType;
+  }
+
   public Map<String, String> getMediaTypeIds() {
     //todo: configure media type ids?
     return mediaTypeIds;
@@ -210,6 +290,7 @@ public class EnunciateJaxrsContext extends EnunciateModuleContext implements Res
    */
   public void add(RootResource rootResource) {
     this.rootResources.add(rootResource);
+    this.resourceGroups = null;
     debug("Added %s as a JAX-RS root resource.", rootResource.getQualifiedName());
 
     if (getContext().getProcessingEnvironment().findSourcePosition(rootResource) == null) {
@@ -254,10 +335,12 @@ public class EnunciateJaxrsContext extends EnunciateModuleContext implements Res
 
   public void setRelativeContextPath(String relativeContextPath) {
     this.relativeContextPath = relativeContextPath;
+    this.resourceGroups = null;
   }
 
   public void setGroupingStrategy(GroupingStrategy groupingStrategy) {
     this.groupingStrategy = groupingStrategy;
+    this.resourceGroups = null;
   }
 
   public PathSortStrategy getPathSortStrategy() {
@@ -266,6 +349,7 @@ public class EnunciateJaxrsContext extends EnunciateModuleContext implements Res
 
   public void setPathSortStrategy(PathSortStrategy pathSortStrategy) {
     this.pathSortStrategy = pathSortStrategy;
+    this.resourceGroups = null;
   }
 
   @Override
@@ -277,8 +361,23 @@ public class EnunciateJaxrsContext extends EnunciateModuleContext implements Res
     this.wadlFile = wadlFile;
   }
 
+  /**
+   * The (sorted) resource groups, computed once the root resources have been analyzed and reused by every call until the model or the grouping
+   * configuration changes.
+   *
+   * @return The (unmodifiable) resource groups.
+   */
   @Override
   public List<ResourceGroup> getResourceGroups() {
+    List<ResourceGroup> resourceGroups = this.resourceGroups;
+    if (resourceGroups == null) {
+      resourceGroups = Collections.unmodifiableList(loadResourceGroups());
+      this.resourceGroups = resourceGroups;
+    }
+    return resourceGroups;
+  }
+
+  protected List<ResourceGroup> loadResourceGroups() {
     List<ResourceGroup> resourceGroups;
     if (this.groupingStrategy == GroupingStrategy.path) {
       //group resources by path.
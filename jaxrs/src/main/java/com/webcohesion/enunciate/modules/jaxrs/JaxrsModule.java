@@ -104,6 +104,7 @@ public class JaxrsModule extends BasicEnunicateModule implements TypeFilteringMo
     String relativeContextPath = "";
     if (detectionStrategy != DataTypeDetectionStrategy.passive) {
       Set<? extends Element> elements = detectionStrategy == DataTypeDetectionStrategy.local ? context.getLocalApiElements() : context.getApiElements();
+      List<RootResource> rootResources = new ArrayList<RootResource>();
       for (Element declaration : elements) {
         if (declaration instanceof TypeElement) {
           TypeElement element = (TypeElement) declaration;
@@ -122,16 +123,7 @@ public class JaxrsModule extends BasicEnunicateModule implements TypeFilteringMo
             //add root resource.
             RootResource rootResource = new RootResource(element, jaxrsContext);
             jaxrsContext.add(rootResource);
-            LinkedList<Element> contextStack = new LinkedList<Element>();
-            contextStack.push(rootResource);
-            try {
-              for (ResourceMethod resourceMethod : rootResource.getResourceMethods(true)) {
-                addReferencedDataTypeDefinitions(resourceMethod, contextStack);
-              }
-            }
-            finally {
-              contextStack.pop();
-            }
+            rootResources.add(rootResource);
           }
 
           Provider providerInfo = declaration.getAnnotation(Provider.class);
@@ -146,6 +138,20 @@ public class JaxrsModule extends BasicEnunicateModule implements TypeFilteringMo
           }
         }
       }
+
+      //the data types are registered in one batch, once all the root resources have been analyzed.
+      for (RootResource rootResource : rootResources) {
+        LinkedList<Element> contextStack = new LinkedList<Element>();
+        contextStack.push(rootResource);
+        try {
+          for (ResourceMethod resourceMethod : rootResource.getResourceMethods(true)) {
+            addReferencedDataTypeDefinitions(resourceMethod, contextStack);
+          }
+        }
+        finally {
+          contextStack.pop();
+        }
+      }
     }
 
 
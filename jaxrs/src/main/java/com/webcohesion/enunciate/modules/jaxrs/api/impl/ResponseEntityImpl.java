@@ -1,5 +1,6 @@
 package com.webcohesion.enunciate.modules.jaxrs.api.impl;
 
+import com.webcohesion.enunciate.api.ApiRegistry;
 import com.webcohesion.enunciate.api.datatype.Syntax;
 import com.webcohesion.enunciate.api.resources.Entity;
 import com.webcohesion.enunciate.api.resources.MediaTypeDescriptor;
@@ -37,8 +38,9 @@ public class ResponseEntityImpl implements Entity {
     for (String mt : produces) {
       boolean descriptorFound = false;
       DecoratedTypeMirror type = (DecoratedTypeMirror) this.responseMetadata.getDelegate();
-      for (Syntax syntax : this.resourceMethod.getContext().getContext().getApiRegistry().getSyntaxes()) {
-        MediaTypeDescriptor descriptor = syntax.findMediaTypeDescriptor(mt, type);
+      ApiRegistry apiRegistry = this.resourceMethod.getContext().getContext().getApiRegistry();
+      for (Syntax syntax : apiRegistry.getSyntaxes()) {
+        MediaTypeDescriptor descriptor = apiRegistry.getMediaTypeDescriptorCache().findMediaTypeDescriptor(syntax, mt, type);
         if (descriptor != null) {
           mts.add(descriptor);
           descriptorFound = true;
@@ -22,6 +22,18 @@ public class ExplicitResourceParameter extends ResourceParameter {
     this.type = type;
   }
 
+  protected ExplicitResourceParameter(ExplicitResourceParameter copy, PathContext context) {
+    super(copy, context);
+    this.docValue = copy.docValue;
+    this.paramName = copy.paramName;
+    this.type = copy.type;
+  }
+
+  @Override
+  public ResourceParameter copy(PathContext context) {
+    return new ExplicitResourceParameter(this, context);
+  }
+
   @Override
   public JavaDoc getJavaDoc() {
     return new JavaDoc(docValue, null);
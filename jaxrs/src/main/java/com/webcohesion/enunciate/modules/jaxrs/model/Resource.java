@@ -22,16 +22,15 @@ import com.webcohesion.enunciate.javac.decorations.element.PropertyElement;
 import com.webcohesion.enunciate.javac.decorations.type.TypeVariableContext;
 import com.webcohesion.enunciate.modules.jaxrs.EnunciateJaxrsContext;
 import com.webcohesion.enunciate.modules.jaxrs.model.util.JaxrsUtil;
+import com.webcohesion.enunciate.util.InheritedMethodIndex;
+import com.webcohesion.enunciate.util.PathTrie;
 
 import javax.annotation.security.RolesAllowed;
 import javax.lang.model.element.*;
 import javax.lang.model.type.DeclaredType;
-import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.ElementFilter;
 import javax.lang.model.util.Elements;
 import javax.ws.rs.Consumes;
-import javax.ws.rs.HttpMethod;
-import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import java.util.*;
 
@@ -51,8 +50,14 @@ public abstract class Resource extends DecoratedTypeElement implements HasFacets
   private final List<ResourceMethod> resourceMethods;
   private final List<SubResourceLocator> resourceLocators;
   private final Set<Facet> facets = new TreeSet<Facet>();
+  private volatile List<PathSegment> allPathComponents;
+  private volatile PathTrie.Node pathNode;
 
   protected Resource(TypeElement delegate, String path, EnunciateJaxrsContext context) {
+    this(delegate, path, new TypeVariableContext(), context);
+  }
+
+  protected Resource(TypeElement delegate, String path, TypeVariableContext variableContext, EnunciateJaxrsContext context) {
     super(delegate, context.getContext().getProcessingEnvironment());
 
     this.context = context;
@@ -85,10 +90,45 @@ public abstract class Resource extends DecoratedTypeElement implements HasFacets
 
     this.facets.addAll(Facet.gatherFacets(delegate));
     this.resourceParameters = Collections.unmodifiableSet(getResourceParameters(delegate, context));
-    this.resourceMethods = Collections.unmodifiableList(getResourceMethods(delegate, new TypeVariableContext(), context));
+    this.resourceMethods = Collections.unmodifiableList(getResourceMethods(delegate, variableContext, context));
     this.resourceLocators = Collections.unmodifiableList(getSubresourceLocators(delegate, context));
   }
 
+  /**
+   * Copies the analysis of another resource of the same type to another path. Only the sub-resource locators (i.e. the path of each
+   * resource below this one) are loaded again.
+   *
+   * @param copy The resource to copy.
+   * @param path The path of the copy.
+   */
+  protected Resource(Resource copy, String path) {
+    super(copy.delegate, copy.env);
+
+    this.context = copy.context;
+
+    if (path == null) {
+      throw new NullPointerException();
+    }
+    this.path = path;
+    this.pathComponents = extractPathComponents(path);
+    this.consumesMime = copy.consumesMime;
+    this.producesMime = copy.producesMime;
+    this.facets.addAll(copy.facets);
+
+    Set<ResourceParameter> resourceParameters = new TreeSet<ResourceParameter>();
+    for (ResourceParameter resourceParameter : copy.resourceParameters) {
+      resourceParameters.add(resourceParameter.copy(this));
+    }
+    this.resourceParameters = Collections.unmodifiableSet(resourceParameters);
+
+    List<ResourceMethod> resourceMethods = new ArrayList<ResourceMethod>();
+    for (ResourceMethod resourceMethod : copy.resourceMethods) {
+      resourceMethods.add(new ResourceMethod(resourceMethod, this));
+    }
+    this.resourceMethods = Collections.unmodifiableList(resourceMethods);
+    this.resourceLocators = Collections.unmodifiableList(getSubresourceLocators(copy.delegate, this.context));
+  }
+
   /**
    * Get the sub-resource locators for the specified type.
    *
@@ -101,44 +141,10 @@ public abstract class Resource extends DecoratedTypeElement implements HasFacets
       return Collections.emptyList();
     }
 
+    //the sub-resource locators of each type are merged with the inherited ones once, and shared by all the resources of the type.
     ArrayList<SubResourceLocator> resourceLocators = new ArrayList<SubResourceLocator>();
-    METHOD_LOOP : for (ExecutableElement methodElement : ElementFilter.methodsIn(delegate.getEnclosedElements())) {
-      if (methodElement.getAnnotation(Path.class) != null) { //sub-resource locators are annotated with @Path AND they have no resource method designator.
-        for (AnnotationMirror annotation : methodElement.getAnnotationMirrors()) {
-          Element annotationElement = annotation.getAnnotationType().asElement();
-          if (annotationElement != null) {
-            if (annotationElement.getAnnotation(HttpMethod.class) != null) {
-              continue METHOD_LOOP;
-            }
-          }
-        }
-
-        resourceLocators.add(new SubResourceLocator(methodElement, this, this.context));
-      }
-    }
-
-    //some methods may be specified by a superclass and/or implemented interface.  But the annotations on the current class take precedence.
-    for (TypeMirror superType : delegate.getInterfaces()) {
-      if (superType instanceof DeclaredType) {
-        List<SubResourceLocator> interfaceMethods = getSubresourceLocators((TypeElement) ((DeclaredType)superType).asElement(), context);
-        for (SubResourceLocator interfaceMethod : interfaceMethods) {
-          if (!isOverridden(interfaceMethod, resourceLocators)) {
-            resourceLocators.add(interfaceMethod);
-          }
-        }
-      }
-    }
-
-    if (delegate.getKind() == ElementKind.CLASS) {
-      TypeMirror superclass = delegate.getSuperclass();
-      if (superclass instanceof DeclaredType && ((DeclaredType)superclass).asElement() != null) {
-        List<SubResourceLocator> superMethods = getSubresourceLocators((TypeElement) ((DeclaredType) superclass).asElement(), context);
-        for (SubResourceLocator superMethod : superMethods) {
-          if (!isOverridden(superMethod, resourceLocators)) {
-            resourceLocators.add(superMethod);
-          }
-        }
-      }
+    for (InheritedMethodIndex.InheritedMethod method : context.getSubresourceLocatorIndex().getMethods(delegate)) {
+      resourceLocators.add(new SubResourceLocator(method.getMethod(), this, this.context));
     }
 
     return resourceLocators;
@@ -156,47 +162,10 @@ public abstract class Resource extends DecoratedTypeElement implements HasFacets
       return Collections.emptyList();
     }
 
+    //the resource methods of each type are merged with the inherited ones once, and shared by all the resources of the type.
     ArrayList<ResourceMethod> resourceMethods = new ArrayList<ResourceMethod>();
-    for (ExecutableElement method : ElementFilter.methodsIn(delegate.getEnclosedElements())) {
-      if (method.getModifiers().contains(Modifier.PUBLIC)) {
-        for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
-          Element annotationElement = annotation.getAnnotationType().asElement();
-          if (annotationElement != null) {
-            if (annotationElement.getAnnotation(HttpMethod.class) != null) {
-              resourceMethods.add(new ResourceMethod(method, this, variableContext, context));
-              break;
-            }
-          }
-        }
-      }
-    }
-
-    //some methods may be specified by a superclass and/or implemented interface.  But the annotations on the current class take precedence.
-    for (TypeMirror interfaceType : delegate.getInterfaces()) {
-      if (interfaceType instanceof DeclaredType) {
-        DeclaredType declared = (DeclaredType) interfaceType;
-        TypeElement element = (TypeElement) declared.asElement();
-        List<ResourceMethod> interfaceMethods = getResourceMethods(element, variableContext.push(element.getTypeParameters(), declared.getTypeArguments()), context);
-        for (ResourceMethod interfaceMethod : interfaceMethods) {
-          if (!isOverridden(interfaceMethod, resourceMethods)) {
-            resourceMethods.add(interfaceMethod);
-          }
-        }
-      }
-    }
-
-    if (delegate.getKind() == ElementKind.CLASS) {
-      TypeMirror superclass = delegate.getSuperclass();
-      if (superclass instanceof DeclaredType && ((DeclaredType)superclass).asElement() != null) {
-        DeclaredType declared = (DeclaredType) superclass;
-        TypeElement element = (TypeElement) declared.asElement();
-        List<ResourceMethod> superMethods = getResourceMethods(element, variableContext.push(element.getTypeParameters(), declared.getTypeArguments()), context);
-        for (ResourceMethod superMethod : superMethods) {
-          if (!isOverridden(superMethod, resourceMethods)) {
-            resourceMethods.add(superMethod);
-          }
-        }
-      }
+    for (InheritedMethodIndex.InheritedMethod method : context.getResourceMethodIndex().getMethods(delegate)) {
+      resourceMethods.add(new ResourceMethod(method.getMethod(), this, method.getVariableContext(variableContext), context));
     }
 
     return resourceMethods;
@@ -239,26 +208,6 @@ public abstract class Resource extends DecoratedTypeElement implements HasFacets
     return resourceParameters;
   }
 
-  /**
-   * Whether the specified method is overridden by any of the methods in the specified list.
-   *
-   * @param method The method.
-   * @param resourceMethods The method list.
-   * @return If the methdo is overridden by any of the methods in the list.
-   */
-  protected boolean isOverridden(ExecutableElement method, ArrayList<? extends ExecutableElement> resourceMethods) {
-    Elements decls = this.env.getElementUtils();
-
-
-    for (ExecutableElement resourceMethod : resourceMethods) {
-      if (decls.overrides(resourceMethod, method, (TypeElement) resourceMethod.getEnclosingElement())) {
-        return true;
-      }
-    }
-
-    return false;
-  }
-
   /**
    * Whether the specified resource parameter is hidden by any of the parameters in the specified list.
    *
@@ -346,15 +295,38 @@ public abstract class Resource extends DecoratedTypeElement implements HasFacets
    * @return The path components for this resource.
    */
   public List<PathSegment> getPathComponents() {
-    List<PathSegment> components = new ArrayList<PathSegment>();
-    Resource parent = getParent();
-    if (parent != null) {
-      components.addAll(parent.getPathComponents());
+    List<PathSegment> components = this.allPathComponents;
+    if (components == null) {
+      components = new ArrayList<PathSegment>();
+      Resource parent = getParent();
+      if (parent != null) {
+        components.addAll(parent.getPathComponents());
+      }
+      components.addAll(this.pathComponents);
+      components = Collections.unmodifiableList(components);
+      this.allPathComponents = components;
     }
-    components.addAll(this.pathComponents);
     return components;
   }
 
+  /**
+   * The node of the path template of this resource in the (shared) path trie.
+   *
+   * @return The node of the path template of this resource.
+   */
+  public PathTrie.Node getPathNode() {
+    PathTrie.Node node = this.pathNode;
+    if (node == null) {
+      Resource parent = getParent();
+      node = parent != null ? parent.getPathNode() : this.context.getContext().getPathTrie().getRoot();
+      for (PathSegment component : this.pathComponents) {
+        node = node.getChild('/' + component.getValue());
+      }
+      this.pathNode = node;
+    }
+    return node;
+  }
+
   /**
    * The parent resource.
    *
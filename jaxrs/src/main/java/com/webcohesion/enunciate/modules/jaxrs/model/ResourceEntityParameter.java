@@ -1,5 +1,6 @@
 package com.webcohesion.enunciate.modules.jaxrs.model;
 
+import com.webcohesion.enunciate.javac.decorations.Annotations;
 import com.webcohesion.enunciate.javac.decorations.TypeMirrorDecorator;
 import com.webcohesion.enunciate.javac.decorations.element.DecoratedElement;
 import com.webcohesion.enunciate.javac.decorations.element.DecoratedVariableElement;
@@ -10,6 +11,7 @@ import com.webcohesion.enunciate.modules.jaxrs.EnunciateJaxrsContext;
 import com.webcohesion.enunciate.util.TypeHintUtils;
 
 import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
@@ -27,7 +29,7 @@ public class ResourceEntityParameter extends DecoratedElement<Element> {
   public ResourceEntityParameter(ResourceMethod method, VariableElement delegate, TypeVariableContext variableContext, EnunciateJaxrsContext context) {
     super(delegate, context.getContext().getProcessingEnvironment());
     TypeMirror typeMirror;
-    final TypeHint hintInfo = getAnnotation(TypeHint.class);
+    AnnotationMirror hintInfo = Annotations.findAnnotation(this, TypeHint.class);
     if (hintInfo != null) {
       typeMirror = TypeHintUtils.getTypeHint(hintInfo, this.env, delegate.asType());
     }
@@ -19,6 +19,7 @@ package com.webcohesion.enunciate.modules.jaxrs.model;
 import com.webcohesion.enunciate.EnunciateException;
 import com.webcohesion.enunciate.facets.Facet;
 import com.webcohesion.enunciate.facets.HasFacets;
+import com.webcohesion.enunciate.javac.decorations.Annotations;
 import com.webcohesion.enunciate.javac.decorations.TypeMirrorDecorator;
 import com.webcohesion.enunciate.javac.decorations.element.DecoratedExecutableElement;
 import com.webcohesion.enunciate.javac.decorations.type.DecoratedDeclaredType;
@@ -29,18 +30,16 @@ import com.webcohesion.enunciate.metadata.rs.*;
 import com.webcohesion.enunciate.modules.jaxrs.EnunciateJaxrsContext;
 import com.webcohesion.enunciate.modules.jaxrs.model.util.JaxrsUtil;
 import com.webcohesion.enunciate.util.AnnotationUtils;
+import com.webcohesion.enunciate.util.PathTrie;
 import com.webcohesion.enunciate.util.TypeHintUtils;
 
 import javax.annotation.security.RolesAllowed;
 import javax.lang.model.element.*;
 import javax.lang.model.type.DeclaredType;
-import javax.lang.model.type.MirroredTypeException;
 import javax.ws.rs.*;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static com.webcohesion.enunciate.modules.jaxrs.model.Resource.extractPathComponents;
 
@@ -51,8 +50,6 @@ import static com.webcohesion.enunciate.modules.jaxrs.model.Resource.extractPath
  */
 public class ResourceMethod extends DecoratedExecutableElement implements HasFacets, PathContext {
 
-  private static final Pattern CONTEXT_PARAM_PATTERN = Pattern.compile("\\{([^\\}]+)\\}");
-
   private final EnunciateJaxrsContext context;
   private final String subpath;
   private final String label;
@@ -72,6 +69,8 @@ public class ResourceMethod extends DecoratedExecutableElement implements HasFac
   private final ResourceRepresentationMetadata representationMetadata;
   private final Set<Facet> facets = new TreeSet<Facet>();
   private final List<PathSegment> pathComponents;
+  private volatile List<PathSegment> allPathComponents;
+  private volatile PathTrie.Node pathNode;
 
   public ResourceMethod(ExecutableElement delegate, Resource parent, TypeVariableContext variableContext, EnunciateJaxrsContext context) {
     super(delegate, context.getContext().getProcessingEnvironment());
@@ -156,7 +155,7 @@ public class ResourceMethod extends DecoratedExecutableElement implements HasFac
       }
 
       DecoratedTypeMirror returnType;
-      TypeHint hintInfo = getAnnotation(TypeHint.class);
+      AnnotationMirror hintInfo = Annotations.findAnnotation(this, TypeHint.class);
       if (hintInfo != null) {
         returnType = (DecoratedTypeMirror) TypeHintUtils.getTypeHint(hintInfo, this.env, getReturnType());
         returnType.setDocComment(((DecoratedTypeMirror) getReturnType()).getDocComment());
@@ -245,7 +244,9 @@ public class ResourceMethod extends DecoratedExecutableElement implements HasFac
     Set<String> additionalHeaderLabels = new TreeSet<String>();
     StatusCodes codes = getAnnotation(StatusCodes.class);
     if (codes != null) {
+      Iterator<AnnotationMirror> codeMirrors = Annotations.annotationsOf(this, StatusCodes.class, "value", this.env).iterator();
       for (com.webcohesion.enunciate.metadata.rs.ResponseCode code : codes.value()) {
+        AnnotationMirror codeMirror = codeMirrors.next();
         ResponseCode rc = new ResponseCode(this);
         rc.setCode(code.code());
         rc.setCondition(code.condition());
@@ -254,15 +255,18 @@ public class ResourceMethod extends DecoratedExecutableElement implements HasFac
           additionalHeaderLabels.add(header.name());
         }
 
-        rc.setType((DecoratedTypeMirror) TypeHintUtils.getTypeHint(code.type(), this.env, null));
+        rc.setType((DecoratedTypeMirror) TypeHintUtils.getTypeHint((AnnotationMirror) Annotations.valueOf(codeMirror, "type"), this.env, null));
 
         statusCodes.add(rc);
       }
     }
 
     List<StatusCodes> inheritedStatusCodes = AnnotationUtils.getAnnotations(StatusCodes.class, parent);
+    Iterator<AnnotationMirror> inheritedStatusCodeMirrors = AnnotationUtils.getAnnotationMirrors(StatusCodes.class, parent).iterator();
     for (StatusCodes inheritedStatusCode : inheritedStatusCodes) {
+      Iterator<AnnotationMirror> codeMirrors = Annotations.annotationsOf(inheritedStatusCodeMirrors.next(), "value").iterator();
       for (com.webcohesion.enunciate.metadata.rs.ResponseCode code : inheritedStatusCode.value()) {
+        AnnotationMirror codeMirror = codeMirrors.next();
         ResponseCode rc = new ResponseCode(this);
         rc.setCode(code.code());
         rc.setCondition(code.condition());
@@ -271,7 +275,7 @@ public class ResourceMethod extends DecoratedExecutableElement implements HasFac
           additionalHeaderLabels.add(header.name());
         }
 
-        rc.setType((DecoratedTypeMirror) TypeHintUtils.getTypeHint(code.type(), this.env, null));
+        rc.setType((DecoratedTypeMirror) TypeHintUtils.getTypeHint((AnnotationMirror) Annotations.valueOf(codeMirror, "type"), this.env, null));
 
         statusCodes.add(rc);
       }
@@ -419,6 +423,41 @@ public class ResourceMethod extends DecoratedExecutableElement implements HasFac
     this.pathComponents = pathComponents;
   }
 
+  /**
+   * Copies the analysis of a method of another resource of the same type (e.g. a sub-resource reached through another locator).
+   *
+   * @param copy The method to copy.
+   * @param parent The resource that holds the copy.
+   */
+  protected ResourceMethod(ResourceMethod copy, Resource parent) {
+    super(copy);
+    this.context = copy.context;
+    this.subpath = copy.subpath;
+    this.label = copy.label;
+    this.customParameterName = copy.customParameterName;
+    this.httpMethods = copy.httpMethods;
+    this.consumesMediaTypes = copy.consumesMediaTypes;
+    this.producesMediaTypes = copy.producesMediaTypes;
+    this.additionalHeaderLabels = copy.additionalHeaderLabels;
+    this.parent = parent;
+
+    //the parameters are resolved against the path of the method, so they're copied, too.
+    Set<ResourceParameter> resourceParameters = new TreeSet<ResourceParameter>();
+    for (ResourceParameter resourceParameter : copy.resourceParameters) {
+      resourceParameters.add(resourceParameter.copy(this));
+    }
+    this.resourceParameters = resourceParameters;
+
+    this.entityParameter = copy.entityParameter;
+    this.declaredEntityParameters = copy.declaredEntityParameters;
+    this.statusCodes = copy.statusCodes;
+    this.warnings = copy.warnings;
+    this.responseHeaders.putAll(copy.responseHeaders);
+    this.representationMetadata = copy.representationMetadata;
+    this.facets.addAll(copy.facets);
+    this.pathComponents = copy.pathComponents;
+  }
+
   /**
    * Loads the explicit output payload.
    *
@@ -428,27 +467,16 @@ public class ResourceMethod extends DecoratedExecutableElement implements HasFac
   protected ResourceRepresentationMetadata loadOutputPayload(ResourceMethodSignature signatureOverride) {
     DecoratedTypeMirror returnType = (DecoratedTypeMirror) getReturnType();
 
-    try {
-      Class<?> outputType = signatureOverride.output();
-      if (outputType != ResourceMethodSignature.NONE.class) {
-        TypeElement type = env.getElementUtils().getTypeElement(outputType.getName());
-        return new ResourceRepresentationMetadata(env.getTypeUtils().getDeclaredType(type), returnType.getDocValue());
-      }
+    DecoratedTypeMirror typeMirror = Annotations.mirrorOf(this, ResourceMethodSignature.class, "output", this.env, ResourceMethodSignature.NONE.class);
+    if (typeMirror == null) {
+      return null;
     }
-    catch (MirroredTypeException e) {
-      DecoratedTypeMirror typeMirror = (DecoratedTypeMirror) TypeMirrorDecorator.decorate(e.getTypeMirror(), this.env);
-      if (typeMirror.isDeclared()) {
-        if (typeMirror.isInstanceOf(ResourceMethodSignature.class.getName() + ".NONE")) {
-          return null;
-        }
-        return new ResourceRepresentationMetadata(typeMirror, returnType.getDocValue());
-      }
-      else {
-        throw new EnunciateException(toString() + ": Illegal output type (must be a declared type): " + typeMirror);
-      }
+    else if (typeMirror.isDeclared()) {
+      return new ResourceRepresentationMetadata(typeMirror, returnType.getDocValue());
+    }
+    else {
+      throw new EnunciateException(toString() + ": Illegal output type (must be a declared type): " + typeMirror);
     }
-
-    return null;
   }
 
   protected static HashMap<String, String> parseParamComments(String tagName, JavaDoc jd) {
@@ -520,29 +548,16 @@ public class ResourceMethod extends DecoratedExecutableElement implements HasFac
    * @return The resource entity parameter.
    */
   protected ResourceEntityParameter loadEntityParameter(ResourceMethodSignature signatureOverride) {
-    try {
-      Class<?> entityType = signatureOverride.input();
-      if (entityType != ResourceMethodSignature.NONE.class) {
-        TypeElement type = env.getElementUtils().getTypeElement(entityType.getName());
-        return new ResourceEntityParameter(type, env.getTypeUtils().getDeclaredType(type), this.context.getContext().getProcessingEnvironment());
-      }
+    DecoratedTypeMirror typeMirror = Annotations.mirrorOf(this, ResourceMethodSignature.class, "input", this.env, ResourceMethodSignature.NONE.class);
+    if (typeMirror == null) {
+      return null;
     }
-    catch (MirroredTypeException e) {
-      DecoratedTypeMirror typeMirror = (DecoratedTypeMirror) TypeMirrorDecorator.decorate(e.getTypeMirror(), this.context.getContext().getProcessingEnvironment());
-      if (typeMirror.isDeclared()) {
-        if (typeMirror.isInstanceOf(ResourceMethodSignature.class.getName() + ".NONE")) {
-          return null;
-        }
-        else {
-          return new ResourceEntityParameter(((DeclaredType) typeMirror).asElement(), typeMirror, this.context.getContext().getProcessingEnvironment());
-        }
-      }
-      else {
-        throw new EnunciateException(toString() + ": Illegal input type (must be a declared type): " + typeMirror);
-      }
+    else if (typeMirror.isDeclared()) {
+      return new ResourceEntityParameter(((DeclaredType) typeMirror).asElement(), typeMirror, this.context.getContext().getProcessingEnvironment());
+    }
+    else {
+      throw new EnunciateException(toString() + ": Illegal input type (must be a declared type): " + typeMirror);
     }
-
-    return null;
   }
 
   public EnunciateJaxrsContext getContext() {
@@ -564,27 +579,45 @@ public class ResourceMethod extends DecoratedExecutableElement implements HasFac
    * @return The path components.
    */
   public List<PathSegment> getPathComponents() {
-    List<PathSegment> components = new ArrayList<PathSegment>();
-    Resource parent = getParent();
-    if (parent != null) {
-      components.addAll(parent.getPathComponents());
+    List<PathSegment> components = this.allPathComponents;
+    if (components == null) {
+      components = new ArrayList<PathSegment>();
+      Resource parent = getParent();
+      if (parent != null) {
+        components.addAll(parent.getPathComponents());
+      }
+      components.addAll(this.pathComponents);
+      components = Collections.unmodifiableList(components);
+      this.allPathComponents = components;
     }
-    components.addAll(this.pathComponents);
     return components;
   }
 
+  /**
+   * The node of the path template of this resource method in the (shared) path trie.
+   *
+   * @return The node of the path template of this resource method.
+   */
+  public PathTrie.Node getPathNode() {
+    PathTrie.Node node = this.pathNode;
+    if (node == null) {
+      Resource parent = getParent();
+      node = parent != null ? parent.getPathNode() : this.context.getContext().getPathTrie().getRoot();
+      for (PathSegment component : this.pathComponents) {
+        node = node.getChild('/' + component.getValue());
+      }
+      this.pathNode = node;
+    }
+    return node;
+  }
+
   /**
    * Builds the full URI path to this resource method.
    *
    * @return the full URI path to this resource method.
    */
   public String getFullpath() {
-    StringBuilder builder = new StringBuilder();
-    for (PathSegment component : getPathComponents()) {
-      builder.append('/').append(component.getValue());
-    }
-
-    return builder.toString();
+    return getPathNode().getPath();
   }
 
   /**
@@ -593,16 +626,7 @@ public class ResourceMethod extends DecoratedExecutableElement implements HasFac
    * @return The servlet pattern that can be applied to access this resource method.
    */
   public String getServletPattern() {
-    StringBuilder builder = new StringBuilder();
-    String fullPath = getFullpath();
-    Matcher pathParamMatcher = CONTEXT_PARAM_PATTERN.matcher(fullPath);
-    if (pathParamMatcher.find()) {
-      builder.append(fullPath, 0, pathParamMatcher.start()).append("*");
-    }
-    else {
-      builder.append(fullPath);
-    }
-    return builder.toString();
+    return getPathNode().getServletPattern();
   }
 
   /**
@@ -172,6 +172,35 @@ public class ResourceParameter extends DecoratedElement<Element> implements Comp
     }
   }
 
+  protected ResourceParameter(ResourceParameter copy, PathContext context) {
+    super(copy.delegate, copy.env);
+    this.context = context;
+    this.parameterName = copy.parameterName;
+    this.defaultValue = copy.defaultValue;
+    this.typeName = copy.typeName;
+    this.matrixParam = copy.matrixParam;
+    this.queryParam = copy.queryParam;
+    this.pathParam = copy.pathParam;
+    this.cookieParam = copy.cookieParam;
+    this.headerParam = copy.headerParam;
+    this.formParam = copy.formParam;
+    this.multivalued = copy.multivalued;
+
+    if (delegate instanceof DecoratedVariableElement) {
+      getJavaDoc().setValue(((DecoratedVariableElement) delegate).getDocComment());
+    }
+  }
+
+  /**
+   * A copy of this parameter in the given path context (e.g. the same method of a sub-resource reached through another locator).
+   *
+   * @param context The path context of the copy.
+   * @return The copy.
+   */
+  public ResourceParameter copy(PathContext context) {
+    return new ResourceParameter(this, context);
+  }
+
   public static boolean isResourceParameter(Element candidate, EnunciateJaxrsContext context) {
     if (!isSystemParameter(candidate, context)) {
       for (AnnotationMirror annotation : candidate.getAnnotationMirrors()) {
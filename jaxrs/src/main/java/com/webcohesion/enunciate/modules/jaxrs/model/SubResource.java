@@ -16,6 +16,7 @@
 
 package com.webcohesion.enunciate.modules.jaxrs.model;
 
+import com.webcohesion.enunciate.javac.decorations.type.TypeVariableContext;
 import com.webcohesion.enunciate.modules.jaxrs.EnunciateJaxrsContext;
 
 import javax.lang.model.element.TypeElement;
@@ -28,20 +29,48 @@ import java.util.*;
  */
 public class SubResource extends Resource {
 
-  static ThreadLocal<LinkedList<SubResource>> ANCESTOR_DECLARATIONS = new ThreadLocal<LinkedList<SubResource>>() {
+  //the sub-resources whose locators are being loaded on this thread, by class and path (ENUNCIATE-574).
+  static ThreadLocal<Map<String, SubResource>> ANCESTOR_DECLARATIONS = new ThreadLocal<Map<String, SubResource>>() {
     @Override
-    protected LinkedList<SubResource> initialValue() {
-      return new LinkedList<SubResource>();
+    protected Map<String, SubResource> initialValue() {
+      return new HashMap<String, SubResource>();
     }
   };
 
   private final SubResourceLocator locator;
 
   public SubResource(TypeElement delegate, String path, SubResourceLocator locator, EnunciateJaxrsContext context) {
-    super(delegate, path, context);
+    this(delegate, path, new TypeVariableContext(), locator, context);
+  }
+
+  public SubResource(TypeElement delegate, String path, TypeVariableContext variableContext, SubResourceLocator locator, EnunciateJaxrsContext context) {
+    super(delegate, path, variableContext, context);
     this.locator = locator;
   }
 
+  /**
+   * Copies the analysis of another sub-resource of the same type, reached through another locator.
+   *
+   * @param copy The sub-resource to copy.
+   * @param path The path of the copy.
+   * @param locator The locator of the copy.
+   */
+  public SubResource(SubResource copy, String path, SubResourceLocator locator) {
+    super(copy, path);
+    this.locator = locator;
+  }
+
+  /**
+   * The key of a sub-resource in the set of the ancestors being loaded.
+   *
+   * @param declaration The class of the sub-resource.
+   * @param path The path of the sub-resource.
+   * @return The key.
+   */
+  static String ancestorKey(TypeElement declaration, String path) {
+    return declaration.getQualifiedName() + " " + path;
+  }
+
   @Override
   public Set<ResourceParameter> getResourceParameters() {
     TreeSet<ResourceParameter> params = new TreeSet<ResourceParameter>(super.getResourceParameters());
@@ -52,12 +81,14 @@ public class SubResource extends Resource {
   @Override
   protected List<SubResourceLocator> getSubresourceLocators(TypeElement delegate, EnunciateJaxrsContext context) {
     if (delegate.getQualifiedName().equals(getQualifiedName())) {
-      ANCESTOR_DECLARATIONS.get().addFirst(this);
+      String key = ancestorKey(this, getPath());
+      Map<String, SubResource> ancestors = ANCESTOR_DECLARATIONS.get();
+      ancestors.put(key, this);
       try {
         return super.getSubresourceLocators(delegate, context);
       }
       finally {
-        ANCESTOR_DECLARATIONS.get().removeFirst();
+        ancestors.remove(key);
       }
     }
     else {
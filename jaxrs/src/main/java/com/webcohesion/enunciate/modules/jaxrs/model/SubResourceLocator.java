@@ -18,6 +18,7 @@ package com.webcohesion.enunciate.modules.jaxrs.model;
 
 import com.webcohesion.enunciate.javac.decorations.element.DecoratedExecutableElement;
 import com.webcohesion.enunciate.javac.decorations.type.TypeMirrorUtils;
+import com.webcohesion.enunciate.javac.decorations.type.TypeVariableContext;
 import com.webcohesion.enunciate.modules.jaxrs.EnunciateJaxrsContext;
 
 import javax.lang.model.element.ExecutableElement;
@@ -56,7 +57,7 @@ public class SubResourceLocator extends DecoratedExecutableElement implements Pa
     }
     this.pathComponents = extractPathComponents(this.path.value());
 
-    SubResource resource;
+    DeclaredType resourceType = null;
     TypeMirror returnType = delegate.getReturnType();
     if ((returnType instanceof DeclaredType) && ((DeclaredType) returnType).asElement() != null) {
       TypeElement declaration = (TypeElement) ((DeclaredType) returnType).asElement();
@@ -66,27 +67,19 @@ public class SubResourceLocator extends DecoratedExecutableElement implements Pa
         if (classTypes != null && classTypes.size() > 0) {
           returnType = classTypes.get(0);
           if ((returnType instanceof DeclaredType) && ((DeclaredType) returnType).asElement() != null) {
-            declaration = (TypeElement) ((DeclaredType) returnType).asElement();
-            resource = findRecursiveSubResource(declaration, getPath());
-            resource = resource == null ? new SubResource(declaration, getPath(), this, context) : resource;
+            resourceType = (DeclaredType) returnType;
           }
-          else {
-            resource = new SubResource((TypeElement) TypeMirrorUtils.objectType(context.getContext().getProcessingEnvironment()).asElement(), getPath(), this, context);
-          }
-        }
-        else {
-          resource = new SubResource((TypeElement) TypeMirrorUtils.objectType(context.getContext().getProcessingEnvironment()).asElement(), getPath(), this, context);
         }
       }
       else {
-        resource = findRecursiveSubResource(declaration, getPath());
-        resource = resource == null ? new SubResource(declaration, getPath(), this, context) : resource;
+        resourceType = (DeclaredType) returnType;
       }
     }
-    else {
-      resource = new SubResource((TypeElement) TypeMirrorUtils.objectType(context.getContext().getProcessingEnvironment()).asElement(), getPath(), this, context);
+
+    if (resourceType == null) {
+      resourceType = TypeMirrorUtils.objectType(context.getContext().getProcessingEnvironment());
     }
-    this.resource = resource;
+    this.resource = loadResource(resourceType, context);
 
     VariableElement entityParameter = null;
     List<ResourceParameter> resourceParameters = new ArrayList<ResourceParameter>();
@@ -103,15 +96,32 @@ public class SubResourceLocator extends DecoratedExecutableElement implements Pa
     this.resourceParameters = resourceParameters;
   }
 
-  //fix for ENUNCIATE-574
-  private SubResource findRecursiveSubResource(TypeElement declaration, String path) {
-    LinkedList<SubResource> ancestorResources = SubResource.ANCESTOR_DECLARATIONS.get();
-    for (SubResource ancestorResource : ancestorResources) {
-      if (ancestorResource.getQualifiedName().equals(declaration.getQualifiedName()) && ancestorResource.getPath().equals(path)) {
-        return ancestorResource;
+  /**
+   * Load the sub-resource of the given type. A sub-resource of the same class and path as one of its ancestors is that ancestor (i.e.
+   * the locators form a cycle, see ENUNCIATE-574). Otherwise the class is only analysed the first time it's located with the given
+   * type arguments; any other sub-resource of that type copies the analysis and only loads its own path.
+   *
+   * @param resourceType The type of the sub-resource.
+   * @param context The context.
+   * @return The sub-resource.
+   */
+  private SubResource loadResource(DeclaredType resourceType, EnunciateJaxrsContext context) {
+    TypeElement declaration = (TypeElement) resourceType.asElement();
+    SubResource resource = SubResource.ANCESTOR_DECLARATIONS.get().get(SubResource.ancestorKey(declaration, getPath()));
+    if (resource == null) {
+      String key = resourceType.toString();
+      Map<String, SubResource> analyzed = context.getSubresourcesByType();
+      SubResource copy = analyzed.get(key);
+      if (copy == null) {
+        TypeVariableContext variableContext = new TypeVariableContext().push(declaration.getTypeParameters(), resourceType.getTypeArguments());
+        resource = new SubResource(declaration, getPath(), variableContext, this, context);
+        analyzed.put(key, resource);
+      }
+      else {
+        resource = new SubResource(copy, getPath(), this);
       }
     }
-    return null;
+    return resource;
   }
 
   @Override
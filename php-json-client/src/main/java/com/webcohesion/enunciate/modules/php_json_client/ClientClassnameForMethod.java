@@ -120,7 +120,7 @@ public class ClientClassnameForMethod extends com.webcohesion.enunciate.util.fre
   }
 
   @Override
-  public String convert(TypeElement declaration) throws TemplateModelException {
+  protected String loadClassnameConversion(TypeElement declaration) throws TemplateModelException {
     String fqn = declaration.getQualifiedName().toString();
     if (classConversions.containsKey(fqn)) {
       return classConversions.get(fqn);
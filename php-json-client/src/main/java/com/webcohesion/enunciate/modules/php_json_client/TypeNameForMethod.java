@@ -84,7 +84,7 @@ public class TypeNameForMethod extends com.webcohesion.enunciate.util.freemarker
   }
 
   @Override
-  public String convert(TypeElement declaration) throws TemplateModelException {
+  protected String loadClassnameConversion(TypeElement declaration) throws TemplateModelException {
     String fqn = declaration.getQualifiedName().toString();
     if (classConversions.containsKey(fqn)) {
       return classConversions.get(fqn);
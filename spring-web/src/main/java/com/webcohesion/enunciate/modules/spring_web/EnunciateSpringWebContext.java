@@ -12,14 +12,17 @@ import com.webcohesion.enunciate.modules.spring_web.api.impl.AnnotationBasedReso
 import com.webcohesion.enunciate.modules.spring_web.api.impl.PathBasedResourceGroupImpl;
 import com.webcohesion.enunciate.modules.spring_web.api.impl.ResourceClassResourceGroupImpl;
 import com.webcohesion.enunciate.modules.spring_web.api.impl.ResourceImpl;
+import com.webcohesion.enunciate.modules.spring_web.model.ControllerAdviceIndex;
 import com.webcohesion.enunciate.modules.spring_web.model.RequestMapping;
 import com.webcohesion.enunciate.modules.spring_web.model.SpringController;
 import com.webcohesion.enunciate.modules.spring_web.model.SpringControllerAdvice;
+import com.webcohesion.enunciate.util.InheritedMethodIndex;
 import com.webcohesion.enunciate.util.PathSortStrategy;
 import com.webcohesion.enunciate.util.ResourceComparator;
 import com.webcohesion.enunciate.util.ResourceGroupComparator;
 import com.webcohesion.enunciate.util.SortedList;
 
+import javax.lang.model.element.ExecutableElement;
 import java.util.*;
 
 /**
@@ -39,18 +42,52 @@ public class EnunciateSpringWebContext extends EnunciateModuleContext implements
   private String relativeContextPath = "";
   private GroupingStrategy groupingStrategy = GroupingStrategy.resource_class;
   private InterfaceDescriptionFile wadlFile = null;
+  private volatile List<ResourceGroup> resourceGroups = null;
   private PathSortStrategy pathSortStrategy = PathSortStrategy.breadth_first;
+  private final InheritedMethodIndex requestMappingIndex;
+  private final InheritedMethodIndex modelAttributeIndex;
+  private volatile ControllerAdviceIndex adviceIndex = null;
 
   public EnunciateSpringWebContext(EnunciateContext context) {
     super(context);
     this.controllers = new TreeSet<SpringController>(new TypeElementComparator());
     this.advice = new TreeSet<SpringControllerAdvice>(new TypeElementComparator());
+    this.requestMappingIndex = new InheritedMethodIndex(context.getProcessingEnvironment()) {
+      @Override
+      protected boolean isCandidate(ExecutableElement method) {
+        return method.getAnnotation(org.springframework.web.bind.annotation.RequestMapping.class) != null;
+      }
+    };
+    this.modelAttributeIndex = new InheritedMethodIndex(context.getProcessingEnvironment()) {
+      @Override
+      protected boolean isCandidate(ExecutableElement method) {
+        return method.getAnnotation(org.springframework.web.bind.annotation.ModelAttribute.class) != null;
+      }
+    };
   }
 
   public EnunciateContext getContext() {
     return context;
   }
 
+  /**
+   * The index of the request mapping methods of the controllers, including the inherited ones.
+   *
+   * @return The index of the request mapping methods.
+   */
+  public InheritedMethodIndex getRequestMappingIndex() {
+    return requestMappingIndex;
+  }
+
+  /**
+   * The index of the model attribute methods of the controller advice, including the inherited ones.
+   *
+   * @return The index of the model attribute methods.
+   */
+  public InheritedMethodIndex getModelAttributeIndex() {
+    return modelAttributeIndex;
+  }
+
   public Set<SpringController> getControllers() {
     return controllers;
   }
@@ -59,13 +96,29 @@ public class EnunciateSpringWebContext extends EnunciateModuleContext implements
     return advice;
   }
 
+  /**
+   * The index of the scopes of the controller advice.
+   *
+   * @return The index of the scopes of the controller advice.
+   */
+  public ControllerAdviceIndex getAdviceIndex() {
+    ControllerAdviceIndex adviceIndex = this.adviceIndex;
+    if (adviceIndex == null) {
+      adviceIndex = new ControllerAdviceIndex(this.advice);
+      this.adviceIndex = adviceIndex;
+    }
+    return adviceIndex;
+  }
+
   public void add(SpringController controller) {
     this.controllers.add(controller);
+    this.resourceGroups = null;
     debug("Added %s as a Spring controller.", controller.getQualifiedName());
   }
 
   public void add(SpringControllerAdvice advice) {
     this.advice.add(advice);
+    this.adviceIndex = null;
     debug("Added %s as Spring controller advice.", advice.getQualifiedName());
   }
 
@@ -76,10 +129,12 @@ public class EnunciateSpringWebContext extends EnunciateModuleContext implements
 
   public void setRelativeContextPath(String relativeContextPath) {
     this.relativeContextPath = relativeContextPath;
+    this.resourceGroups = null;
   }
 
   public void setGroupingStrategy(GroupingStrategy groupingStrategy) {
     this.groupingStrategy = groupingStrategy;
+    this.resourceGroups = null;
   }
 
   public PathSortStrategy getPathSortStrategy() {
@@ -88,6 +143,7 @@ public class EnunciateSpringWebContext extends EnunciateModuleContext implements
 
   public void setPathSortStrategy(PathSortStrategy pathSortStrategy) {
     this.pathSortStrategy = pathSortStrategy;
+    this.resourceGroups = null;
   }
 
   @Override
@@ -99,8 +155,23 @@ public class EnunciateSpringWebContext extends EnunciateModuleContext implements
     this.wadlFile = wadlFile;
   }
 
+  /**
+   * The (sorted) resource groups, computed once the controllers have been analyzed and reused by every call until the model or the grouping
+   * configuration changes.
+   *
+   * @return The (unmodifiable) resource groups.
+   */
   @Override
   public List<ResourceGroup> getResourceGroups() {
+    List<ResourceGroup> resourceGroups = this.resourceGroups;
+    if (resourceGroups == null) {
+      resourceGroups = Collections.unmodifiableList(loadResourceGroups());
+      this.resourceGroups = resourceGroups;
+    }
+    return resourceGroups;
+  }
+
+  protected List<ResourceGroup> loadResourceGroups() {
     List<ResourceGroup> resourceGroups;
     if (this.groupingStrategy == GroupingStrategy.path) {
       //group resources by path.
@@ -112,6 +112,7 @@ public class SpringWebModule extends BasicEnunicateModule implements TypeFilteri
         }
       }
 
+      List<SpringController> controllers = new ArrayList<SpringController>();
       for (Element declaration : elements) {
         if (declaration instanceof TypeElement) {
           TypeElement element = (TypeElement) declaration;
@@ -120,24 +121,27 @@ public class SpringWebModule extends BasicEnunicateModule implements TypeFilteri
           if (controllerInfo != null || restControllerInfo != null) {
             //add root resource.
             SpringController springController = new SpringController(element, springContext);
-            LinkedList<Element> contextStack = new LinkedList<Element>();
-            contextStack.push(springController);
-            try {
-              List<RequestMapping> requestMappings = springController.getRequestMappings();
-              if (!requestMappings.isEmpty()) {
-                springContext.add(springController);
-
-                for (RequestMapping requestMapping : requestMappings) {
-                  addReferencedDataTypeDefinitions(requestMapping, contextStack);
-                }
-              }
-            }
-            finally {
-              contextStack.pop();
+            if (!springController.getRequestMappings().isEmpty()) {
+              springContext.add(springController);
+              controllers.add(springController);
             }
           }
         }
       }
+
+      //the data types are registered in one batch, once all the controllers have been analyzed.
+      for (SpringController springController : controllers) {
+        LinkedList<Element> contextStack = new LinkedList<Element>();
+        contextStack.push(springController);
+        try {
+          for (RequestMapping requestMapping : springController.getRequestMappings()) {
+            addReferencedDataTypeDefinitions(requestMapping, contextStack);
+          }
+        }
+        finally {
+          contextStack.pop();
+        }
+      }
     }
 
 
@@ -18,6 +18,10 @@ public class AnnotationAdviceScope implements AdviceScope {
     this.annotations = annotations;
   }
 
+  public Set<String> getAnnotations() {
+    return annotations;
+  }
+
   @Override
   public boolean applies(Element el) {
     while (el != null && !(el instanceof TypeElement)) {
@@ -0,0 +1,150 @@
+package com.webcohesion.enunciate.modules.spring_web.model;
+
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An index of the scopes of the controller advice: the advice is indexed by the packages, the assignable types and the annotations
+ * it applies to, so the advice that applies to a request mapping is looked up instead of evaluating the scope of each advice.
+ * The advice that applies to each controller type is memoized, too.
+ *
+ * @author Ryan Heaton
+ */
+public class ControllerAdviceIndex {
+
+  private final List<SpringControllerAdvice> advice;
+  private final BitSet global = new BitSet();
+  private final Map<String, BitSet> byPackage = new HashMap<String, BitSet>();
+  private final Map<String, BitSet> byClass = new HashMap<String, BitSet>();
+  private final Map<String, BitSet> byAnnotation = new HashMap<String, BitSet>();
+  private final Map<Integer, List<AdviceScope>> otherScopes = new HashMap<Integer, List<AdviceScope>>();
+  private final Map<String, List<SpringControllerAdvice>> adviceByType = new ConcurrentHashMap<String, List<SpringControllerAdvice>>();
+
+  /**
+   * @param advice The controller advice, in the order it is to be applied.
+   */
+  public ControllerAdviceIndex(Collection<SpringControllerAdvice> advice) {
+    this.advice = new ArrayList<SpringControllerAdvice>(advice);
+    for (int i = 0; i < this.advice.size(); i++) {
+      for (AdviceScope scope : this.advice.get(i).getScope()) {
+        if (scope instanceof GlobalScope) {
+          this.global.set(i);
+        }
+        else if (scope instanceof PackageAdviceScope) {
+          index(i, ((PackageAdviceScope) scope).getPackages(), this.byPackage);
+        }
+        else if (scope instanceof ClassAdviceScope) {
+          index(i, ((ClassAdviceScope) scope).getClasses(), this.byClass);
+        }
+        else if (scope instanceof AnnotationAdviceScope) {
+          index(i, ((AnnotationAdviceScope) scope).getAnnotations(), this.byAnnotation);
+        }
+        else {
+          //unknown scope; it'll have to be evaluated.
+          List<AdviceScope> scopes = this.otherScopes.get(i);
+          if (scopes == null) {
+            scopes = new ArrayList<AdviceScope>();
+            this.otherScopes.put(i, scopes);
+          }
+          scopes.add(scope);
+        }
+      }
+    }
+  }
+
+  private static void index(int adviceIndex, Set<String> keys, Map<String, BitSet> index) {
+    for (String key : keys) {
+      BitSet advice = index.get(key);
+      if (advice == null) {
+        advice = new BitSet();
+        index.put(key, advice);
+      }
+      advice.set(adviceIndex);
+    }
+  }
+
+  /**
+   * Find the controller advice that applies to the specified element (e.g. a request mapping).
+   *
+   * @param el The element.
+   * @return The (unmodifiable) advice that applies to the element, in the order it is to be applied.
+   */
+  public List<SpringControllerAdvice> findAdvice(Element el) {
+    while (el != null && !(el instanceof TypeElement)) {
+      el = el.getEnclosingElement();
+    }
+
+    if (el == null) {
+      return findAdvice(null, null, Collections.<String>emptySet(), null);
+    }
+
+    TypeElement type = (TypeElement) el;
+    String typeName = type.getQualifiedName().toString();
+    List<SpringControllerAdvice> advice = this.adviceByType.get(typeName);
+    if (advice == null) {
+      Element pckg = type.getEnclosingElement();
+      while (pckg != null && !(pckg instanceof PackageElement)) {
+        pckg = pckg.getEnclosingElement();
+      }
+
+      Set<String> annotations = new TreeSet<String>();
+      List<? extends AnnotationMirror> annotationMirrors = type.getAnnotationMirrors();
+      if (annotationMirrors != null) {
+        for (AnnotationMirror annotationMirror : annotationMirrors) {
+          DeclaredType annotationType = annotationMirror.getAnnotationType();
+          if (annotationType != null) {
+            Element annotationElement = annotationType.asElement();
+            if (annotationElement instanceof TypeElement) {
+              annotations.add(((TypeElement) annotationElement).getQualifiedName().toString());
+            }
+          }
+        }
+      }
+
+      advice = findAdvice(pckg == null ? null : ((PackageElement) pckg).getQualifiedName().toString(), typeName, annotations, type);
+      this.adviceByType.put(typeName, advice);
+    }
+    return advice;
+  }
+
+  protected List<SpringControllerAdvice> findAdvice(String packageName, String typeName, Set<String> annotations, TypeElement type) {
+    BitSet applicable = (BitSet) this.global.clone();
+    addAll(applicable, this.byPackage, packageName);
+    addAll(applicable, this.byClass, typeName);
+    for (String annotation : annotations) {
+      addAll(applicable, this.byAnnotation, annotation);
+    }
+
+    for (Map.Entry<Integer, List<AdviceScope>> otherScopes : this.otherScopes.entrySet()) {
+      if (!applicable.get(otherScopes.getKey())) {
+        for (AdviceScope scope : otherScopes.getValue()) {
+          if (scope.applies(type)) {
+            applicable.set(otherScopes.getKey());
+            break;
+          }
+        }
+      }
+    }
+
+    if (applicable.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    ArrayList<SpringControllerAdvice> advice = new ArrayList<SpringControllerAdvice>(applicable.cardinality());
+    for (int i = applicable.nextSetBit(0); i >= 0; i = applicable.nextSetBit(i + 1)) {
+      advice.add(this.advice.get(i));
+    }
+    return Collections.unmodifiableList(advice);
+  }
+
+  private static void addAll(BitSet applicable, Map<String, BitSet> index, String key) {
+    if (key != null) {
+      BitSet advice = index.get(key);
+      if (advice != null) {
+        applicable.or(advice);
+      }
+    }
+  }
+}
@@ -15,6 +15,10 @@ public class PackageAdviceScope implements AdviceScope {
     this.packages = packages;
   }
 
+  public Set<String> getPackages() {
+    return packages;
+  }
+
   @Override
   public boolean applies(Element el) {
     while (el != null && !(el instanceof PackageElement)) {
@@ -18,6 +18,7 @@ package com.webcohesion.enunciate.modules.spring_web.model;
 
 import com.webcohesion.enunciate.facets.Facet;
 import com.webcohesion.enunciate.facets.HasFacets;
+import com.webcohesion.enunciate.javac.decorations.Annotations;
 import com.webcohesion.enunciate.javac.decorations.TypeMirrorDecorator;
 import com.webcohesion.enunciate.javac.decorations.element.DecoratedExecutableElement;
 import com.webcohesion.enunciate.javac.decorations.type.DecoratedDeclaredType;
@@ -29,12 +30,14 @@ import com.webcohesion.enunciate.metadata.rs.RequestHeader;
 import com.webcohesion.enunciate.metadata.rs.*;
 import com.webcohesion.enunciate.modules.spring_web.EnunciateSpringWebContext;
 import com.webcohesion.enunciate.util.AnnotationUtils;
+import com.webcohesion.enunciate.util.PathTrie;
 import com.webcohesion.enunciate.util.TypeHintUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.context.request.async.DeferredResult;
 
 import javax.annotation.security.RolesAllowed;
+import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
@@ -42,8 +45,6 @@ import javax.lang.model.type.TypeMirror;
 import java.lang.annotation.IncompleteAnnotationException;
 import java.util.*;
 import java.util.concurrent.Callable;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * A JAX-RS resource method.
@@ -52,8 +53,6 @@ import java.util.regex.Pattern;
  */
 public class RequestMapping extends DecoratedExecutableElement implements HasFacets, PathContext {
 
-  private static final Pattern CONTEXT_PARAM_PATTERN = Pattern.compile("\\{([^\\}]+)\\}");
-
   private final EnunciateSpringWebContext context;
   private final List<PathSegment> pathSegments;
   private final String label;
@@ -69,6 +68,7 @@ public class RequestMapping extends DecoratedExecutableElement implements HasFac
   private final Map<String, String> responseHeaders = new HashMap<String, String>();
   private final ResourceRepresentationMetadata representationMetadata;
   private final Set<Facet> facets = new TreeSet<Facet>();
+  private volatile PathTrie.Node pathNode;
 
   public RequestMapping(List<PathSegment> pathSegments, org.springframework.web.bind.annotation.RequestMapping mappingInfo, ExecutableElement delegate, SpringController parent, TypeVariableContext variableContext, EnunciateSpringWebContext context) {
     super(delegate, context.getContext().getProcessingEnvironment());
@@ -160,9 +160,9 @@ public class RequestMapping extends DecoratedExecutableElement implements HasFac
     ArrayList<ResponseCode> statusCodes = new ArrayList<ResponseCode>();
     ArrayList<ResponseCode> warnings = new ArrayList<ResponseCode>();
 
-    Set<SpringControllerAdvice> advice = this.context.getAdvice();
+    List<SpringControllerAdvice> advice = this.context.getAdviceIndex().findAdvice(this);
     for (SpringControllerAdvice controllerAdvice : advice) {
-      List<RequestMappingAdvice> requestAdvice = controllerAdvice.findRequestMappingAdvice(this);
+      List<RequestMappingAdvice> requestAdvice = controllerAdvice.getRequestMappingAdvice(this);
       for (RequestMappingAdvice mappingAdvice : requestAdvice) {
         entityParameter = mappingAdvice.getEntityParameter();
         outputPayload = mappingAdvice.getRepresentationMetadata();
@@ -183,7 +183,7 @@ public class RequestMapping extends DecoratedExecutableElement implements HasFac
     }
 
     DecoratedTypeMirror<?> returnType;
-    TypeHint hintInfo = getAnnotation(TypeHint.class);
+    AnnotationMirror hintInfo = Annotations.findAnnotation(this, TypeHint.class);
     if (hintInfo != null) {
       returnType = (DecoratedTypeMirror) TypeHintUtils.getTypeHint(hintInfo, this.env, null);
       if (returnType != null) {
@@ -266,14 +266,16 @@ public class RequestMapping extends DecoratedExecutableElement implements HasFac
 
     StatusCodes codes = getAnnotation(StatusCodes.class);
     if (codes != null) {
+      Iterator<AnnotationMirror> codeMirrors = Annotations.annotationsOf(this, StatusCodes.class, "value", this.env).iterator();
       for (com.webcohesion.enunciate.metadata.rs.ResponseCode code : codes.value()) {
+        AnnotationMirror codeMirror = codeMirrors.next();
         ResponseCode rc = new ResponseCode(this);
         rc.setCode(code.code());
         rc.setCondition(code.condition());
         for (ResponseHeader header : code.additionalHeaders()) {
           rc.setAdditionalHeader(header.name(), header.description());
         }
-        rc.setType((DecoratedTypeMirror) TypeHintUtils.getTypeHint(code.type(), this.env, null));
+        rc.setType((DecoratedTypeMirror) TypeHintUtils.getTypeHint((AnnotationMirror) Annotations.valueOf(codeMirror, "type"), this.env, null));
         statusCodes.add(rc);
       }
     }
@@ -299,15 +301,18 @@ public class RequestMapping extends DecoratedExecutableElement implements HasFac
     }
 
     List<StatusCodes> inheritedStatusCodes = AnnotationUtils.getAnnotations(StatusCodes.class, parent);
+    Iterator<AnnotationMirror> inheritedStatusCodeMirrors = AnnotationUtils.getAnnotationMirrors(StatusCodes.class, parent).iterator();
     for (StatusCodes inheritedStatusCode : inheritedStatusCodes) {
+      Iterator<AnnotationMirror> codeMirrors = Annotations.annotationsOf(inheritedStatusCodeMirrors.next(), "value").iterator();
       for (com.webcohesion.enunciate.metadata.rs.ResponseCode code : inheritedStatusCode.value()) {
+        AnnotationMirror codeMirror = codeMirrors.next();
         ResponseCode rc = new ResponseCode(this);
         rc.setCode(code.code());
         rc.setCondition(code.condition());
         for (ResponseHeader header : code.additionalHeaders()) {
           rc.setAdditionalHeader(header.name(), header.description());
         }
-        rc.setType((DecoratedTypeMirror) TypeHintUtils.getTypeHint(code.type(), this.env, null));
+        rc.setType((DecoratedTypeMirror) TypeHintUtils.getTypeHint((AnnotationMirror) Annotations.valueOf(codeMirror, "type"), this.env, null));
         statusCodes.add(rc);
       }
     }
@@ -501,17 +506,30 @@ public class RequestMapping extends DecoratedExecutableElement implements HasFac
     return this.pathSegments;
   }
 
+  /**
+   * The node of the path template of this resource method in the (shared) path trie.
+   *
+   * @return The node of the path template of this resource method.
+   */
+  public PathTrie.Node getPathNode() {
+    PathTrie.Node node = this.pathNode;
+    if (node == null) {
+      node = this.context.getContext().getPathTrie().getRoot();
+      for (PathSegment pathSegment : getPathSegments()) {
+        node = node.getChild(pathSegment.getValue());
+      }
+      this.pathNode = node;
+    }
+    return node;
+  }
+
   /**
    * Builds the full URI path to this resource method.
    *
    * @return the full URI path to this resource method.
    */
   public String getFullpath() {
-    StringBuilder builder = new StringBuilder();
-    for (PathSegment pathSegment : getPathSegments()) {
-      builder.append(pathSegment.getValue());
-    }
-    return builder.toString();
+    return getPathNode().getPath();
   }
 
   /**
@@ -520,16 +538,7 @@ public class RequestMapping extends DecoratedExecutableElement implements HasFac
    * @return The servlet pattern that can be applied to access this resource method.
    */
   public String getServletPattern() {
-    StringBuilder builder = new StringBuilder();
-    String fullPath = getFullpath();
-    Matcher pathParamMatcher = CONTEXT_PARAM_PATTERN.matcher(fullPath);
-    if (pathParamMatcher.find()) {
-      builder.append(fullPath, 0, pathParamMatcher.start()).append("*");
-    }
-    else {
-      builder.append(fullPath);
-    }
-    return builder.toString();
+    return getPathNode().getServletPattern();
   }
 
   /**
@@ -16,6 +16,7 @@
 
 package com.webcohesion.enunciate.modules.spring_web.model;
 
+import com.webcohesion.enunciate.javac.decorations.Annotations;
 import com.webcohesion.enunciate.javac.decorations.TypeMirrorDecorator;
 import com.webcohesion.enunciate.javac.decorations.element.DecoratedExecutableElement;
 import com.webcohesion.enunciate.javac.decorations.type.DecoratedDeclaredType;
@@ -32,6 +33,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.context.request.async.DeferredResult;
 
+import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
@@ -77,7 +79,7 @@ public class RequestMappingAdvice extends DecoratedExecutableElement {
     }
 
     DecoratedTypeMirror<?> returnType;
-    TypeHint hintInfo = getAnnotation(TypeHint.class);
+    AnnotationMirror hintInfo = Annotations.findAnnotation(this, TypeHint.class);
     if (hintInfo != null) {
       returnType = (DecoratedTypeMirror) TypeHintUtils.getTypeHint(hintInfo, this.env, null);
       if (returnType != null) {
@@ -162,14 +164,16 @@ public class RequestMappingAdvice extends DecoratedExecutableElement {
     ArrayList<ResponseCode> warnings = new ArrayList<ResponseCode>();
     StatusCodes codes = getAnnotation(StatusCodes.class);
     if (codes != null) {
+      Iterator<AnnotationMirror> codeMirrors = Annotations.annotationsOf(this, StatusCodes.class, "value", this.env).iterator();
       for (com.webcohesion.enunciate.metadata.rs.ResponseCode code : codes.value()) {
+        AnnotationMirror codeMirror = codeMirrors.next();
         ResponseCode rc = new ResponseCode(requestMapping);
         rc.setCode(code.code());
         rc.setCondition(code.condition());
         for (ResponseHeader header : code.additionalHeaders()) {
           rc.setAdditionalHeader(header.name(), header.description());
         }
-        rc.setType((DecoratedTypeMirror) TypeHintUtils.getTypeHint(code.type(), this.env, null));
+        rc.setType((DecoratedTypeMirror) TypeHintUtils.getTypeHint((AnnotationMirror) Annotations.valueOf(codeMirror, "type"), this.env, null));
         statusCodes.add(rc);
       }
     }
@@ -195,15 +199,18 @@ public class RequestMappingAdvice extends DecoratedExecutableElement {
     }
 
     List<StatusCodes> inheritedStatusCodes = AnnotationUtils.getAnnotations(StatusCodes.class, parent);
+    Iterator<AnnotationMirror> inheritedStatusCodeMirrors = AnnotationUtils.getAnnotationMirrors(StatusCodes.class, parent).iterator();
     for (StatusCodes inheritedStatusCode : inheritedStatusCodes) {
+      Iterator<AnnotationMirror> codeMirrors = Annotations.annotationsOf(inheritedStatusCodeMirrors.next(), "value").iterator();
       for (com.webcohesion.enunciate.metadata.rs.ResponseCode code : inheritedStatusCode.value()) {
+        AnnotationMirror codeMirror = codeMirrors.next();
         ResponseCode rc = new ResponseCode(requestMapping);
         rc.setCode(code.code());
         rc.setCondition(code.condition());
         for (ResponseHeader header : code.additionalHeaders()) {
           rc.setAdditionalHeader(header.name(), header.description());
         }
-        rc.setType((DecoratedTypeMirror) TypeHintUtils.getTypeHint(code.type(), this.env, null));
+        rc.setType((DecoratedTypeMirror) TypeHintUtils.getTypeHint((AnnotationMirror) Annotations.valueOf(codeMirror, "type"), this.env, null));
         statusCodes.add(rc);
       }
     }
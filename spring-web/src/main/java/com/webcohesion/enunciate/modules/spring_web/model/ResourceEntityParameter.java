@@ -1,5 +1,6 @@
 package com.webcohesion.enunciate.modules.spring_web.model;
 
+import com.webcohesion.enunciate.javac.decorations.Annotations;
 import com.webcohesion.enunciate.javac.decorations.TypeMirrorDecorator;
 import com.webcohesion.enunciate.javac.decorations.element.DecoratedElement;
 import com.webcohesion.enunciate.javac.decorations.element.DecoratedVariableElement;
@@ -8,6 +9,7 @@ import com.webcohesion.enunciate.metadata.rs.TypeHint;
 import com.webcohesion.enunciate.modules.spring_web.EnunciateSpringWebContext;
 import com.webcohesion.enunciate.util.TypeHintUtils;
 
+import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
@@ -25,7 +27,7 @@ public class ResourceEntityParameter extends DecoratedElement<Element> {
   public ResourceEntityParameter(VariableElement delegate, TypeVariableContext variableContext, EnunciateSpringWebContext context) {
     super(delegate, context.getContext().getProcessingEnvironment());
     TypeMirror typeMirror;
-    final TypeHint hintInfo = getAnnotation(TypeHint.class);
+    AnnotationMirror hintInfo = Annotations.findAnnotation(this, TypeHint.class);
     if (hintInfo != null) {
       typeMirror = TypeHintUtils.getTypeHint(hintInfo, this.env, delegate.asType());
     }
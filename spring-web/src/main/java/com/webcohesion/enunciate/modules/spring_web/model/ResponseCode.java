@@ -16,6 +16,7 @@
 
 package com.webcohesion.enunciate.modules.spring_web.model;
 
+import com.webcohesion.enunciate.api.ApiRegistry;
 import com.webcohesion.enunciate.api.datatype.Syntax;
 import com.webcohesion.enunciate.api.resources.MediaTypeDescriptor;
 import com.webcohesion.enunciate.api.resources.StatusCode;
@@ -76,8 +77,9 @@ public class ResponseCode implements StatusCode {
     if (this.type != null) {
       Set<String> produces = requestMapping.getProducesMediaTypes();
       for (String mt : produces) {
-        for (Syntax syntax : this.requestMapping.getContext().getContext().getApiRegistry().getSyntaxes()) {
-          MediaTypeDescriptor descriptor = syntax.findMediaTypeDescriptor(mt, this.type);
+        ApiRegistry apiRegistry = this.requestMapping.getContext().getContext().getApiRegistry();
+        for (Syntax syntax : apiRegistry.getSyntaxes()) {
+          MediaTypeDescriptor descriptor = apiRegistry.getMediaTypeDescriptorCache().findMediaTypeDescriptor(syntax, mt, this.type);
           if (descriptor != null) {
             mts.add(descriptor);
           }
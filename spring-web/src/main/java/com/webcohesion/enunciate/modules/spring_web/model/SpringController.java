@@ -20,14 +20,11 @@ import com.webcohesion.enunciate.facets.HasFacets;
 import com.webcohesion.enunciate.javac.decorations.element.DecoratedTypeElement;
 import com.webcohesion.enunciate.javac.decorations.type.TypeVariableContext;
 import com.webcohesion.enunciate.modules.spring_web.EnunciateSpringWebContext;
+import com.webcohesion.enunciate.util.InheritedMethodIndex;
 import org.springframework.web.bind.annotation.RequestMethod;
 
 import javax.annotation.security.RolesAllowed;
 import javax.lang.model.element.*;
-import javax.lang.model.type.DeclaredType;
-import javax.lang.model.type.TypeMirror;
-import javax.lang.model.util.ElementFilter;
-import javax.lang.model.util.Elements;
 import java.lang.annotation.IncompleteAnnotationException;
 import java.util.*;
 
@@ -136,7 +133,10 @@ public class SpringController extends DecoratedTypeElement implements HasFacets
     }
 
     ArrayList<RequestMapping> requestMappings = new ArrayList<RequestMapping>();
-    for (ExecutableElement method : ElementFilter.methodsIn(delegate.getEnclosedElements())) {
+    //the request mapping methods of each type are merged with the inherited ones once, and shared by all the controllers of the type.
+    for (InheritedMethodIndex.InheritedMethod inheritedMethod : context.getRequestMappingIndex().getMethods(delegate)) {
+      ExecutableElement method = inheritedMethod.getMethod();
+      TypeVariableContext methodVariableContext = inheritedMethod.getVariableContext(variableContext);
       org.springframework.web.bind.annotation.RequestMapping mappingInfo = method.getAnnotation(org.springframework.web.bind.annotation.RequestMapping.class);
       if (mappingInfo != null) {
         Set<String> subpaths = new TreeSet<String>();
@@ -153,45 +153,17 @@ public class SpringController extends DecoratedTypeElement implements HasFacets
 
         for (String path : getPaths()) {
           for (String subpath : subpaths) {
-            requestMappings.add(new RequestMapping(extractPathComponents(path + subpath), mappingInfo, method, this, variableContext, context));
+            requestMappings.add(new RequestMapping(extractPathComponents(path + subpath), mappingInfo, method, this, methodVariableContext, context));
           }
         }
 
         if (requestMappings.isEmpty()) {
-          requestMappings.add(new RequestMapping(new ArrayList<PathSegment>(), mappingInfo, method, this, variableContext, context));
+          requestMappings.add(new RequestMapping(new ArrayList<PathSegment>(), mappingInfo, method, this, methodVariableContext, context));
         }
 
       }
     }
 
-    //some methods may be specified by a superclass and/or implemented interface.  But the annotations on the current class take precedence.
-    for (TypeMirror interfaceType : delegate.getInterfaces()) {
-      if (interfaceType instanceof DeclaredType) {
-        DeclaredType declared = (DeclaredType) interfaceType;
-        TypeElement element = (TypeElement) declared.asElement();
-        List<RequestMapping> interfaceMethods = getRequestMappings(element, variableContext.push(element.getTypeParameters(), declared.getTypeArguments()), context);
-        for (RequestMapping interfaceMethod : interfaceMethods) {
-          if (!isOverridden(interfaceMethod, requestMappings)) {
-            requestMappings.add(interfaceMethod);
-          }
-        }
-      }
-    }
-
-    if (delegate.getKind() == ElementKind.CLASS) {
-      TypeMirror superclass = delegate.getSuperclass();
-      if (superclass instanceof DeclaredType && ((DeclaredType)superclass).asElement() != null) {
-        DeclaredType declared = (DeclaredType) superclass;
-        TypeElement element = (TypeElement) declared.asElement();
-        List<RequestMapping> superMethods = getRequestMappings(element, variableContext.push(element.getTypeParameters(), declared.getTypeArguments()), context);
-        for (RequestMapping superMethod : superMethods) {
-          if (!isOverridden(superMethod, requestMappings)) {
-            requestMappings.add(superMethod);
-          }
-        }
-      }
-    }
-
     return requestMappings;
   }
 
@@ -257,26 +229,6 @@ public class SpringController extends DecoratedTypeElement implements HasFacets
     return components;
   }
 
-  /**
-   * Whether the specified method is overridden by any of the methods in the specified list.
-   *
-   * @param method The method.
-   * @param resourceMethods The method list.
-   * @return If the methdo is overridden by any of the methods in the list.
-   */
-  protected boolean isOverridden(ExecutableElement method, ArrayList<? extends ExecutableElement> resourceMethods) {
-    Elements decls = this.env.getElementUtils();
-
-
-    for (ExecutableElement resourceMethod : resourceMethods) {
-      if (decls.overrides(resourceMethod, method, (TypeElement) resourceMethod.getEnclosingElement())) {
-        return true;
-      }
-    }
-
-    return false;
-  }
-
   public EnunciateSpringWebContext getContext() {
     return context;
   }
@@ -15,17 +15,16 @@
  */
 package com.webcohesion.enunciate.modules.spring_web.model;
 
+import com.webcohesion.enunciate.javac.decorations.Annotations;
 import com.webcohesion.enunciate.javac.decorations.element.DecoratedTypeElement;
 import com.webcohesion.enunciate.javac.decorations.type.TypeVariableContext;
 import com.webcohesion.enunciate.modules.spring_web.EnunciateSpringWebContext;
+import com.webcohesion.enunciate.util.InheritedMethodIndex;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 
 import javax.lang.model.element.*;
 import javax.lang.model.type.DeclaredType;
-import javax.lang.model.type.MirroredTypesException;
 import javax.lang.model.type.TypeMirror;
-import javax.lang.model.util.ElementFilter;
-import javax.lang.model.util.Elements;
 import java.util.*;
 
 /**
@@ -36,37 +35,32 @@ import java.util.*;
 public class SpringControllerAdvice extends DecoratedTypeElement {
 
   private final EnunciateSpringWebContext context;
+  private volatile List<AdviceScope> scope;
 
   public SpringControllerAdvice(TypeElement delegate, EnunciateSpringWebContext context) {
     super(delegate, context.getContext().getProcessingEnvironment());
     this.context = context;
   }
 
+  public EnunciateSpringWebContext getContext() {
+    return context;
+  }
+
   /**
-   * Whether the specified method is overridden by any of the methods in the specified list.
+   * The scope of this advice, i.e. the controllers it applies to.
    *
-   * @param method The method.
-   * @param resourceMethods The method list.
-   * @return If the methdo is overridden by any of the methods in the list.
+   * @return The (unmodifiable) scope of this advice.
    */
-  protected boolean isOverridden(ExecutableElement method, ArrayList<? extends ExecutableElement> resourceMethods) {
-    Elements decls = this.env.getElementUtils();
-
-
-    for (ExecutableElement resourceMethod : resourceMethods) {
-      if (decls.overrides(resourceMethod, method, (TypeElement) resourceMethod.getEnclosingElement())) {
-        return true;
-      }
+  public List<AdviceScope> getScope() {
+    List<AdviceScope> scope = this.scope;
+    if (scope == null) {
+      scope = Collections.unmodifiableList(loadScope());
+      this.scope = scope;
     }
-
-    return false;
+    return scope;
   }
 
-  public EnunciateSpringWebContext getContext() {
-    return context;
-  }
-
-  public List<RequestMappingAdvice> findRequestMappingAdvice(RequestMapping requestMapping) {
+  protected List<AdviceScope> loadScope() {
     List<AdviceScope> scope = new ArrayList<AdviceScope>();
     ControllerAdvice adviceInfo = getAnnotation(ControllerAdvice.class);
     if (adviceInfo != null) {
@@ -74,24 +68,15 @@ public class SpringControllerAdvice extends DecoratedTypeElement {
       allPackages.addAll(Arrays.asList(adviceInfo.value()));
       allPackages.addAll(Arrays.asList(adviceInfo.basePackages()));
 
-      try {
-        Class<?>[] classes = adviceInfo.basePackageClasses();
-        for (Class<?> clazz : classes) {
-          allPackages.add(clazz.getPackage().getName());
-        }
-      }
-      catch (MirroredTypesException e) {
-        List<? extends TypeMirror> mirrors = e.getTypeMirrors();
-        for (TypeMirror mirror : mirrors) {
-          if (mirror instanceof DeclaredType) {
-            Element element = ((DeclaredType) mirror).asElement();
-            while (element != null && (!(element instanceof PackageElement))) {
-              element = element.getEnclosingElement();
-            }
-
-            if (element != null) {
-              allPackages.add(((PackageElement) element).getQualifiedName().toString());
-            }
+      for (TypeMirror mirror : Annotations.mirrorsOf(this, ControllerAdvice.class, "basePackageClasses", this.env)) {
+        if (mirror instanceof DeclaredType) {
+          Element element = ((DeclaredType) mirror).asElement();
+          while (element != null && (!(element instanceof PackageElement))) {
+            element = element.getEnclosingElement();
+          }
+
+          if (element != null) {
+            allPackages.add(((PackageElement) element).getQualifiedName().toString());
           }
         }
       }
@@ -99,40 +84,22 @@ public class SpringControllerAdvice extends DecoratedTypeElement {
 
 
       Set<String> allClasses = new TreeSet<String>();
-      try {
-        Class<?>[] classes = adviceInfo.assignableTypes();
-        for (Class<?> clazz : classes) {
-          allClasses.add(clazz.getName());
-        }
-      }
-      catch (MirroredTypesException e) {
-        List<? extends TypeMirror> mirrors = e.getTypeMirrors();
-        for (TypeMirror mirror : mirrors) {
-          if (mirror instanceof DeclaredType) {
-            Element element = ((DeclaredType) mirror).asElement();
-            if (element instanceof TypeElement) {
-              allClasses.add(((TypeElement) element).getQualifiedName().toString());
-            }
+      for (TypeMirror mirror : Annotations.mirrorsOf(this, ControllerAdvice.class, "assignableTypes", this.env)) {
+        if (mirror instanceof DeclaredType) {
+          Element element = ((DeclaredType) mirror).asElement();
+          if (element instanceof TypeElement) {
+            allClasses.add(((TypeElement) element).getQualifiedName().toString());
           }
         }
       }
       scope.add(new ClassAdviceScope(allClasses));
 
       Set<String> allAnnotations = new TreeSet<String>();
-      try {
-        Class<?>[] classes = adviceInfo.annotations();
-        for (Class<?> clazz : classes) {
-          allAnnotations.add(clazz.getName());
-        }
-      }
-      catch (MirroredTypesException e) {
-        List<? extends TypeMirror> mirrors = e.getTypeMirrors();
-        for (TypeMirror mirror : mirrors) {
-          if (mirror instanceof DeclaredType) {
-            Element element = ((DeclaredType) mirror).asElement();
-            if (element instanceof TypeElement) {
-              allAnnotations.add(((TypeElement) element).getQualifiedName().toString());
-            }
+      for (TypeMirror mirror : Annotations.mirrorsOf(this, ControllerAdvice.class, "annotations", this.env)) {
+        if (mirror instanceof DeclaredType) {
+          Element element = ((DeclaredType) mirror).asElement();
+          if (element instanceof TypeElement) {
+            allAnnotations.add(((TypeElement) element).getQualifiedName().toString());
           }
         }
       }
@@ -147,60 +114,23 @@ public class SpringControllerAdvice extends DecoratedTypeElement {
       scope.add(new ClassAdviceScope(new TreeSet<String>(Collections.singletonList(getQualifiedName().toString()))));
     }
 
-    return findRequestMappingAdvice(requestMapping, this, scope, new TypeVariableContext());
+    return scope;
   }
 
-  protected List<RequestMappingAdvice> findRequestMappingAdvice(RequestMapping requestMapping, TypeElement controllerAdvice, List<AdviceScope> scope, TypeVariableContext variableContext) {
-    if (controllerAdvice == null || controllerAdvice.getQualifiedName().toString().equals(Object.class.getName())) {
-      return Collections.emptyList();
-    }
-
+  /**
+   * The advice for the specified request mapping, assuming the scope of this advice applies to it.
+   *
+   * @param requestMapping The request mapping.
+   * @return The advice for the request mapping.
+   */
+  public List<RequestMappingAdvice> getRequestMappingAdvice(RequestMapping requestMapping) {
+    //the advice methods of each type are merged with the inherited ones once, and shared by all the advice of the type.
     ArrayList<RequestMappingAdvice> advice = new ArrayList<RequestMappingAdvice>();
-    for (ExecutableElement method : ElementFilter.methodsIn(controllerAdvice.getEnclosedElements())) {
-      boolean applies = false;
-      for (AdviceScope adviceScope : scope) {
-        if (adviceScope.applies(requestMapping)) {
-          applies = true;
-          break;
-        }
-      }
-
-      if (applies) {
-        org.springframework.web.bind.annotation.ModelAttribute modelAttribute = method.getAnnotation(org.springframework.web.bind.annotation.ModelAttribute.class);
-        if (modelAttribute != null) {
-          advice.add(new RequestMappingAdvice(requestMapping, modelAttribute, method, this, variableContext, this.context));
-        }
-      }
-    }
-
-    //some methods may be specified by a superclass and/or implemented interface.  But the annotations on the current class take precedence.
-    for (TypeMirror interfaceType : controllerAdvice.getInterfaces()) {
-      if (interfaceType instanceof DeclaredType) {
-        DeclaredType declared = (DeclaredType) interfaceType;
-        TypeElement element = (TypeElement) declared.asElement();
-        List<RequestMappingAdvice> interfaceMethods = findRequestMappingAdvice(requestMapping, element, scope, variableContext.push(element.getTypeParameters(), declared.getTypeArguments()));
-        for (RequestMappingAdvice interfaceMethod : interfaceMethods) {
-          if (!isOverridden(interfaceMethod, advice)) {
-            advice.add(interfaceMethod);
-          }
-        }
-      }
-    }
-
-    if (controllerAdvice.getKind() == ElementKind.CLASS) {
-      TypeMirror superclass = controllerAdvice.getSuperclass();
-      if (superclass instanceof DeclaredType && ((DeclaredType)superclass).asElement() != null) {
-        DeclaredType declared = (DeclaredType) superclass;
-        TypeElement element = (TypeElement) declared.asElement();
-        List<RequestMappingAdvice> superMethods = findRequestMappingAdvice(requestMapping, element, scope, variableContext.push(element.getTypeParameters(), declared.getTypeArguments()));
-        for (RequestMappingAdvice superMethod : superMethods) {
-          if (!isOverridden(superMethod, advice)) {
-            advice.add(superMethod);
-          }
-        }
-      }
+    for (InheritedMethodIndex.InheritedMethod method : this.context.getModelAttributeIndex().getMethods(this)) {
+      ExecutableElement methodElement = method.getMethod();
+      org.springframework.web.bind.annotation.ModelAttribute modelAttribute = methodElement.getAnnotation(org.springframework.web.bind.annotation.ModelAttribute.class);
+      advice.add(new RequestMappingAdvice(requestMapping, modelAttribute, methodElement, this, method.getVariableContext(new TypeVariableContext()), this.context));
     }
-
     return advice;
   }
 }